@@ -6,6 +6,7 @@ import com.optum.admiral.cli.command.BounceCMD;
 import com.optum.admiral.cli.command.CommandsCMD;
 import com.optum.admiral.cli.command.ConfigCMD;
 import com.optum.admiral.cli.command.CreateCMD;
+import com.optum.admiral.cli.command.DaemonCMD;
 import com.optum.admiral.cli.command.DigallCMD;
 import com.optum.admiral.cli.command.DownCMD;
 import com.optum.admiral.cli.command.EnvCMD;
@@ -28,6 +29,7 @@ import com.optum.admiral.cli.command.StopCMD;
 import com.optum.admiral.cli.command.TestCMD;
 import com.optum.admiral.cli.command.UpCMD;
 import com.optum.admiral.cli.command.VersionCMD;
+import com.optum.admiral.cli.daemon.DaemonClient;
 import com.optum.admiral.event.SimpleAdmiralEventPublisher;
 import com.optum.admiral.io.AdmiralExceptionContainmentField;
 import com.optum.admiral.io.AdmiralExceptionContainmentField.AdmiralContainedException;
@@ -42,6 +44,17 @@ public class AdmiralCLI {
         // Eliminate the chatty logger.
         System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "off");
 
+        // If a daemon is running for this directory, let it do the work.
+        if (DaemonClient.forward(args))
+            return;
+
+        execute(args);
+    }
+
+    /**
+     * Runs one da command, writing everything to System.out.  The daemon calls this for each forwarded command.
+     */
+    public static void execute(String[] args) {
         try {
             AdmiralCLI admiralCLI = new AdmiralCLI();
             admiralCLI.run(args);
@@ -89,6 +102,7 @@ public class AdmiralCLI {
         op.addCommand(new CommandsCMD());
         op.addCommand(new ConfigCMD());
         op.addCommand(new CreateCMD());
+        op.addCommand(new DaemonCMD());
         op.addCommand(new DigallCMD());
         op.addCommand(new DigCMD());
         op.addCommand(new DigdeepCMD());
@@ -2,9 +2,12 @@ package com.optum.admiral.cli.command;
 
 import com.optum.admiral.Admiral;
 import com.optum.admiral.booter.AdmiralBootstrapper;
+import com.optum.admiral.config.InvalidDependsOnException;
 import com.optum.admiral.event.AdmiralEventListener;
 import com.optum.admiral.event.SimpleAdmiralEventPublisher;
 import com.optum.admiral.io.AdmiralExceptionContainmentField;
+import com.optum.admiral.io.AdmiralFileException;
+import com.optum.admiral.io.AdmiralURLException;
 import com.optum.admiral.io.AdmiralExceptionContainmentField.AdmiralContainedException;
 import com.optum.admiral.io.StyledAdmiralEventListener;
 import com.optum.admiral.io.NoBarsProgressMessageRenderer;
@@ -14,6 +17,13 @@ import com.optum.admiral.io.ProgressMessageRenderer;
 import com.optum.admiral.exception.AdmiralDockerException;
 import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
 import com.optum.admiral.preferences.UXPreferences;
+import com.optum.admiral.type.exception.InvalidSemanticVersion;
+import com.optum.admiral.type.exception.VariableSpecContraint;
+import com.optum.admiral.util.MultipleFilesFoundException;
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
+import com.optum.admiral.yaml.exception.InvalidBooleanException;
+import com.optum.admiral.yaml.exception.InvalidEnumException;
+import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 
 import java.io.IOException;
 import java.util.List;
@@ -21,7 +31,7 @@ import java.util.List;
 /**
  * This class builds and destroys an Admiral environment for running a single command implemented
  * by the derived class.  The run method of the derived class is executed in an exception containment
- * field.
+ * field.  Under the daemon the Admiral environment is borrowed (see AdmiralSource) rather than built.
  */
 public abstract class AbstractAdmiralCommand extends AbstractCommand<UXPreferences> {
     protected AbstractAdmiralCommand(String command, String help) {
@@ -31,27 +41,64 @@ public abstract class AbstractAdmiralCommand extends AbstractCommand<UXPreferenc
     public abstract void executeCommand(UXPreferences uxPreferences, Admiral admiral, OutputWriter outputWriter, List<String> args)
             throws AdmiralDockerException, AdmiralServiceConfigNotFoundException, InterruptedException, IOException;
 
+    /**
+     * Boots a fresh Admiral for every command and disconnects it afterwards.
+     */
+    private static final AdmiralSource BOOT_EACH_TIME = new AdmiralSource() {
+        @Override
+        public Admiral acquire(UXPreferences uxPreferences, AdmiralEventListener admiralEventListener)
+            throws
+                AdmiralConfigurationException,
+                AdmiralFileException,
+                AdmiralServiceConfigNotFoundException,
+                AdmiralURLException,
+                InvalidBooleanException,
+                InvalidDependsOnException,
+                InvalidSemanticVersion,
+                IOException,
+                MultipleFilesFoundException,
+                PropertyNotFoundException,
+                VariableSpecContraint, InterruptedException, InvalidEnumException {
+            final SimpleAdmiralEventPublisher simpleAdmiralEventPublisher = new SimpleAdmiralEventPublisher();
+            simpleAdmiralEventPublisher.setAsynchronous(uxPreferences.admiralOptions.asynchronousEvents);
+            simpleAdmiralEventPublisher.setAdmiralEventListener(admiralEventListener);
+
+            final AdmiralBootstrapper admiralBootstrapper = new AdmiralBootstrapper(simpleAdmiralEventPublisher, uxPreferences.admiralOptions, uxPreferences.admiralBootOptions);
+            return admiralBootstrapper.boot();
+        }
+
+        @Override
+        public void release(Admiral admiral, AdmiralEventListener admiralEventListener) throws AdmiralDockerException {
+            admiral.disconnectFromDockerEngineACT();
+        }
+    };
+
+    private static AdmiralSource admiralSource = BOOT_EACH_TIME;
+
+    public static void setAdmiralSource(AdmiralSource admiralSource) {
+        AbstractAdmiralCommand.admiralSource = admiralSource;
+    }
+
     @Override
     public void run(UXPreferences uxPreferences, List<String> args) {
         try {
             new AdmiralExceptionContainmentField<>(uxPreferences.outputStyler)
                     .containExecution(() -> {
                         Admiral admiral = null;
+                        final ProgressMessageRenderer progressMessageRenderer = new NoBarsProgressMessageRenderer(uxPreferences.outputStyler);
+                        final PrintStreamOutputWriter printStreamOutputWriter = new PrintStreamOutputWriter(System.out, progressMessageRenderer);
+                        final AdmiralEventListener admiralEventListener = new StyledAdmiralEventListener(uxPreferences.outputStyler,
+                                uxPreferences.outputPreferences, printStreamOutputWriter);
                         try {
-                            final SimpleAdmiralEventPublisher simpleAdmiralEventPublisher = new SimpleAdmiralEventPublisher();
-                            final ProgressMessageRenderer progressMessageRenderer = new NoBarsProgressMessageRenderer(uxPreferences.outputStyler);
-                            final PrintStreamOutputWriter printStreamOutputWriter = new PrintStreamOutputWriter(System.out, progressMessageRenderer);
-                            final AdmiralEventListener admiralEventListener = new StyledAdmiralEventListener(uxPreferences.outputStyler,
-                                    uxPreferences.outputPreferences, printStreamOutputWriter);
-                            simpleAdmiralEventPublisher.setAdmiralEventListener(admiralEventListener);
-
-                            final AdmiralBootstrapper admiralBootstrapper = new AdmiralBootstrapper(simpleAdmiralEventPublisher, uxPreferences.admiralOptions, uxPreferences.admiralBootOptions);
-                            admiral = admiralBootstrapper.boot();
+                            admiral = admiralSource.acquire(uxPreferences, admiralEventListener);
+                            // Commands also write to printStreamOutputWriter directly, so let the boot events land first.
+                            admiral.flush();
 
                             executeCommand(uxPreferences, admiral, printStreamOutputWriter, args);
                         } finally {
                             if (admiral != null) {
-                                admiral.disconnectFromDockerEngineACT();
+                                admiral.flush();
+                                admiralSource.release(admiral, admiralEventListener);
                             }
                         }
                     });
@@ -0,0 +1,44 @@
+package com.optum.admiral.cli.command;
+
+import com.optum.admiral.Admiral;
+import com.optum.admiral.config.InvalidDependsOnException;
+import com.optum.admiral.event.AdmiralEventListener;
+import com.optum.admiral.exception.AdmiralDockerException;
+import com.optum.admiral.io.AdmiralFileException;
+import com.optum.admiral.io.AdmiralURLException;
+import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
+import com.optum.admiral.preferences.UXPreferences;
+import com.optum.admiral.type.exception.InvalidSemanticVersion;
+import com.optum.admiral.type.exception.VariableSpecContraint;
+import com.optum.admiral.util.MultipleFilesFoundException;
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
+import com.optum.admiral.yaml.exception.InvalidBooleanException;
+import com.optum.admiral.yaml.exception.InvalidEnumException;
+import com.optum.admiral.yaml.exception.PropertyNotFoundException;
+
+import java.io.IOException;
+
+/**
+ * Where an AbstractAdmiralCommand gets its Admiral.  On its own, each da command boots one and disconnects it when
+ * done.  Inside the daemon, a resident Admiral is lent out instead.
+ */
+public interface AdmiralSource {
+    /**
+     * Returns an Admiral whose events go to admiralEventListener until it is released.
+     */
+    Admiral acquire(UXPreferences uxPreferences, AdmiralEventListener admiralEventListener)
+        throws
+            AdmiralConfigurationException,
+            AdmiralFileException,
+            AdmiralServiceConfigNotFoundException,
+            AdmiralURLException,
+            InvalidBooleanException,
+            InvalidDependsOnException,
+            InvalidSemanticVersion,
+            IOException,
+            MultipleFilesFoundException,
+            PropertyNotFoundException,
+            VariableSpecContraint, InterruptedException, InvalidEnumException;
+
+    void release(Admiral admiral, AdmiralEventListener admiralEventListener) throws AdmiralDockerException;
+}
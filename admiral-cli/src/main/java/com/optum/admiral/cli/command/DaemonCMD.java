@@ -0,0 +1,24 @@
+package com.optum.admiral.cli.command;
+
+import com.optum.admiral.cli.daemon.AdmiralDaemon;
+import com.optum.admiral.cli.daemon.DaemonSocket;
+import com.optum.admiral.preferences.UXPreferences;
+
+import java.io.IOException;
+import java.util.List;
+
+public class DaemonCMD extends AbstractCommand<UXPreferences> {
+
+    public DaemonCMD() {
+        super(AdmiralDaemon.COMMAND, "Keep Admiral running for this directory and serve da commands from it (Ctrl-C to stop)");
+    }
+
+    @Override
+    public void run(UXPreferences data, List<String> args) {
+        try {
+            new AdmiralDaemon(DaemonSocket.forCurrentDirectory()).run();
+        } catch (IOException e) {
+            System.out.println("Unable to run the Admiral daemon: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.optum.admiral.cli.daemon;
+
+import com.optum.admiral.CleanExit;
+import com.optum.admiral.cli.AdmiralCLI;
+import com.optum.admiral.cli.command.AbstractAdmiralCommand;
+import com.optum.admiral.util.CommandEnvironment;
+import com.optum.admiral.util.ConfigFileStamps;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Keeps one booted Admiral (and its Docker Engine connection) resident for the directory it was started in, and
+ * runs the da commands forwarded to it by DaemonClient.  The Admiral is rebooted when any configuration file it was
+ * booted from changes, or when the preferences now give different admiral options.
+ *
+ * Commands run one at a time, in the order they arrive, just as they would from a shell script.  Each command's
+ * output goes back over its own connection: System.out is pointed at that connection while the command runs.  The
+ * client's environment variables likewise stand in for the daemon's own (see CommandEnvironment), and the Admiral is
+ * also rebooted when the ones its configuration looked up have changed.  The client's terminal can't be reached, so a
+ * configuration with user provided variables can't be booted here.
+ */
+public class AdmiralDaemon {
+    public static final String COMMAND = "daemon";
+
+    private final Path socket;
+    private final String directory;
+    private final Consumer<String[]> commandRunner;
+    private final ResidentAdmiralSource residentAdmiralSource = new ResidentAdmiralSource();
+    private final PrintStream console = System.out;
+    private volatile ServerSocketChannel server;
+
+    public AdmiralDaemon(Path socket) throws IOException {
+        this(socket, DaemonSocket.currentDirectory(), AdmiralCLI::execute);
+    }
+
+    AdmiralDaemon(Path socket, String directory, Consumer<String[]> commandRunner) {
+        this.socket = socket;
+        this.directory = directory;
+        this.commandRunner = commandRunner;
+    }
+
+    public void run() throws IOException {
+        // Guard
+        DaemonSocket.createPrivateDirectoryFor(socket);
+        if (Files.exists(socket)) {
+            if (isDaemonListening(socket))
+                throw new CleanExit("An Admiral daemon is already running for this directory.");
+            // Left behind by a daemon that didn't shut down cleanly.
+            Files.delete(socket);
+        }
+
+        // Go
+        ConfigFileStamps.startRecording();
+        AbstractAdmiralCommand.setAdmiralSource(residentAdmiralSource);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "AdmiralDaemonShutdown"));
+        listen();
+    }
+
+    private static boolean isDaemonListening(Path socket) {
+        try {
+            SocketChannel.open(UnixDomainSocketAddress.of(socket)).close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Serves requests until stop is called.
+     */
+    void listen() throws IOException {
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            this.server = server;
+            console.println("Admiral daemon listening on " + socket);
+            while (server.isOpen()) {
+                try (SocketChannel channel = server.accept()) {
+                    serve(channel);
+                } catch (EOFException e) {
+                    // Connected and left without a command: another daemon checking whether we're alive.
+                } catch (ClosedChannelException e) {
+                    // Stopped, unless it was the client's channel that closed.
+                    if (server.isOpen()) {
+                        console.println("Admiral daemon request failed: " + e);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // One bad request mustn't take the daemon down for every later one.
+                    console.println("Admiral daemon request failed: " + e);
+                }
+            }
+        }
+    }
+
+    void stop() throws IOException {
+        final ServerSocketChannel server = this.server;
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private void serve(SocketChannel channel) throws IOException {
+        // Gather
+        final DaemonRequest request = DaemonRequest.readFrom(new DataInputStream(Channels.newInputStream(channel)));
+        final String commandLine = "da " + String.join(" ", request.args);
+        final PrintStream out = new PrintStream(Channels.newOutputStream(channel), true, StandardCharsets.UTF_8);
+
+        // Guard
+        if (!directory.equals(request.directory)) {
+            out.write(DaemonRequest.WRONG_DIRECTORY);
+            out.flush();
+            return;
+        }
+
+        // Go
+        console.println(commandLine);
+        out.write(DaemonRequest.ACCEPTED);
+        System.setOut(out);
+        CommandEnvironment.setClientVariables(request.environment);
+        try {
+            commandRunner.accept(request.args);
+        } catch (RuntimeException e) {
+            out.println("The Admiral daemon could not run " + commandLine + ": " + e);
+            console.println(commandLine + " failed: " + e);
+        } finally {
+            CommandEnvironment.setClientVariables(null);
+            System.setOut(console);
+            out.flush();
+        }
+    }
+
+    private void shutdown() {
+        residentAdmiralSource.shutdown();
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            // Eat it - the next daemon cleans up stale sockets.
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.optum.admiral.cli.daemon;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The thin side of the daemon.  Hands the command line, with the directory and environment variables it was run with,
+ * to the daemon for this directory and copies back whatever it writes, as it writes it.
+ */
+public class DaemonClient {
+    private DaemonClient() {
+    }
+
+    /**
+     * Returns true if a daemon ran the command.  Returns false (so the caller runs it here) when there is no daemon
+     * for this directory, or when the command line has options: options change how Admiral boots, and the daemon
+     * only has the one Admiral, booted from the preferences files.
+     */
+    public static boolean forward(String[] args) {
+        // Guard
+        for (String arg : args) {
+            if (arg.startsWith("-"))
+                return false;
+        }
+        if (args.length > 0 && AdmiralDaemon.COMMAND.equals(args[0]))
+            return false;
+
+        // Gather
+        final Path socket;
+        final String directory;
+        try {
+            socket = DaemonSocket.forCurrentDirectory();
+            directory = DaemonSocket.currentDirectory();
+            if (!Files.exists(socket))
+                return false;
+            // Never send our environment to a socket another user could have put there.
+            if (!DaemonSocket.isPrivateDirectoryFor(socket)) {
+                System.out.println("Not using the Admiral daemon: " + socket.getParent() + " is not a private directory owned by " + System.getProperty("user.name") + ".");
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+
+        // Go
+        return forward(socket, new DaemonRequest(args, directory, System.getenv()), System.out);
+    }
+
+    /**
+     * Returns true if the daemon listening on socket ran the request, writing what it wrote to out.
+     */
+    static boolean forward(Path socket, DaemonRequest request, PrintStream out) {
+        // Gather
+        final SocketChannel channel;
+        try {
+            channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+        } catch (IOException e) {
+            // A daemon that went away without cleaning up.  Just run it here.
+            return false;
+        }
+
+        // Go
+        try (SocketChannel c = channel) {
+            request.writeTo(new DataOutputStream(Channels.newOutputStream(c)));
+
+            final InputStream in = Channels.newInputStream(c);
+            if (in.read() != DaemonRequest.ACCEPTED) {
+                // Not run: the daemon serves another directory, or went away first.
+                return false;
+            }
+
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The command may already have run, so it must not be run again here.
+            out.println("Lost the connection to the Admiral daemon: " + e.getMessage());
+        }
+        return true;
+    }
+}
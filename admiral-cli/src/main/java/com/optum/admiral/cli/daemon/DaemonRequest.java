@@ -0,0 +1,91 @@
+package com.optum.admiral.cli.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One command forwarded by DaemonClient: the command line, and the directory and environment variables it was run
+ * with.  Each string is written as UTF-8 after its length, since an environment variable can be longer than
+ * writeUTF allows.
+ *
+ * The daemon answers with one byte before any output: ACCEPTED, or WRONG_DIRECTORY if it serves another directory
+ * (the client then runs the command itself).
+ */
+class DaemonRequest {
+    static final int ACCEPTED = 0;
+    static final int WRONG_DIRECTORY = 1;
+
+    // Anything bigger isn't a request.
+    private static final int MAX_COUNT = 100_000;
+    private static final int MAX_STRING_BYTES = 16 * 1024 * 1024;
+
+    final String[] args;
+    final String directory;
+    final Map<String, String> environment;
+
+    DaemonRequest(String[] args, String directory, Map<String, String> environment) {
+        this.args = args.clone();
+        this.directory = directory;
+        this.environment = Collections.unmodifiableMap(new TreeMap<>(environment));
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(args.length);
+        for (String arg : args) {
+            writeString(out, arg);
+        }
+        writeString(out, directory);
+        out.writeInt(environment.size());
+        for (Map.Entry<String, String> variable : environment.entrySet()) {
+            writeString(out, variable.getKey());
+            writeString(out, variable.getValue());
+        }
+        out.flush();
+    }
+
+    /**
+     * Throws EOFException if the connection ends before a whole request arrives.
+     */
+    static DaemonRequest readFrom(DataInputStream in) throws IOException {
+        final String[] args = new String[readCount(in)];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readString(in);
+        }
+        final String directory = readString(in);
+        final int variables = readCount(in);
+        final Map<String, String> environment = new TreeMap<>();
+        for (int i = 0; i < variables; i++) {
+            environment.put(readString(in), readString(in));
+        }
+        return new DaemonRequest(args, directory, environment);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES)
+            throw new IOException("Bad request: string of " + length + " bytes");
+
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        final int count = in.readInt();
+        if (count < 0 || count > MAX_COUNT)
+            throw new IOException("Bad request: count of " + count);
+
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+package com.optum.admiral.cli.daemon;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Where the daemon for a project directory listens.  Each user gets a private directory, under $XDG_RUNTIME_DIR when
+ * it is set and under the temp directory otherwise, and each project directory gets a socket named for a hash of its
+ * canonical path.  Unix domain socket paths are short (around 100 characters), so the project path itself can't be
+ * used.
+ */
+public class DaemonSocket {
+    private static final Set<PosixFilePermission> OWNER_ONLY = EnumSet.of(
+            PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE);
+
+    private DaemonSocket() {
+    }
+
+    public static Path forCurrentDirectory() throws IOException {
+        return socketDirectory().resolve(hash(currentDirectory()) + ".sock");
+    }
+
+    private static Path socketDirectory() {
+        final String runtimeDirectory = System.getenv("XDG_RUNTIME_DIR");
+        if (runtimeDirectory != null && !runtimeDirectory.isEmpty())
+            return Paths.get(runtimeDirectory, "admiral");
+        return Paths.get(System.getProperty("java.io.tmpdir"), "admiral-" + System.getProperty("user.name"));
+    }
+
+    /**
+     * The canonical path of the directory this process was run in.
+     */
+    static String currentDirectory() throws IOException {
+        return FileSystems.getDefault().getPath("").toAbsolutePath().toFile().getCanonicalFile().getPath();
+    }
+
+    /**
+     * The socket's directory is readable by its owner only, since whoever can connect can run da commands.  The
+     * directory's name is predictable, so one that is already there is only used if it is ours and private.
+     */
+    static void createPrivateDirectoryFor(Path socket) throws IOException {
+        final Path directory = socket.getParent();
+        if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+            try {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+            } catch (UnsupportedOperationException e) {
+                Files.createDirectories(directory);
+            }
+        }
+
+        if (!isPrivateDirectoryFor(socket))
+            throw new IOException(directory + " must be a directory owned by " + System.getProperty("user.name") + " with mode 0700.");
+    }
+
+    /**
+     * True if the socket's directory is a directory (not a link to one) owned by this user, and, where the file system
+     * has POSIX permissions, with mode 0700.  Anything else may have been put there by another user, either to pose as
+     * the daemon and collect the environments clients send, or to reach our daemon.
+     */
+    static boolean isPrivateDirectoryFor(Path socket) throws IOException {
+        final Path directory = socket.getParent();
+        if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS))
+            return false;
+
+        final UserPrincipal currentUser = directory.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+        if (!currentUser.equals(Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS)))
+            return false;
+
+        try {
+            return OWNER_ONLY.equals(Files.getPosixFilePermissions(directory, LinkOption.NOFOLLOW_LINKS));
+        } catch (UnsupportedOperationException e) {
+            // No POSIX permissions (Windows), where the owner is all there is to check.
+            return true;
+        }
+    }
+
+    private static String hash(String path) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(path.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", digest[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM has SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.optum.admiral.cli.daemon;
+
+import com.optum.admiral.Admiral;
+import com.optum.admiral.booter.AdmiralBootstrapper;
+import com.optum.admiral.cli.command.AdmiralSource;
+import com.optum.admiral.config.InvalidDependsOnException;
+import com.optum.admiral.event.AdmiralEventListener;
+import com.optum.admiral.event.SimpleAdmiralEventPublisher;
+import com.optum.admiral.exception.AdmiralDockerException;
+import com.optum.admiral.io.AdmiralFileException;
+import com.optum.admiral.io.AdmiralURLException;
+import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
+import com.optum.admiral.preferences.PreferenceResult;
+import com.optum.admiral.preferences.UXPreferences;
+import com.optum.admiral.type.exception.InvalidSemanticVersion;
+import com.optum.admiral.type.exception.VariableSpecContraint;
+import com.optum.admiral.util.CommandEnvironment;
+import com.optum.admiral.util.ConfigFileStamps;
+import com.optum.admiral.util.MultipleFilesFoundException;
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
+import com.optum.admiral.yaml.exception.InvalidBooleanException;
+import com.optum.admiral.yaml.exception.InvalidEnumException;
+import com.optum.admiral.yaml.exception.PropertyNotFoundException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lends the same Admiral to every command, booting it only the first time and whenever it has gone stale: a
+ * configuration file changed, the preferences give different admiral options, or a system environment variable the
+ * configuration looked up has a different value in this command's environment.  Between
+ * commands its events go nowhere, and any log streams a command joined are closed so they don't spill into the
+ * next command's output.
+ */
+class ResidentAdmiralSource implements AdmiralSource {
+    /**
+     * How the Admiral is booted: by AdmiralBootstrapper, except in specs.
+     */
+    interface Boot {
+        Admiral boot(SimpleAdmiralEventPublisher simpleAdmiralEventPublisher, UXPreferences uxPreferences)
+            throws
+                AdmiralConfigurationException,
+                AdmiralFileException,
+                AdmiralServiceConfigNotFoundException,
+                AdmiralURLException,
+                InvalidBooleanException,
+                InvalidDependsOnException,
+                InvalidSemanticVersion,
+                IOException,
+                MultipleFilesFoundException,
+                PropertyNotFoundException,
+                VariableSpecContraint, InterruptedException, InvalidEnumException;
+    }
+
+    private final SimpleAdmiralEventPublisher simpleAdmiralEventPublisher = new SimpleAdmiralEventPublisher();
+    private final Boot boot;
+    private Admiral admiral;
+    private String bootedWith;
+    private Map<String, String> bootedEnvironment;
+
+    ResidentAdmiralSource() {
+        this((publisher, uxPreferences) -> new AdmiralBootstrapper(publisher, uxPreferences.admiralOptions, uxPreferences.admiralBootOptions).boot());
+    }
+
+    ResidentAdmiralSource(Boot boot) {
+        this.boot = boot;
+    }
+
+    @Override
+    public synchronized Admiral acquire(UXPreferences uxPreferences, AdmiralEventListener admiralEventListener)
+        throws
+            AdmiralConfigurationException,
+            AdmiralFileException,
+            AdmiralServiceConfigNotFoundException,
+            AdmiralURLException,
+            InvalidBooleanException,
+            InvalidDependsOnException,
+            InvalidSemanticVersion,
+            IOException,
+            MultipleFilesFoundException,
+            PropertyNotFoundException,
+            VariableSpecContraint, InterruptedException, InvalidEnumException {
+        // Gather
+        simpleAdmiralEventPublisher.setAsynchronous(uxPreferences.admiralOptions.asynchronousEvents);
+        simpleAdmiralEventPublisher.setAdmiralEventListener(admiralEventListener);
+        final String admiralOptions = describe(uxPreferences);
+
+        // Guard
+        if (admiral != null && (ConfigFileStamps.anyChanged() || !admiralOptions.equals(bootedWith) || environmentChanged())) {
+            simpleAdmiralEventPublisher.publish(l -> l.debug("Configuration or environment changed.  Rebooting Admiral."));
+            shutdown();
+            simpleAdmiralEventPublisher.setAdmiralEventListener(admiralEventListener);
+        }
+
+        // Go
+        if (admiral == null) {
+            ConfigFileStamps.startRecording();
+            admiral = boot.boot(simpleAdmiralEventPublisher, uxPreferences);
+            bootedWith = admiralOptions;
+            bootedEnvironment = admiral.getLookedUpSystemEnvironmentVariables();
+        }
+        return admiral;
+    }
+
+    @Override
+    public synchronized void release(Admiral admiral, AdmiralEventListener admiralEventListener) {
+        admiral.detatchFromAllContainersACT();
+        simpleAdmiralEventPublisher.removeAdmiralEventListener(admiralEventListener);
+    }
+
+    synchronized void shutdown() {
+        // Guard
+        if (admiral == null)
+            return;
+
+        // Go
+        try {
+            admiral.disconnectFromDockerEngineACT();
+        } catch (AdmiralDockerException e) {
+            // Eat it - this Admiral is being thrown away either way.
+        }
+        admiral.closeACT();
+        admiral = null;
+        bootedWith = null;
+        bootedEnvironment = null;
+    }
+
+    /**
+     * Only the variables the configuration looked up count, so a change to any other (a new shell's SHLVL, say)
+     * doesn't cost a reboot.
+     */
+    private boolean environmentChanged() {
+        for (Map.Entry<String, String> variable : bootedEnvironment.entrySet()) {
+            if (!Objects.equals(variable.getValue(), CommandEnvironment.getVariable(variable.getKey())))
+                return true;
+        }
+        return false;
+    }
+
+    private static String describe(UXPreferences uxPreferences) {
+        final StringBuilder sb = new StringBuilder();
+        for (PreferenceResult preferenceResult : uxPreferences.admiralOptions.tracker) {
+            sb.append(preferenceResult.getPreference()).append('=').append(preferenceResult.getValue()).append('\n');
+        }
+        return sb.toString();
+    }
+}
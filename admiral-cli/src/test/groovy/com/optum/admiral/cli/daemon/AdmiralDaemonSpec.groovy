@@ -0,0 +1,73 @@
+package com.optum.admiral.cli.daemon
+
+import com.optum.admiral.util.CommandEnvironment
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.net.UnixDomainSocketAddress
+import java.nio.channels.SocketChannel
+import java.nio.file.Files
+import java.nio.file.Path
+
+class AdmiralDaemonSpec extends Specification {
+    Path directory
+    Path socket
+    AdmiralDaemon daemon
+    Thread listener
+    List<String[]> ran = Collections.synchronizedList([])
+    Closure command = { String[] args -> System.out.println("ran " + args.join(" ") + " with TAG=" + CommandEnvironment.getVariable("TAG")) }
+
+    def setup() {
+        directory = Files.createTempDirectory("daemon-spec")
+        socket = directory.resolve("d.sock")
+        daemon = new AdmiralDaemon(socket, "/project", { String[] args ->
+            ran.add(args)
+            command(args)
+        })
+        listener = new Thread({ daemon.listen() }, "AdmiralDaemonSpec")
+        listener.start()
+        // Connecting and leaving is how another daemon checks for this one, so it is harmless.
+        new PollingConditions(timeout: 5).eventually { SocketChannel.open(UnixDomainSocketAddress.of(socket)).close() }
+    }
+
+    def cleanup() {
+        daemon.stop()
+        listener.join(5000)
+        directory.toFile().deleteDir()
+    }
+
+    String forward(String directory, Map<String, String> environment, String... args) {
+        def bytes = new ByteArrayOutputStream()
+        def out = new PrintStream(bytes, true, "UTF-8")
+        boolean forwarded = DaemonClient.forward(socket, new DaemonRequest(args, directory, environment), out)
+        return forwarded ? bytes.toString("UTF-8") : null
+    }
+
+    def "The command runs with the client's environment and its output comes back" () {
+        expect:
+        forward("/project", [TAG: "7"], "up", "db") == "ran up db with TAG=7\n"
+        forward("/project", [TAG: "8"], "ps") == "ran ps with TAG=8\n"
+
+        and: "the daemon's own environment is back between commands"
+        CommandEnvironment.getVariables().is(System.getenv())
+    }
+
+    def "A client in another directory runs the command itself" () {
+        expect:
+        forward("/elsewhere", [:], "ps") == null
+        ran.isEmpty()
+    }
+
+    def "A command that throws is reported and the daemon keeps serving" () {
+        given:
+        command = { String[] args ->
+            if (args[0] == "boom")
+                throw new IllegalStateException("kaboom")
+            System.out.println("ran " + args.join(" "))
+        }
+
+        expect:
+        forward("/project", [:], "boom").contains("could not run da boom: java.lang.IllegalStateException: kaboom")
+        forward("/project", [:], "ps") == "ran ps\n"
+    }
+}
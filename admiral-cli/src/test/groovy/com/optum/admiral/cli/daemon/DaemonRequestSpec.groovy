@@ -0,0 +1,50 @@
+package com.optum.admiral.cli.daemon
+
+import spock.lang.Specification
+
+class DaemonRequestSpec extends Specification {
+
+    DaemonRequest roundTrip(DaemonRequest request) {
+        def bytes = new ByteArrayOutputStream()
+        request.writeTo(new DataOutputStream(bytes))
+        return DaemonRequest.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+    }
+
+    def "A request reads back as it was written" () {
+        when:
+        DaemonRequest read = roundTrip(new DaemonRequest(["up", "db"] as String[], "/home/me/project", [TAG: "1.2", EMPTY: "", "ÜBER": "€"]))
+
+        then:
+        read.args == ["up", "db"] as String[]
+        read.directory == "/home/me/project"
+        read.environment == [TAG: "1.2", EMPTY: "", "ÜBER": "€"]
+    }
+
+    def "Values longer than writeUTF allows are fine" () {
+        given:
+        String big = "x" * 100_000
+
+        expect:
+        roundTrip(new DaemonRequest([] as String[], "/", [BIG: big])).environment.BIG == big
+    }
+
+    def "A connection that ends early is an EOFException" () {
+        when:
+        DaemonRequest.readFrom(new DataInputStream(new ByteArrayInputStream(new byte[0])))
+
+        then:
+        thrown(EOFException)
+    }
+
+    def "A nonsense length is refused" () {
+        given:
+        def bytes = new ByteArrayOutputStream()
+        new DataOutputStream(bytes).writeInt(-5)
+
+        when:
+        DaemonRequest.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+
+        then:
+        thrown(IOException)
+    }
+}
@@ -0,0 +1,54 @@
+package com.optum.admiral.cli.daemon
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.PosixFilePermissions
+
+class DaemonSocketSpec extends Specification {
+    Path parent
+
+    def setup() {
+        parent = Files.createTempDirectory("daemon-socket-spec")
+    }
+
+    def cleanup() {
+        parent.toFile().deleteDir()
+    }
+
+    def "A missing directory is created private to its owner" () {
+        given:
+        def socket = parent.resolve("admiral").resolve("d.sock")
+
+        when:
+        DaemonSocket.createPrivateDirectoryFor(socket)
+
+        then:
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(socket.getParent())) == "rwx------"
+        DaemonSocket.isPrivateDirectoryFor(socket)
+    }
+
+    def "A directory others can reach is refused" () {
+        given:
+        def directory = Files.createDirectory(parent.resolve("admiral"))
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"))
+        def socket = directory.resolve("d.sock")
+
+        when:
+        DaemonSocket.createPrivateDirectoryFor(socket)
+
+        then:
+        thrown(IOException)
+        !DaemonSocket.isPrivateDirectoryFor(socket)
+    }
+
+    def "A link to a private directory is refused" () {
+        given:
+        def target = Files.createDirectory(parent.resolve("target"), PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")))
+        def link = Files.createSymbolicLink(parent.resolve("admiral"), target)
+
+        expect:
+        !DaemonSocket.isPrivateDirectoryFor(link.resolve("d.sock"))
+    }
+}
@@ -0,0 +1,61 @@
+package com.optum.admiral.cli.daemon
+
+import com.optum.admiral.Admiral
+import com.optum.admiral.ConfigVariableProcessor
+import com.optum.admiral.DockerComposeContainerNamingConvention
+import com.optum.admiral.config.ComposeConfig
+import com.optum.admiral.event.AdmiralEventListener
+import com.optum.admiral.model.DockerModelController
+import com.optum.admiral.preferences.UXPreferences
+import com.optum.admiral.util.CommandEnvironment
+import spock.lang.Specification
+
+class ResidentAdmiralSourceSpec extends Specification {
+    UXPreferences uxPreferences = UXPreferences.Builder.createBuilder("da").getData()
+    int boots = 0
+
+    // Boots an Admiral whose configuration looked up TAG, as "image: app:${TAG:-latest}" would.
+    ResidentAdmiralSource source = new ResidentAdmiralSource({ publisher, preferences ->
+        boots++
+        def configVariableProcessor = new ConfigVariableProcessor()
+        configVariableProcessor.initWithEnvironmentVariablesFromSystem(null)
+        configVariableProcessor.eval('app:${TAG:-latest}')
+        def composeConfig = new ComposeConfig("spec", "spec", "spec", configVariableProcessor, new DockerComposeContainerNamingConvention("spec"))
+        return new Admiral(preferences.admiralOptions, new DockerModelController(publisher, composeConfig, preferences.admiralOptions), composeConfig)
+    } as ResidentAdmiralSource.Boot)
+
+    def cleanup() {
+        source.shutdown()
+        CommandEnvironment.setClientVariables(null)
+    }
+
+    Admiral acquire(Map<String, String> environment) {
+        CommandEnvironment.setClientVariables(environment)
+        def listener = Mock(AdmiralEventListener)
+        Admiral admiral = source.acquire(uxPreferences, listener)
+        source.release(admiral, listener)
+        return admiral
+    }
+
+    def "The same Admiral is lent out while the environment it looked up is the same" () {
+        when:
+        Admiral first = acquire([TAG: "1", SHLVL: "1"])
+        Admiral second = acquire([TAG: "1", SHLVL: "2", OTHER: "x"])
+
+        then:
+        second.is(first)
+        boots == 1
+    }
+
+    def "A different value for a variable the configuration looked up reboots" () {
+        when:
+        Admiral first = acquire([TAG: "1"])
+        Admiral second = acquire([TAG: "2"])
+        Admiral third = acquire([:])
+
+        then:
+        !second.is(first)
+        !third.is(second)
+        boots == 3
+    }
+}
@@ -27,6 +27,7 @@ import com.optum.admiral.logging.ActionHarness;
 import com.optum.admiral.exception.AdmiralDockerException;
 import com.optum.admiral.model.Container;
 import com.optum.admiral.model.ContainerController;
+import com.optum.admiral.model.ContainerReads;
 import com.optum.admiral.model.DockerModelController;
 import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
 import com.optum.admiral.model.Image;
@@ -52,6 +53,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public class Admiral
@@ -149,6 +151,11 @@ public class Admiral
         dmc.publish(event);
     }
 
+    @Override
+    public void flush() {
+        dmc.flush();
+    }
+
     public boolean isConnected() {
         return dmc.isConnected();
     }
@@ -233,26 +240,33 @@ public class Admiral
         publish(l -> l.resetProgress(actionHarness));
     }
 
+    /**
+     * Every container of every service is waited on at the same time.
+     */
     private void waitServices(Collection<AdmiralServiceConfig> services)
             throws AdmiralDockerException {
+        final List<CompletableFuture<Boolean>> waits = new ArrayList<>();
         for (AdmiralServiceConfig admiralServiceConfig : services) {
-            waitService(admiralServiceConfig);
+            waits.addAll(waitService(admiralServiceConfig));
         }
+        dmc.awaitAll(waits);
     }
 
-    private void waitService(AdmiralServiceConfig admiralServiceConfig)
+    private List<CompletableFuture<Boolean>> waitService(AdmiralServiceConfig admiralServiceConfig)
             throws AdmiralDockerException {
         // Gather
         final String serviceName = admiralServiceConfig.getName();
 
+        final List<CompletableFuture<Boolean>> waits = new ArrayList<>();
         final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
         for (int i = 1; i <= replicas; i++) {
             final String containerName = composeConfig.calculateContainerName(serviceName, i);
             final boolean running = dmc.isContainerRunning(containerName);
             if (running) {
-                dmc.containerWait(admiralServiceConfig, containerName, true);
+                waits.add(dmc.containerWaitAsync(admiralServiceConfig, containerName, true));
             }
         }
+        return waits;
     }
 
     public void configACT(OutputWriter outputWriter) {
@@ -368,9 +382,8 @@ public class Admiral
             return;
 
         // Go
+        // Each ContainerLogStreamer closes its own attach stream, so the Docker Engine connection stays up.
         dmc.unjoinServices(services);
-        // Close our connection to the Docker Engine so that the ContainerLogStreamer threads exit.
-        dmc.disconnectFromDockerEngine();
         actionDone(actionHarness);
     }
 
@@ -409,7 +422,7 @@ public class Admiral
     }
 
     public Collection<ContainerController> inspectContainersACT()
-            throws AdmiralDockerException {
+            throws AdmiralDockerException, InterruptedException {
         connectIfNecessary();
         return dmc.inspectContainers();
     }
@@ -420,6 +433,25 @@ public class Admiral
         return dmc.getContainerEnvironmentVariables(containerName);
     }
 
+    /**
+     * Reads the variables of every replica of services concurrently.  If there is no connection, every get says so.
+     */
+    public ContainerReads<Map<String, String>> getContainersEnvironmentVariablesACT(Collection<AdmiralServiceConfig> services) {
+        final List<String> containerNames = new ArrayList<>();
+        for (AdmiralServiceConfig admiralServiceConfig : services) {
+            final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
+            for (int i = 1; i <= replicas; i++) {
+                containerNames.add(composeConfig.calculateContainerName(admiralServiceConfig.getName(), i));
+            }
+        }
+        try {
+            connectIfNecessary();
+        } catch (AdmiralDockerException e) {
+            return ContainerReads.failed(containerNames, e);
+        }
+        return dmc.getContainersEnvironmentVariables(containerNames);
+    }
+
     public List<Container> listContainersACT()
             throws AdmiralDockerException {
         connectIfNecessary();
@@ -462,30 +494,62 @@ public class Admiral
     }
 
     public List<String> getRunningContainerNameListACT()
-            throws AdmiralDockerException  {
+            throws AdmiralDockerException, InterruptedException {
         connectIfNecessary();
-        List<String> runningContainers = new ArrayList<>();
+        List<String> containerNames = new ArrayList<>();
         for (AdmiralServiceConfig admiralServiceConfig : composeConfig.getServicesOrEmpty()) {
             final String name = admiralServiceConfig.getName();
             final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
             for (int i = 1; i <= replicas; i++) {
-                final String containerName = composeConfig.calculateContainerName(name, i);
-                final boolean running = dmc.isContainerRunning(containerName);
-                if (running) {
-                    runningContainers.add(containerName);
-                }
+                containerNames.add(composeConfig.calculateContainerName(name, i));
+            }
+        }
+
+        // Most answers come from the snapshot; any container it doesn't know is inspected alongside the others.
+        final ContainerReads<Boolean> running = dmc.readContainers(containerNames, dmc::isContainerRunning);
+        List<String> runningContainers = new ArrayList<>();
+        for (String containerName : containerNames) {
+            if (running.get(containerName)) {
+                runningContainers.add(containerName);
             }
         }
 
         return runningContainers;
     }
 
+    /**
+     * Stops every log stream (container and file) without disconnecting, for when this Admiral outlives the command
+     * that joined them.
+     */
+    public void detatchFromAllContainersACT() {
+        final ActionHarness actionHarness = new ActionHarness("detatch", Collections.emptyList());
+        dmc.detatchFromAllContainers();
+        actionDone(actionHarness);
+    }
+
     public void disconnectFromDockerEngineACT() throws AdmiralDockerException {
         final ActionHarness actionHarness = new ActionHarness("disconnect", Collections.emptyList());
         dmc.disconnectFromDockerEngine();
         actionDone(actionHarness);
     }
 
+    /**
+     * The system environment variables its configuration looked up, with their values now.  Taken right after a boot,
+     * these are the values it was booted with.
+     */
+    public Map<String, String> getLookedUpSystemEnvironmentVariables() {
+        return composeConfig.getConfigVariableProcessor().currentLookedUpSystemEnvironmentVariables();
+    }
+
+    /**
+     * Stops this Admiral's threads, for when the process outlives it.
+     */
+    public void closeACT() {
+        final ActionHarness actionHarness = new ActionHarness("close", Collections.emptyList());
+        dmc.close();
+        actionDone(actionHarness);
+    }
+
     @Override
     public void progress(ProgressMessage progressMessage) {
         publish(l -> l.imagePullingProgressMessage(progressMessage));
@@ -17,6 +17,14 @@ public class AdmiralOptions {
 //    public final boolean splitOutputFromStdoutAndStderr;
     public final boolean killContainersWhenStopping;
     public final boolean waitForContainersWhenStarting;
+    public final int maxServicesInFlight;
+    public final boolean parallelizeCreates;
+    public final int maxCreatesInFlight;
+    public final int maxPullsInFlight;
+    public final int maxReadsInFlight;
+    public final int maxHooksInFlight;
+    public final boolean cacheBootConfiguration;
+    public final boolean asynchronousEvents;
 
     public final Set<PreferenceResult> tracker;
 
@@ -26,6 +34,14 @@ public class AdmiralOptions {
 //        this.splitOutputFromStdoutAndStderr = admiralOptionsBuilder.splitOutputFromStdoutAndStderr;
         this.killContainersWhenStopping = admiralOptionsBuilder.killContainersWhenStopping;
         this.waitForContainersWhenStarting = admiralOptionsBuilder.waitForContainersWhenStarting;
+        this.maxServicesInFlight = Math.max(1, admiralOptionsBuilder.maxServicesInFlight);
+        this.parallelizeCreates = admiralOptionsBuilder.parallelizeCreates;
+        this.maxCreatesInFlight = Math.max(1, admiralOptionsBuilder.maxCreatesInFlight);
+        this.maxPullsInFlight = Math.max(1, admiralOptionsBuilder.maxPullsInFlight);
+        this.maxReadsInFlight = Math.max(1, admiralOptionsBuilder.maxReadsInFlight);
+        this.maxHooksInFlight = Math.max(1, admiralOptionsBuilder.maxHooksInFlight);
+        this.cacheBootConfiguration = admiralOptionsBuilder.cacheBootConfiguration;
+        this.asynchronousEvents = admiralOptionsBuilder.asynchronousEvents;
         this.tracker = admiralOptionsBuilder.getPreferenceResults();
     }
 
@@ -35,6 +51,14 @@ public class AdmiralOptions {
 //        public boolean splitOutputFromStdoutAndStderr;
         public boolean killContainersWhenStopping;
         public boolean waitForContainersWhenStarting;
+        public int maxServicesInFlight;
+        public boolean parallelizeCreates;
+        public int maxCreatesInFlight;
+        public int maxPullsInFlight;
+        public int maxReadsInFlight;
+        public int maxHooksInFlight;
+        public boolean cacheBootConfiguration;
+        public boolean asynchronousEvents;
 
         public Builder(String applicationName) {
             this.applicationName = applicationName;
@@ -130,12 +154,28 @@ public class AdmiralOptions {
 //        public Boolean splitOutputFromStdoutAndStderr;
         public Boolean killContainersWhenStopping;
         public Boolean waitForContainersWhenStarting;
+        public Integer maxServicesInFlight;
+        public Boolean parallelizeCreates;
+        public Integer maxCreatesInFlight;
+        public Integer maxPullsInFlight;
+        public Integer maxReadsInFlight;
+        public Integer maxHooksInFlight;
+        public Boolean cacheBootConfiguration;
+        public Boolean asynchronousEvents;
 
         public Builder updateBuilder(Builder builder) {
             builder.setB("parallelizePostCreateExecutes", false, parallelizePostCreateExecutes, source);
 //            builder.setB("splitOutputFromStdoutAndStderr", false, splitOutputFromStdoutAndStderr, source);
             builder.setB("killContainersWhenStopping", false, killContainersWhenStopping, source);
             builder.setB("waitForContainersWhenStarting", true, waitForContainersWhenStarting, source);
+            builder.setI("maxServicesInFlight", 4, maxServicesInFlight, source);
+            builder.setB("parallelizeCreates", false, parallelizeCreates, source);
+            builder.setI("maxCreatesInFlight", 4, maxCreatesInFlight, source);
+            builder.setI("maxPullsInFlight", 3, maxPullsInFlight, source);
+            builder.setI("maxReadsInFlight", 8, maxReadsInFlight, source);
+            builder.setI("maxHooksInFlight", 4, maxHooksInFlight, source);
+            builder.setB("cacheBootConfiguration", false, cacheBootConfiguration, source);
+            builder.setB("asynchronousEvents", false, asynchronousEvents, source);
             return builder;
         }
 
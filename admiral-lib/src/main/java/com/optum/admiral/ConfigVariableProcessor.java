@@ -1,5 +1,8 @@
 package com.optum.admiral;
 
+import com.optum.admiral.util.CommandEnvironment;
+import com.optum.admiral.util.ConfigFileStamps;
+import com.optum.admiral.util.URLResolver;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 
 import java.io.BufferedReader;
@@ -8,19 +11,34 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public class ConfigVariableProcessor {
+public class ConfigVariableProcessor implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-    private Map<String, Entry> data;
+    // Written out without its system environment variables (see writeObject).
+    private transient Map<String, Entry> data;
     private List<Pattern> secretPatterns = new ArrayList<>();
 
+    // What initWithEnvironmentVariablesFromSystem was asked for, so a cached boot can tell if the system changed.
+    private boolean systemEnvironmentVariablesLoaded = false;
+    private List<String> systemEnvironmentVariablesFilter = null;
+
+    // Every variable the configuration looked up, set or not.  Only these can change what it resolved to.
+    private final Set<String> lookedUpKeys = Collections.synchronizedSet(new TreeSet<>());
+
     public ConfigVariableProcessor() {
         this.data = new TreeMap<>();
     }
@@ -44,7 +62,9 @@ public class ConfigVariableProcessor {
         BUILTIN, SYSTEM, USERPROVIDED, FILE, URL
     }
 
-    public class Entry {
+    public class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private final boolean isSecret;
         public final String key;
         public final String value;
@@ -93,6 +113,7 @@ public class ConfigVariableProcessor {
     }
 
     public String get(String key) {
+        lookedUpKeys.add(key);
         Entry entry = data.get(key);
         if (entry==null)
             return null;
@@ -105,8 +126,10 @@ public class ConfigVariableProcessor {
      * Otherwise the variables to load must be explicitly listed.
      */
     public void initWithEnvironmentVariablesFromSystem(List<String> systemEnvironmentVariables) {
+        systemEnvironmentVariablesLoaded = true;
+        systemEnvironmentVariablesFilter = (systemEnvironmentVariables == null) ? null : new ArrayList<>(systemEnvironmentVariables);
         data.clear();
-        for(Map.Entry<String, String> entry : System.getenv().entrySet()) {
+        for(Map.Entry<String, String> entry : CommandEnvironment.getVariables().entrySet()) {
             final String key = entry.getKey();
             final String value = entry.getValue();
             if (systemEnvironmentVariables==null || systemEnvironmentVariables.contains(key)) {
@@ -115,13 +138,35 @@ public class ConfigVariableProcessor {
         }
     }
 
-    public void addEnvironmentVariablesFromURL(URL url) throws IOException, AdmiralConfigurationException {
+    /**
+     * The current values of the system environment variables the configuration looked up (whether or not they are
+     * set), leaving out any this wasn't initialized to load.
+     */
+    public Map<String, String> currentLookedUpSystemEnvironmentVariables() {
+        // Guard
+        if (!systemEnvironmentVariablesLoaded)
+            return Collections.emptyMap();
+
+        // Go
+        final Map<String, String> current = new TreeMap<>();
+        synchronized (lookedUpKeys) {
+            for (String key : lookedUpKeys) {
+                if (systemEnvironmentVariablesFilter == null || systemEnvironmentVariablesFilter.contains(key)) {
+                    current.put(key, CommandEnvironment.getVariable(key));
+                }
+            }
+        }
+        return current;
+    }
+
+    public void addEnvironmentVariablesFromURL(URLResolver urlResolver, URL url) throws IOException, AdmiralConfigurationException {
         String context = url.toString();
-        addEnvironmentVariablesFromStream(context, url.openStream(), EntrySourceType.URL);
+        addEnvironmentVariablesFromStream(context, urlResolver.openStream(url), EntrySourceType.URL);
     }
 
     public void addEnvironmentVariablesFromFile(File file) throws IOException, AdmiralConfigurationException {
         String context = file.toString();
+        ConfigFileStamps.read(file);
         try (FileInputStream fis = new FileInputStream(file)) {
             addEnvironmentVariablesFromStream(context, fis, EntrySourceType.FILE);
         }
@@ -143,16 +188,7 @@ public class ConfigVariableProcessor {
         if (rawValue==null)
             return null;
 
-        Pattern pattern = Pattern.compile("([$][{].*?[}])");
-        Matcher matcher = pattern.matcher(rawValue);
-        StringBuffer result = new StringBuffer();
-        while(matcher.find()) {
-            String found = matcher.group(1);
-            String replacement = processEnvironmentVariableTemplate(found);
-            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
-        }
-        matcher.appendTail(result);
-        return result.toString();
+        return VariableTemplate.of(rawValue, VariableTemplate.Dialect.CONFIG).evaluate(this);
     }
 
     public void processEnvLine(String source, String line, EntrySourceType entrySourceType) throws AdmiralConfigurationException {
@@ -175,44 +211,11 @@ public class ConfigVariableProcessor {
     }
 
     public String processEnvironmentVariableTemplate(String template) throws AdmiralConfigurationException {
-        final String rawKey = template.substring(2, template.length()-1);
-
-        boolean foundDefaultSyntax = false;
-        String keyWithDefault = null;
-        String defaultValue = null;
-        Pattern defaultPattern = Pattern.compile("^(.+?):?[-](.+)$");
-        Matcher defaultMatcher = defaultPattern.matcher(rawKey);
-        if(defaultMatcher.find()) {
-            foundDefaultSyntax = true;
-            keyWithDefault = defaultMatcher.group(1);
-            defaultValue = defaultMatcher.group(2);
-        }
-
-        boolean foundErrorSyntax = false;
-        String keyWithError = null;
-        String errorMessage = null;
-        Pattern errorPattern = Pattern.compile("^(.+?):?[?](.+)$");
-        Matcher errorMatcher = errorPattern.matcher(rawKey);
-        if(errorMatcher.find()) {
-            foundErrorSyntax = true;
-            keyWithError = errorMatcher.group(1);
-            errorMessage = errorMatcher.group(2);
-        }
-
-        if (foundDefaultSyntax && foundErrorSyntax) {
-            throw new AdmiralConfigurationException("Config", "Value " + rawKey + " contains both default (-) and required syntax (?) but only one is allowed.");
-        }
-
-        if (foundDefaultSyntax) {
-            return lookupAndReplaceWithDefault(keyWithDefault, defaultValue);
-        } else if (foundErrorSyntax) {
-            return lookupAndReplaceWithError(keyWithError, errorMessage);
-        } else {
-            return lookupAndReplace(rawKey);
-        }
+        return VariableTemplate.evaluateVariable(template, this);
     }
 
     public String lookupAndReplace(String key) {
+        lookedUpKeys.add(key);
         if (data.containsKey(key)) {
             return data.get(key).getValue();
         } else {
@@ -221,6 +224,7 @@ public class ConfigVariableProcessor {
     }
 
     public String lookupAndReplaceWithDefault(String key, String defaultValue) {
+        lookedUpKeys.add(key);
         if (data.containsKey(key)) {
             return data.get(key).getValue();
         } else {
@@ -229,6 +233,7 @@ public class ConfigVariableProcessor {
     }
 
     public String lookupAndReplaceWithError(String key, String errorMessage) throws AdmiralConfigurationException {
+        lookedUpKeys.add(key);
         if (data.containsKey(key)) {
             String value = data.get(key).getValue();
             if (value.isEmpty()) {
@@ -240,4 +245,41 @@ public class ConfigVariableProcessor {
         }
     }
 
+    /**
+     * The system environment variables are left out, as they can hold secrets (and a boot cache entry would be the
+     * whole environment otherwise).  readObject loads them again.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        final List<Entry> entries = new ArrayList<>();
+        for (Entry entry : data.values()) {
+            if (entry.sourceType != EntrySourceType.SYSTEM) {
+                entries.add(entry);
+            }
+        }
+        out.writeInt(entries.size());
+        for (Entry entry : entries) {
+            out.writeObject(entry);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        data = new TreeMap<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            final Entry entry = (Entry) in.readObject();
+            data.put(entry.key, entry);
+        }
+        // The system environment variables went in first, so every other entry was put over them.
+        if (systemEnvironmentVariablesLoaded) {
+            for (Map.Entry<String, String> entry : CommandEnvironment.getVariables().entrySet()) {
+                final String key = entry.getKey();
+                if (systemEnvironmentVariablesFilter == null || systemEnvironmentVariablesFilter.contains(key)) {
+                    data.putIfAbsent(key, new Entry(key, entry.getValue(), "system_environment_variables:", EntrySourceType.SYSTEM));
+                }
+            }
+        }
+    }
+
 }
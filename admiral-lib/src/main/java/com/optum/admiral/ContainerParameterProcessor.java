@@ -1,27 +1,40 @@
 package com.optum.admiral;
 
+import com.optum.admiral.util.EnvFileCache;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-public class ContainerParameterProcessor {
+/**
+ * Variables from env_file and from environment can arrive in any order (one layered compose file at a time), but
+ * environment always wins.  The keys set by environment are remembered so a later env_file can't override them.
+ */
+public class ContainerParameterProcessor implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final ConfigVariableProcessor configVariableProcessor;
     private final Map<String, Entry> data;
+    private final Set<String> environmentKeys;
 
     public ContainerParameterProcessor(ConfigVariableProcessor configVariableProcessor) {
         this.configVariableProcessor = configVariableProcessor;
         this.data = new TreeMap<>();
+        this.environmentKeys = new HashSet<>();
+    }
+
+    public boolean isUsing(ConfigVariableProcessor configVariableProcessor) {
+        return this.configVariableProcessor == configVariableProcessor;
     }
 
-    public class Entry {
+    public class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private final boolean isSecret;
         public final String key;
         public final String value;
@@ -90,35 +103,18 @@ public class ContainerParameterProcessor {
 
     public void clear() {
         data.clear();
+        environmentKeys.clear();
     }
 
     public void addContainerEnvironmentVariablesFromFileNamed(File file) throws IOException, AdmiralConfigurationException {
-        try (
-            BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file)))
-        ) {
-            String line;
-            while((line = in.readLine()) != null) {
-                processFileLine(file, line);
-            }
-        }
-    }
-
-    private void processFileLine(File filename, String line) throws AdmiralConfigurationException {
-        final String trimmed = line.trim();
-        if (trimmed.startsWith("#") || trimmed.length()==0) {
-            return;
-        }
-        final String[] pieces = trimmed.split("=",2);
-        if (pieces.length!=2) {
-            throw new IllegalArgumentException("Line is not a valid KEY=VALUE: " + line);
-        } else {
-            final String key = pieces[0].trim();
-            final String value = pieces[1].trim();
-            addKeyValueEnvironmentVariable(key, value, "File: " + filename);
+        final String source = "File: " + file;
+        for (Map.Entry<String, String> variable : EnvFileCache.read(file).entrySet()) {
+            addKeyValueEnvironmentVariable(variable.getKey(), variable.getValue(), source);
         }
     }
 
     public void addEnvironmentVariable(String key, String value, String source) throws AdmiralConfigurationException {
+        environmentKeys.add(key);
         data.put(key, new Entry(key, eval(value), source));
     }
 
@@ -135,6 +131,11 @@ public class ContainerParameterProcessor {
     }
 
     private void addKeyValueEnvironmentVariable(String key, String value, String source) throws AdmiralConfigurationException {
+        // Guard
+        if (environmentKeys.contains(key))
+            return;
+
+        // Go
         data.put(key, new Entry(key, eval(value), source));
     }
 
@@ -142,36 +143,6 @@ public class ContainerParameterProcessor {
         if (rawValue==null)
             return null;
 
-        Pattern pattern = Pattern.compile("([$][$])|([$][{].*?[}])|([$]\\w+)");
-        Matcher matcher = pattern.matcher(rawValue);
-        StringBuffer result = new StringBuffer();
-        while(matcher.find()) {
-            for(int i=1;i<=matcher.groupCount();i++) {
-                String found = matcher.group(i);
-                if (found!=null) {
-                    String rep = processTemplate(found);
-                    if (rep != null) {
-                        matcher.appendReplacement(result, Matcher.quoteReplacement(rep));
-                    }
-                }
-            }
-        }
-        matcher.appendTail(result);
-        return result.toString();
-
-    }
-
-    private String processTemplate(String template) throws AdmiralConfigurationException {
-        if (template==null)
-            return null;
-        if ("$$".equals(template)) {
-            return "$";
-        }
-        if (template.startsWith("${")) {
-            return configVariableProcessor.processEnvironmentVariableTemplate(template);
-        } else {
-            String piece = template.substring(1, template.length());
-            return configVariableProcessor.lookupAndReplace(piece);
-        }
+        return VariableTemplate.of(rawValue, VariableTemplate.Dialect.CONTAINER).evaluate(configVariableProcessor);
     }
 }
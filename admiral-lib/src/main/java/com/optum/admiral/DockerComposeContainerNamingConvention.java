@@ -1,6 +1,9 @@
 package com.optum.admiral;
 
-public class DockerComposeContainerNamingConvention implements ContainerNamingConvention {
+import java.io.Serializable;
+
+public class DockerComposeContainerNamingConvention implements ContainerNamingConvention, Serializable {
+    private static final long serialVersionUID = 1L;
 
     final String projectName;
 
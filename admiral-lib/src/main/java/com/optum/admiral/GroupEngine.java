@@ -4,6 +4,7 @@ import com.optum.admiral.config.AdmiralServiceConfig;
 import com.optum.admiral.config.ComposeConfig;
 import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -13,7 +14,9 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
-public class GroupEngine {
+public class GroupEngine implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final ComposeConfig composeConfig;
 
     private final Map<String, Set<String>> groups = new TreeMap<>();
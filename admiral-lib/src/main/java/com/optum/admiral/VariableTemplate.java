@@ -0,0 +1,204 @@
+package com.optum.admiral;
+
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A value with its variable references already found, so that evaluating it is just lookups and appends.
+ *
+ * Parsing is a single hand-written pass that finds exactly what the old regexes found:
+ *   CONFIG     ${...}
+ *   CONTAINER  $$, ${...}, and $NAME (in that order of preference at any one $)
+ * A ${ only counts if its } comes before the end of the line.  Inside ${...}, KEY:-DEFAULT (or KEY-DEFAULT) and
+ * KEY:?MESSAGE (or KEY?MESSAGE) split at the first - or ? that leaves a non-empty key and a non-empty remainder.
+ *
+ * Parsing doesn't depend on any variable's value, so parsed templates are cached by their raw text.  Every YAML
+ * scalar goes through here, and most of them (and most of their templates) repeat.
+ */
+final class VariableTemplate {
+    enum Dialect {
+        CONFIG, CONTAINER
+    }
+
+    /**
+     * The cache is only a shortcut, so it is simply emptied if a long-running process ever fills it.
+     */
+    private static final int MAX_CACHED = 10_000;
+    private static final Map<String, VariableTemplate> configCache = new ConcurrentHashMap<>();
+    private static final Map<String, VariableTemplate> containerCache = new ConcurrentHashMap<>();
+
+    private interface Segment {
+        void appendTo(StringBuilder sb, ConfigVariableProcessor configVariableProcessor) throws AdmiralConfigurationException;
+    }
+
+    private final String raw;
+    private final Segment[] segments;
+
+    private VariableTemplate(String raw, Segment[] segments) {
+        this.raw = raw;
+        this.segments = segments;
+    }
+
+    static VariableTemplate of(String raw, Dialect dialect) {
+        final Map<String, VariableTemplate> cache = (dialect == Dialect.CONFIG) ? configCache : containerCache;
+        VariableTemplate template = cache.get(raw);
+        if (template == null) {
+            if (cache.size() >= MAX_CACHED) {
+                cache.clear();
+            }
+            template = parse(raw, dialect);
+            cache.put(raw, template);
+        }
+        return template;
+    }
+
+    String evaluate(ConfigVariableProcessor configVariableProcessor) throws AdmiralConfigurationException {
+        // Guard
+        if (segments.length == 0)
+            return raw;
+
+        // Go
+        final StringBuilder sb = new StringBuilder(raw.length());
+        for (Segment segment : segments) {
+            segment.appendTo(sb, configVariableProcessor);
+        }
+        return sb.toString();
+    }
+
+    private static VariableTemplate parse(String raw, Dialect dialect) {
+        final List<Segment> segments = new ArrayList<>();
+        final int length = raw.length();
+        int literalStart = 0;
+        int i = raw.indexOf('$');
+        while (i >= 0 && i < length - 1) {
+            final char next = raw.charAt(i + 1);
+            int end = -1;
+            Segment segment = null;
+            if (dialect == Dialect.CONTAINER && next == '$') {
+                end = i + 2;
+                segment = literal("$");
+            } else if (next == '{' && (end = closingBrace(raw, i + 2)) >= 0) {
+                end++;
+                final String body = raw.substring(i + 2, end - 1);
+                segment = variable(body, raw.substring(i, end));
+            } else if (dialect == Dialect.CONTAINER && isWordChar(next)) {
+                end = i + 2;
+                while (end < length && isWordChar(raw.charAt(end))) {
+                    end++;
+                }
+                segment = lookup(raw.substring(i + 1, end), raw.substring(i, end));
+            }
+
+            if (segment == null) {
+                i = raw.indexOf('$', i + 1);
+            } else {
+                if (literalStart < i) {
+                    segments.add(literal(raw.substring(literalStart, i)));
+                }
+                segments.add(segment);
+                literalStart = end;
+                i = raw.indexOf('$', end);
+            }
+        }
+
+        if (segments.isEmpty())
+            return new VariableTemplate(raw, new Segment[0]);
+
+        if (literalStart < length) {
+            segments.add(literal(raw.substring(literalStart)));
+        }
+        return new VariableTemplate(raw, segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * The index of the } that closes a ${, or -1 if a line ends first.  These are the characters that a regex "."
+     * won't match.
+     */
+    private static int closingBrace(String raw, int from) {
+        for (int i = from; i < raw.length(); i++) {
+            final char c = raw.charAt(i);
+            if (c == '}')
+                return i;
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029')
+                return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Regex \w without UNICODE_CHARACTER_CLASS.
+     */
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * The position of the first - (or ? ) that splits body into a non-empty key and a non-empty remainder, with a
+     * : just before it belonging to neither.  Returns {keyEnd, remainderStart}, or null.
+     */
+    private static int[] split(String body, char separator) {
+        final int length = body.length();
+        for (int keyEnd = 1; keyEnd < length; keyEnd++) {
+            final char c = body.charAt(keyEnd);
+            if (c == ':' && keyEnd + 2 < length && body.charAt(keyEnd + 1) == separator)
+                return new int[] { keyEnd, keyEnd + 2 };
+            if (c == separator && keyEnd + 1 < length)
+                return new int[] { keyEnd, keyEnd + 1 };
+        }
+        return null;
+    }
+
+    /**
+     * The contents of one ${...}.  Also what ConfigVariableProcessor.processEnvironmentVariableTemplate evaluates.
+     */
+    private static Segment variable(String body, String original) {
+        final int[] withDefault = split(body, '-');
+        final int[] withError = split(body, '?');
+
+        if (withDefault != null && withError != null) {
+            return (sb, cvp) -> {
+                throw new AdmiralConfigurationException("Config", "Value " + body + " contains both default (-) and required syntax (?) but only one is allowed.");
+            };
+        }
+
+        if (withDefault != null) {
+            final String key = body.substring(0, withDefault[0]);
+            final String defaultValue = body.substring(withDefault[1]);
+            return (sb, cvp) -> append(sb, cvp.lookupAndReplaceWithDefault(key, defaultValue), original);
+        } else if (withError != null) {
+            final String key = body.substring(0, withError[0]);
+            final String errorMessage = body.substring(withError[1]);
+            return (sb, cvp) -> append(sb, cvp.lookupAndReplaceWithError(key, errorMessage), original);
+        } else {
+            return lookup(body, original);
+        }
+    }
+
+    private static Segment lookup(String key, String original) {
+        return (sb, cvp) -> append(sb, cvp.lookupAndReplace(key), original);
+    }
+
+    private static Segment literal(String text) {
+        return (sb, cvp) -> sb.append(text);
+    }
+
+    /**
+     * A variable that was set to nothing at all (not even "") leaves its reference in place.
+     */
+    private static void append(StringBuilder sb, String replacement, String original) {
+        sb.append(replacement == null ? original : replacement);
+    }
+
+    /**
+     * Evaluates one already-isolated ${...}.
+     */
+    static String evaluateVariable(String template, ConfigVariableProcessor configVariableProcessor) throws AdmiralConfigurationException {
+        final StringBuilder sb = new StringBuilder();
+        variable(template.substring(2, template.length() - 1), template).appendTo(sb, configVariableProcessor);
+        return sb.toString();
+    }
+}
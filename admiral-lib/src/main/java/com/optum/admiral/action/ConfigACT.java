@@ -235,6 +235,9 @@ public class ConfigACT {
             for(ExecuteHook executeHook : executeHooks) {
                 writer.outln(String.format("      - cmd: %s", executeHook.getCommand()));
                 writer.outln(String.format("        working_dir: %s", executeHook.getWorkingDir()));
+                if (executeHook.getTimeout() > 0) {
+                    writer.outln(String.format("        timeout: %s", Duration.conciseMS(executeHook.getTimeout())));
+                }
             }
         }
     }
@@ -7,9 +7,11 @@ import com.optum.admiral.io.OutputStyler;
 import com.optum.admiral.io.OutputWriter;
 import com.optum.admiral.io.VariableWriterUtil;
 import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
+import com.optum.admiral.model.ContainerReads;
 import com.optum.admiral.preferences.OutputPreferences;
 
 import java.util.Collection;
+import java.util.Map;
 
 public class DigACT {
     private final Admiral admiral;
@@ -26,6 +28,8 @@ public class DigACT {
 
     public void perform(Collection<String> serviceNames, boolean showAll) throws AdmiralServiceConfigNotFoundException {
         Collection<AdmiralServiceConfig> services = composeConfig.getServicesCopyOrAll(serviceNames);
+        // Every container is asked up front; the answers are still written out service by service, replica by replica.
+        final ContainerReads<Map<String, String>> containersVars = admiral.getContainersEnvironmentVariablesACT(services);
 
         boolean needsBlankLine = false;
         for (AdmiralServiceConfig admiralServiceConfig : services) {
@@ -35,7 +39,7 @@ public class DigACT {
             needsBlankLine=true;
 
             final String serviceName = admiralServiceConfig.getName();
-            variableWriterUtil.writeDigACT(admiral, serviceName, admiralServiceConfig, showAll);
+            variableWriterUtil.writeDigACT(admiral, containersVars, serviceName, admiralServiceConfig, showAll);
         }
     }
 
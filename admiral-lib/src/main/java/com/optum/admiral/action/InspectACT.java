@@ -8,9 +8,11 @@ import com.optum.admiral.io.OutputStyler;
 import com.optum.admiral.io.OutputWriter;
 import com.optum.admiral.io.VariableWriterUtil;
 import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
+import com.optum.admiral.model.ContainerReads;
 import com.optum.admiral.preferences.OutputPreferences;
 
 import java.util.Collection;
+import java.util.Map;
 
 public class InspectACT {
     private final Admiral admiral;
@@ -27,6 +29,8 @@ public class InspectACT {
 
     public void perform(Collection<String> serviceNames) throws AdmiralServiceConfigNotFoundException {
         Collection<AdmiralServiceConfig> services = composeConfig.getServicesCopyOrAll(serviceNames);
+        // Every container is asked up front; the answers are still written out service by service, replica by replica.
+        final ContainerReads<Map<String, String>> containersVars = admiral.getContainersEnvironmentVariablesACT(services);
 
         boolean needsBlankLine = false;
         for(AdmiralServiceConfig admiralServiceConfig : services) {
@@ -36,7 +40,7 @@ public class InspectACT {
             needsBlankLine=true;
 
             final ContainerParameterProcessor containerParameterProcessor = admiralServiceConfig.getContainerEnvironmentVariableProcessor();
-            variableWriterUtil.writeInspectACT(admiral, containerParameterProcessor, admiralServiceConfig.getName(), admiralServiceConfig);
+            variableWriterUtil.writeInspectACT(admiral, containersVars, containerParameterProcessor, admiralServiceConfig.getName(), admiralServiceConfig);
         }
     }
 
@@ -47,7 +47,7 @@ public class TestACT {
     /**
      * False if anything is not running, otherwise true.
      */
-    private void allRunning() throws AdmiralDockerException  {
+    private void allRunning() throws AdmiralDockerException, InterruptedException {
         Collection<String> runningContainers = admiral.getRunningContainerNameListACT();
 
         for(AdmiralServiceConfig admiralServiceConfig : composeConfig.getServicesOrEmpty()) {
@@ -67,7 +67,7 @@ public class TestACT {
     /**
      * True if anything is running, otherwise false.
      */
-    private void someRunning() throws AdmiralDockerException  {
+    private void someRunning() throws AdmiralDockerException, InterruptedException {
         Collection<String> runningContainers = admiral.getRunningContainerNameListACT();
 
         for(AdmiralServiceConfig admiralServiceConfig : composeConfig.getServicesOrEmpty()) {
@@ -87,7 +87,7 @@ public class TestACT {
     /**
      * True if nothing is running, otherwise false.
      */
-    private void noneRunning() throws AdmiralDockerException  {
+    private void noneRunning() throws AdmiralDockerException, InterruptedException {
         Collection<String> runningContainers = admiral.getRunningContainerNameListACT();
 
         for(AdmiralServiceConfig admiralServiceConfig : composeConfig.getServicesOrEmpty()) {
@@ -104,7 +104,7 @@ public class TestACT {
         writer.outln(TRUE);
     }
 
-    private void whichRunning() throws AdmiralDockerException  {
+    private void whichRunning() throws AdmiralDockerException, InterruptedException {
         Collection<String> runningContainers = admiral.getRunningContainerNameListACT();
 
         for(AdmiralServiceConfig admiralServiceConfig : composeConfig.getServicesOrEmpty()) {
@@ -0,0 +1,170 @@
+package com.optum.admiral.booter;
+
+import com.optum.admiral.Version;
+import com.optum.admiral.config.ComposeConfig;
+import com.optum.admiral.util.ConfigFileStamps;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Fully resolved ComposeConfigs saved on disk, so that a boot whose inputs haven't changed skips YAML parsing and
+ * variable processing entirely.
+ *
+ * An entry is only used if it was written by this version of Admiral, every file its boot read still has the same
+ * content (SHA-256), every file its boot looked for and didn't find is still missing, and the system environment
+ * variables its boot looked up still have the same values.  Anything else, including any trouble reading the entry, is
+ * a miss.  Trouble writing an entry is ignored; the next boot just won't be a hit.
+ *
+ * No system environment variable values are written: only a SHA-256 over the ones the configuration looked up, and
+ * the cached ComposeConfig loads them again when it is read.  Reading only accepts Admiral's own classes and the JDK's.
+ */
+class BootCache {
+    static final File DEFAULT_DIRECTORY = new File(System.getProperty("user.home"), ".admiral" + File.separator + "boot-cache");
+
+    private static final ObjectInputFilter ADMIRAL_AND_JDK_ONLY = ObjectInputFilter.Config.createFilter("com.optum.admiral.**;java.**;!*");
+
+    private final File file;
+
+    private static class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final String version;
+        final Map<String, String> fileHashes;
+        final String systemEnvironmentHash;
+        final ComposeConfig composeConfig;
+
+        Entry(Map<String, String> fileHashes, ComposeConfig composeConfig) {
+            this.version = Version.VERSION;
+            this.fileHashes = fileHashes;
+            this.systemEnvironmentHash = systemEnvironmentHashOf(composeConfig);
+            this.composeConfig = composeConfig;
+        }
+    }
+
+    BootCache(File directory, String key) {
+        this.file = new File(directory, sha256(key.getBytes(StandardCharsets.UTF_8)) + ".bin");
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the cached ComposeConfig, or null on a miss.
+     */
+    ComposeConfig read() {
+        // Guard
+        if (!file.isFile())
+            return null;
+
+        // Gather
+        final Entry entry;
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(file.toPath()))) {
+            in.setObjectInputFilter(ADMIRAL_AND_JDK_ONLY);
+            entry = (Entry) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+
+        // Guard
+        if (!Version.VERSION.equals(entry.version))
+            return null;
+
+        for (Map.Entry<String, String> fileHash : entry.fileHashes.entrySet()) {
+            if (!Objects.equals(fileHash.getValue(), hashOf(new File(fileHash.getKey()))))
+                return null;
+        }
+
+        if (!entry.systemEnvironmentHash.equals(systemEnvironmentHashOf(entry.composeConfig)))
+            return null;
+
+        // Go
+        for (Map.Entry<String, String> fileHash : entry.fileHashes.entrySet()) {
+            if (fileHash.getValue() != null) {
+                ConfigFileStamps.read(new File(fileHash.getKey()));
+            }
+        }
+        return entry.composeConfig;
+    }
+
+    void write(ComposeConfig composeConfig, ConfigFileStamps.Inputs inputs) {
+        final Map<String, String> fileHashes = new TreeMap<>();
+        for (Map.Entry<File, Boolean> input : inputs.getFiles().entrySet()) {
+            fileHashes.put(input.getKey().getPath(), input.getValue() ? hashOf(input.getKey()) : null);
+        }
+
+        try {
+            final Path directory = file.getParentFile().toPath();
+            Files.createDirectories(directory);
+            try {
+                Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwx------"));
+            } catch (UnsupportedOperationException e) {
+                // Not a POSIX file system.
+            }
+            final Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            try {
+                try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(temp))) {
+                    out.writeObject(new Entry(fileHashes, composeConfig));
+                }
+                Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            // Eat it - the cache is only a shortcut.
+        }
+    }
+
+    /**
+     * The SHA-256 of the current values of the system environment variables the configuration looked up.  Each name
+     * and value is length-prefixed, so no two sets of values hash the same text.
+     */
+    private static String systemEnvironmentHashOf(ComposeConfig composeConfig) {
+        final StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> variable : composeConfig.getConfigVariableProcessor().currentLookedUpSystemEnvironmentVariables().entrySet()) {
+            final String value = variable.getValue();
+            sb.append(variable.getKey().length()).append(':').append(variable.getKey());
+            if (value == null) {
+                sb.append("-;");
+            } else {
+                sb.append('=').append(value.length()).append(':').append(value).append(';');
+            }
+        }
+        return sha256(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The SHA-256 of a file's content, or null if it isn't there to read.
+     */
+    private static String hashOf(File file) {
+        try {
+            return sha256(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
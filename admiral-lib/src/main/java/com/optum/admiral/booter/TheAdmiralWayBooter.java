@@ -16,21 +16,27 @@ import com.optum.admiral.type.VerifiedPathVariable;
 import com.optum.admiral.type.UserProvidedVariable;
 import com.optum.admiral.type.exception.InvalidSemanticVersion;
 import com.optum.admiral.type.exception.VariableSpecContraint;
+import com.optum.admiral.util.CommandEnvironment;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.util.FileSearcher;
 import com.optum.admiral.util.FileSearcher.SearchResult;
 import com.optum.admiral.util.FileSearcher.SourceCandidate;
 import com.optum.admiral.util.FileService;
 import com.optum.admiral.util.MultipleFilesFoundException;
 import com.optum.admiral.yaml.AdmiralBootYaml;
+import com.optum.admiral.yaml.ComposeYaml;
 import com.optum.admiral.yaml.TweaksYaml;
+import com.optum.admiral.yaml.YamlFilePrefetcher;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 
 import javax.xml.bind.DatatypeConverter;
+import java.io.Console;
 import java.io.File;
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -73,6 +79,11 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
         this.admiralFilename = admiralFilename;
     }
 
+    @Override
+    protected String bootCacheKey() throws IOException {
+        return "admiral\n" + new File("").getCanonicalPath() + "\n" + new File(admiralFilename).getCanonicalPath();
+    }
+
     @Override
     public ComposeConfig createComposeConfig()
             throws
@@ -122,6 +133,19 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
         }
         publish(l -> l.verbose("Project Directory: " + fileService.getWorkingDirectory().getPath()));
 
+        // Config files must be applied in order, but the remote ones can all be downloaded at once.
+        final List<URL> configURLs = new ArrayList<>();
+        for (AdmiralConfig.RelativeFilename rawConfigFileName : admiralConfig.getConfigFiles()) {
+            if (isURL(rawConfigFileName.filename)) {
+                try {
+                    configURLs.add(new URL(rawConfigFileName.filename));
+                } catch (MalformedURLException e) {
+                    // Eat it - loadConfigFile reports it.
+                }
+            }
+        }
+        getURLResolver().prefetch(configURLs);
+
         for (AdmiralConfig.RelativeFilename rawConfigFileName : admiralConfig.getConfigFiles()) {
             loadConfigFile(configVariableProcessor, rawConfigFileName.fileService, rawConfigFileName.filename);
         }
@@ -131,9 +155,19 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
         }
 
         ComposeConfig composeConfig = new ComposeConfig("admiral", admiralFile.getCanonicalPath(), projectName, configVariableProcessor, new DockerComposeContainerNamingConvention(projectName));
+        composeConfig.setURLResolver(getURLResolver());
 
-        for (AdmiralConfig.RelativeFilename rawComposeFileName : admiralConfig.getComposeFiles()) {
-            loadComposeFile(composeConfig, rawComposeFileName.fileService, rawComposeFileName.filename);
+        // The compose files don't depend on each other until they are applied, so parse them all up front.
+        try (YamlFilePrefetcher<ComposeYaml> composeYamls = new YamlFilePrefetcher<>(ComposeYaml::loadFromYamlFile)) {
+            final List<File> composeFiles = new ArrayList<>();
+            for (AdmiralConfig.RelativeFilename rawComposeFileName : admiralConfig.getComposeFiles()) {
+                composeFiles.add(composeFileOf(rawComposeFileName.fileService, rawComposeFileName.filename));
+            }
+            composeYamls.prefetch(composeFiles);
+
+            for (AdmiralConfig.RelativeFilename rawComposeFileName : admiralConfig.getComposeFiles()) {
+                loadComposeFile(composeConfig, rawComposeFileName.fileService, rawComposeFileName.filename, composeYamls);
+            }
         }
 
         // Finally, load tweaks from the admiral config.
@@ -208,6 +242,9 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
             throws AdmiralConfigurationException {
         Date now = new Date();
         for (DateVariable dateVariable : dateVariables) {
+            if (!"true".equals(dateVariable.cache)) {
+                notCacheable("date variable " + dateVariable.name + " does not set cache: \"true\"");
+            }
             String nowValue = new SimpleDateFormat(dateVariable.format).format(now);
             configVariableProcessor.addKeyValueEnvironmentVariable(dateVariable.name, nowValue, "date_variables:", ConfigVariableProcessor.EntrySourceType.BUILTIN);
         }
@@ -216,6 +253,7 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
     private void loadUserProvidedVariables(ConfigVariableProcessor configVariableProcessor, List<UserProvidedVariable> userProvidedVariables)
             throws AdmiralConfigurationException {
         for(UserProvidedVariable userProvidedVariable : userProvidedVariables) {
+            notCacheable("user provided variable " + userProvidedVariable.name);
             final String promptToUse;
             if (userProvidedVariable.prompt == null || userProvidedVariable.prompt.isEmpty()) {
                 promptToUse = "Please enter " + userProvidedVariable.name;
@@ -230,11 +268,15 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
                 defaultPrompt = ": ";
             }
             final String format = promptToUse + defaultPrompt;
+            final Console console = CommandEnvironment.getConsole();
+            if (console == null) {
+                throw new AdmiralConfigurationException(userProvidedVariable.name, "There is no terminal to prompt for this user provided variable on.  (The Admiral daemon can't prompt.)");
+            }
             final String userProvidedValue;
             if ("true".equals(userProvidedVariable.hidden)) {
-                userProvidedValue = new String(System.console().readPassword(format));
+                userProvidedValue = new String(console.readPassword(format));
             } else {
-                userProvidedValue = System.console().readLine(format);
+                userProvidedValue = console.readLine(format);
             }
             final String valueToUse;
             if (userProvidedValue.isEmpty() && (defaultValue!=null) && !defaultValue.isEmpty()) {
@@ -271,6 +313,7 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
             }
 
             try {
+                ConfigFileStamps.read(markerFile);
                 byte[] b = Files.readAllBytes(Paths.get(markerFile.getPath()));
                 byte[] hash = MessageDigest.getInstance("MD5").digest(b);
                 String actual = DatatypeConverter.printHexBinary(hash);
@@ -290,6 +333,9 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
     private void loadCommandVariables(ConfigVariableProcessor configVariableProcessor, List<CommandVariable> commandVariables)
             throws AdmiralConfigurationException, IOException {
         for (CommandVariable commandVariable : commandVariables) {
+            if (!"true".equals(commandVariable.cache)) {
+                notCacheable("command variable " + commandVariable.name + " does not set cache: \"true\"");
+            }
             ProcessBuilder builder = new ProcessBuilder();
             if (commandVariable.commands != null && (!commandVariable.commands.isEmpty())) {
                 builder.command(commandVariable.commands);
@@ -306,6 +352,7 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
             if (commandVariable.working_dir != null && (!commandVariable.working_dir.isEmpty())) {
                 builder.directory(new File(commandVariable.working_dir));
             }
+            CommandEnvironment.applyTo(builder);
             Process process = builder.start();
             StringBuilder sb = new StringBuilder();
             StreamGobbler streamGobbler = new StreamGobbler(process.getInputStream(), (sb::append));
@@ -337,8 +384,9 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
             } else {
                 try {
                     final URL configFile = new URL(configFileName);
+                    notCacheable("config file " + configFileName + " is a URL");
                     publish(l -> l.loadingConfigurationVariables(configFile));
-                    configVariableProcessor.addEnvironmentVariablesFromURL(configFile);
+                    configVariableProcessor.addEnvironmentVariablesFromURL(getURLResolver(), configFile);
                     publish(l -> l.loadedConfigurationVariables(configFile));
                 } catch (IOException e) {
                     throw new AdmiralURLException("IO Error reading URL", configFileName);
@@ -347,6 +395,7 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
         } else {
             try {
                 final File configFile = fileService.relativeFile(configFileName).getCanonicalFile();
+                ConfigFileStamps.lookedFor(configFile);
                 if (configFile.exists()) {
                     if (configFile.isFile()) {
                         publish(l -> l.loadingConfigurationVariables(configFile));
@@ -366,7 +415,11 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
         }
     }
 
-    private void loadComposeFile(ComposeConfig composeConfig, FileService fileService, String rawComposeFileName)
+    private static File composeFileOf(FileService fileService, String rawComposeFileName) {
+        return fileService.relativeFile(rawComposeFileName.startsWith("?") ? rawComposeFileName.substring(1) : rawComposeFileName);
+    }
+
+    private void loadComposeFile(ComposeConfig composeConfig, FileService fileService, String rawComposeFileName, YamlFilePrefetcher<ComposeYaml> composeYamls)
             throws
                 AdmiralConfigurationException,
                 AdmiralFileException,
@@ -379,24 +432,16 @@ public class TheAdmiralWayBooter extends VerifiedBooter {
         // All other errors are processed as normal.
         // (AKA: An optional file or URL that exists but can't be read is still an error.)
         // To make this clear, optional will not be permitted on URLs.
-        final boolean optionalFile;
-        final String composeFileName;
-        if (rawComposeFileName.startsWith("?")) {
-            optionalFile = true;
-            composeFileName = rawComposeFileName.substring(1);
-        } else {
-            optionalFile = false;
-            composeFileName = rawComposeFileName;
-        }
-
-        final File composeFile = fileService.relativeFile(composeFileName);
+        final boolean optionalFile = rawComposeFileName.startsWith("?");
+        final File composeFile = composeFileOf(fileService, rawComposeFileName);
+        ConfigFileStamps.lookedFor(composeFile);
         // (Trying to write this expression !() to appease SONAR is impossible to read.)
         if (optionalFile && !composeFile.exists()) {
             // This is unnecessary, but SONAR complains otherwise.
             return;
         } else {
             publish(l -> l.loadingComposeConfiguration(composeFile));
-            composeConfig.load(composeFile);
+            composeConfig.load(composeFile, composeYamls.get(composeFile));
             publish(l -> l.loadedComposeConfiguration(composeFile));
         }
     }
@@ -8,8 +8,11 @@ import com.optum.admiral.event.AdmiralEventPublisher;
 import com.optum.admiral.io.AdmiralFileException;
 import com.optum.admiral.type.exception.InvalidSemanticVersion;
 import com.optum.admiral.type.exception.VariableSpecContraint;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.util.FileService;
 import com.optum.admiral.util.MultipleFilesFoundException;
+import com.optum.admiral.yaml.ComposeYaml;
+import com.optum.admiral.yaml.YamlFilePrefetcher;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
@@ -48,6 +51,11 @@ public class TheDockerComposeWayBooter extends VerifiedBooter {
         this.dockerComposeFilenames = (dockerComposeFiles==null)?Collections.emptyList():dockerComposeFiles;
     }
 
+    @Override
+    protected String bootCacheKey() throws IOException {
+        return "compose\n" + new File("").getCanonicalPath() + "\n" + String.join("\n", dockerComposeFilenames);
+    }
+
     /**
      * This method performs a variation of "docker-compose" (or "docker compose") loading of configuration files.
      * Since "docker-compose" and "docker compose" behave slightly differently, this method, rather than choosing one way,
@@ -79,6 +87,7 @@ public class TheDockerComposeWayBooter extends VerifiedBooter {
 
         // Then it loads from .env, but only if found.
         File dotEnvFile = new File(".env").getCanonicalFile();
+        ConfigFileStamps.lookedFor(dotEnvFile);
         if (dotEnvFile.exists()) {
             publish(l -> l.loadingConfigurationVariables(dotEnvFile));
             configVariableProcessor.addEnvironmentVariablesFromFile(dotEnvFile);
@@ -92,6 +101,7 @@ public class TheDockerComposeWayBooter extends VerifiedBooter {
         }
 
         ComposeConfig composeConfig = new ComposeConfig("compose", String.join(",", dockerComposeFilenames), projectName, configVariableProcessor, new DockerComposeContainerNamingConvention(projectName));
+        composeConfig.setURLResolver(getURLResolver());
         if (dockerComposeFilenames==null || dockerComposeFilenames.isEmpty()) {
             bootTheDockerComposeWay_DefaultFiles(fileService, composeConfig);
         } else {
@@ -116,9 +126,13 @@ public class TheDockerComposeWayBooter extends VerifiedBooter {
                 InvalidSemanticVersion,
                 PropertyNotFoundException,
                 VariableSpecContraint {
-        for(File dockerComposeFile : dockerComposeFiles) {
-            publish(l -> l.loadingComposeConfiguration(dockerComposeFile));
-            composeConfig.load(dockerComposeFile);
+        // The files don't depend on each other until they are applied, so parse them all up front.
+        try (YamlFilePrefetcher<ComposeYaml> composeYamls = new YamlFilePrefetcher<>(ComposeYaml::loadFromYamlFile)) {
+            composeYamls.prefetch(dockerComposeFiles);
+            for(File dockerComposeFile : dockerComposeFiles) {
+                publish(l -> l.loadingComposeConfiguration(dockerComposeFile));
+                composeConfig.load(dockerComposeFile, composeYamls.get(dockerComposeFile));
+            }
         }
     }
 
@@ -13,13 +13,16 @@ import com.optum.admiral.model.AdmiralServiceConfigNotFoundException;
 import com.optum.admiral.model.DockerModelController;
 import com.optum.admiral.type.exception.InvalidSemanticVersion;
 import com.optum.admiral.type.exception.VariableSpecContraint;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.util.MultipleFilesFoundException;
+import com.optum.admiral.util.URLResolver;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.function.Consumer;
 
 public abstract class VerifiedBooter implements Booter  {
@@ -27,6 +30,8 @@ public abstract class VerifiedBooter implements Booter  {
     protected final AdmiralEventPublisher admiralEventPublisher;
 
     private Admiral admiral;
+    private String notCacheableReason;
+    private URLResolver urlResolver;
 
     public VerifiedBooter(AdmiralOptions admiralOptions, AdmiralEventPublisher admiralEventPublisher) {
         this.admiralOptions = admiralOptions;
@@ -49,7 +54,21 @@ public abstract class VerifiedBooter implements Booter  {
             MultipleFilesFoundException,
             PropertyNotFoundException,
             VariableSpecContraint {
-        admiral = verifyFinalConfiguration(createComposeConfig());
+        final ComposeConfig composeConfig;
+        try (URLResolver bootURLResolver = new URLResolver(URLResolver.DEFAULT_DIRECTORY)) {
+            urlResolver = bootURLResolver;
+            if (admiralOptions.cacheBootConfiguration) {
+                composeConfig = createComposeConfigUsingCache(new BootCache(BootCache.DEFAULT_DIRECTORY, bootCacheKey()));
+            } else {
+                composeConfig = createComposeConfig();
+            }
+            for (String staleURL : bootURLResolver.getStaleURLs()) {
+                publish(l -> l.warning("Could not reach " + staleURL + ".  Using the copy cached by an earlier boot."));
+            }
+        } finally {
+            urlResolver = null;
+        }
+        admiral = verifyFinalConfiguration(composeConfig);
         return admiral;
     }
 
@@ -57,6 +76,65 @@ public abstract class VerifiedBooter implements Booter  {
             throws AdmiralConfigurationException, InvalidDependsOnException, InvalidSemanticVersion,
             IOException, MultipleFilesFoundException, VariableSpecContraint, AdmiralFileException, AdmiralURLException, InvalidBooleanException, PropertyNotFoundException, InterruptedException, InvalidEnumException;
 
+    /**
+     * What, besides the content of the files it reads and the system environment variables it loads, decides what
+     * createComposeConfig produces.
+     */
+    protected abstract String bootCacheKey() throws IOException;
+
+    /**
+     * Called by createComposeConfig when what it is producing depends on something the boot cache can't check.
+     */
+    protected void notCacheable(String reason) {
+        notCacheableReason = reason;
+    }
+
+    /**
+     * Reads the URLs this boot depends on.  One per boot, so each URL is fetched once however many times it is named.
+     */
+    protected URLResolver getURLResolver() {
+        if (urlResolver == null) {
+            // Not called through boot(), so there is no boot to share with or cache for.
+            urlResolver = new URLResolver(null);
+        }
+        return urlResolver;
+    }
+
+    ComposeConfig createComposeConfigUsingCache(BootCache bootCache)
+            throws AdmiralConfigurationException, InvalidDependsOnException, InvalidSemanticVersion,
+            IOException, MultipleFilesFoundException, VariableSpecContraint, AdmiralFileException, AdmiralURLException, InvalidBooleanException, PropertyNotFoundException, InterruptedException, InvalidEnumException {
+        // Guard
+        final ComposeConfig cachedComposeConfig = bootCache.read();
+        if (cachedComposeConfig != null) {
+            publish(l -> l.verbose("Using cached configuration: " + bootCache.getFile()));
+            return cachedComposeConfig;
+        }
+
+        // Go
+        notCacheableReason = null;
+        final ConfigFileStamps.Inputs inputs = ConfigFileStamps.startCollectingInputs();
+        final ComposeConfig composeConfig;
+        try {
+            composeConfig = createComposeConfig();
+        } finally {
+            ConfigFileStamps.stopCollectingInputs(inputs);
+        }
+
+        // Whatever was read from a URL (environment specs as well as config files) can change without the cache
+        // knowing.
+        final Collection<String> readURLs = getURLResolver().getReadURLs();
+        if (notCacheableReason == null && !readURLs.isEmpty()) {
+            notCacheable(readURLs.iterator().next() + " is a URL");
+        }
+
+        if (notCacheableReason == null) {
+            bootCache.write(composeConfig, inputs);
+        } else {
+            publish(l -> l.verbose("Configuration not cached: " + notCacheableReason));
+        }
+        return composeConfig;
+    }
+
     private Admiral verifyFinalConfiguration(ComposeConfig composeConfig)
             throws AdmiralConfigurationException, AdmiralServiceConfigNotFoundException, InvalidDependsOnException, VariableSpecContraint {
 
@@ -1,6 +1,7 @@
 package com.optum.admiral.config;
 
 import com.optum.admiral.type.ActionMonitorMarker;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.yaml.ActionMonitorFileYaml;
 import com.optum.admiral.yaml.ActionMonitorMarkerYaml;
 import com.optum.admiral.yaml.ActionMonitorYaml;
@@ -10,26 +11,100 @@ import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The compiled markers of one action monitor file.  Immutable, so one instance is shared by every service (and every
+ * replica) that names the file; where a particular container is up to is kept in its ActionMonitorTracker.
+ */
+public class ActionMonitor implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final Map<File, Cached> cache = new ConcurrentHashMap<>();
+
+    private static class Cached {
+        final long lastModified;
+        final long length;
+        final ActionMonitor actionMonitor;
+
+        Cached(long lastModified, long length, ActionMonitor actionMonitor) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.actionMonitor = actionMonitor;
+        }
+    }
 
-public class ActionMonitor {
     public final String name;
-    public final List<ActionMonitorMarker> actionMonitorMarkers = new ArrayList<>();
+    /**
+     * "match: regex" in the action monitor file treats each marker's regex as a regular expression.  Otherwise
+     * (the default, and the original behavior) it is a literal string the log line must contain.
+     */
+    public final boolean regexMode;
+    public final List<ActionMonitorMarker> actionMonitorMarkers;
+    private final List<Pattern> patterns;
+
+    public final long firstMsMarker;
+    public final long lastMsMarker;
+    public final ActionMonitorMarker lastActionMonitorMarker;
 
-    public long firstMsMarker = Long.MAX_VALUE;
-    public long lastMsMarker = Long.MIN_VALUE;
-    public ActionMonitorMarker lastActionMonitorMarker;
+    /**
+     * The action monitor for this file, parsed the first time it is asked for and again only when the file's
+     * last-modified time or length changes.
+     */
+    public static ActionMonitor of(File actionProgressFile) throws AdmiralConfigurationException, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
+        // Gather
+        final File canonicalFile;
+        try {
+            canonicalFile = actionProgressFile.getCanonicalFile();
+        } catch (IOException e) {
+            throw new AdmiralConfigurationException(actionProgressFile.toString(), "Unable to load URL");
+        }
+        final long lastModified = canonicalFile.lastModified();
+        final long length = canonicalFile.length();
+
+        // Guard
+        final Cached cached = cache.get(canonicalFile);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length) {
+            // Still an input of this boot, even though it wasn't parsed again.
+            ConfigFileStamps.read(actionProgressFile);
+            return cached.actionMonitor;
+        }
 
-    private static final SimpleDateFormat reltimeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        // Go
+        final ActionMonitor actionMonitor = new ActionMonitor(actionProgressFile);
+        cache.put(canonicalFile, new Cached(lastModified, length, actionMonitor));
+        return actionMonitor;
+    }
 
     public ActionMonitor(File actionProgressFile) throws AdmiralConfigurationException, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
         ActionMonitorFileYaml actionMonitorFileYaml = ActionMonitorFileYaml.loadFromYamlURL(actionProgressFile);
         ActionMonitorYaml actionMonitorYaml = actionMonitorFileYaml.action_monitor;
         this.name = actionMonitorYaml.name;
+        if (actionMonitorYaml.match==null || "literal".equals(actionMonitorYaml.match)) {
+            this.regexMode = false;
+        } else if ("regex".equals(actionMonitorYaml.match)) {
+            this.regexMode = true;
+        } else {
+            throw new AdmiralConfigurationException(actionProgressFile.toString(), "Bad match (must be literal or regex): " + actionMonitorYaml.match);
+        }
+
+        final SimpleDateFormat reltimeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        final List<ActionMonitorMarker> markers = new ArrayList<>();
+        final List<Pattern> compiled = new ArrayList<>();
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        ActionMonitorMarker lastMarker = null;
         for (ActionMonitorMarkerYaml actionMonitorMarkerYaml : actionMonitorYaml.markers) {
             final String reltime = actionMonitorMarkerYaml.reltime;
             try {
@@ -38,39 +113,55 @@ public class ActionMonitor {
                 final String regex = actionMonitorMarkerYaml.regex;
                 final String desc = actionMonitorMarkerYaml.desc;
                 ActionMonitorMarker actionMonitorMarker = new ActionMonitorMarker(reltimeMS, regex, desc);
-                add(actionMonitorMarker);
+                markers.add(actionMonitorMarker);
+                first = Math.min(first, reltimeMS);
+                if (reltimeMS >= last) {
+                    last = reltimeMS;
+                    lastMarker = actionMonitorMarker;
+                }
+                compiled.add((regexMode && regex!=null) ? Pattern.compile(regex) : null);
             } catch (ParseException e) {
                 throw new AdmiralConfigurationException(actionProgressFile.toString(), "Bad reltime format: " + reltime);
+            } catch (PatternSyntaxException e) {
+                throw new AdmiralConfigurationException(actionProgressFile.toString(), "Bad regex for marker at " + reltime + " (" + e.getPattern() + "): " + e.getDescription());
             }
         }
+        this.actionMonitorMarkers = Collections.unmodifiableList(markers);
+        this.patterns = Collections.unmodifiableList(compiled);
+        this.firstMsMarker = first;
+        this.lastMsMarker = last;
+        this.lastActionMonitorMarker = lastMarker;
     }
 
-    private void add(ActionMonitorMarker actionMonitorMarker) {
-        actionMonitorMarkers.add(actionMonitorMarker);
-        firstMsMarker = Math.min(firstMsMarker, actionMonitorMarker.msFromStart);
-        if (actionMonitorMarker.msFromStart >= lastMsMarker) {
-            lastMsMarker = actionMonitorMarker.msFromStart;
-            lastActionMonitorMarker = actionMonitorMarker;
-        }
+    /**
+     * Checks just this monitor, as if this were the first line it had seen.  To check all of a service's monitors
+     * for a container, ActionMonitorMatcher does it in one pass.
+     */
+    public ActionProgress checkForProgress(String logLine) {
+        return checkForProgress(logLine, new ActionMonitorTracker(1), 0);
     }
 
-    public ActionProgress checkForProgress(String logLine) {
-        for(ActionMonitorMarker actionMonitorMarker : actionMonitorMarkers) {
-            if (logLine.contains(actionMonitorMarker.regex)) {
-                return progressAt(actionMonitorMarker);
+    /**
+     * The compiled regex of this marker, or null when this monitor matches literally.
+     */
+    Pattern patternOf(int marker) {
+        return patterns.get(marker);
+    }
+
+    ActionProgress checkForProgress(String logLine, ActionMonitorTracker tracker, int monitor) {
+        for (int i = 0; i < actionMonitorMarkers.size(); i++) {
+            final ActionMonitorMarker actionMonitorMarker = actionMonitorMarkers.get(i);
+            final boolean found = regexMode
+                    ? patterns.get(i).matcher(logLine).find()
+                    : logLine.contains(actionMonitorMarker.regex);
+            if (found) {
+                return tracker.progressAt(monitor, this, actionMonitorMarker);
             }
         }
         return null;
     }
 
-    public long firstMonitorTime = Long.MAX_VALUE;
-
-    private ActionProgress progressAt(ActionMonitorMarker actionMonitorMarker) {
-        long nowTime = new Date().getTime();
-        // If we don't have a firstMonitorTime, or if we just detected the first ActionMonitorMarker, (re)set.
-        if (firstMonitorTime==Long.MAX_VALUE || actionMonitorMarker.msFromStart==firstMsMarker) {
-            firstMonitorTime = nowTime;
-        }
+    ActionProgress progressAt(ActionMonitorMarker actionMonitorMarker, long firstMonitorTime, long nowTime) {
         ActionProgress actionProgress = new ActionProgress();
         actionProgress.actionName = name;
         actionProgress.matched = actionMonitorMarker.regex;
@@ -0,0 +1,311 @@
+package com.optum.admiral.config;
+
+import com.optum.admiral.type.ActionMonitorMarker;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Every marker of every ActionMonitor of a service, compiled once, so that a log line is checked against all of them
+ * in a single pass instead of one contains() per marker per monitor.
+ *
+ * Literal markers (the default) go into an Aho-Corasick automaton.  Markers of monitors with "match: regex" go into
+ * one combined regex of optional lookaheads, one capturing group per marker.  Pasting a regex into another renumbers its
+ * groups, so one with backreferences, named groups or inline flags is matched on its own instead.
+ *
+ * The answer is the same as calling ActionMonitor.checkForProgress on each monitor in turn: at most one progress per
+ * monitor, for the first of its markers (in file order) found in the line.
+ *
+ * A matcher holds no per-run state, so it is shared by all of a service's containers.  Each container brings its own
+ * ActionMonitorTracker (see newTracker).
+ */
+public class ActionMonitorMatcher implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<ActionMonitor> actionMonitors;
+
+    /**
+     * Marker ids are assigned in monitor order, then marker order, so the lowest matching id of a monitor is the
+     * marker its own checkForProgress would have picked.
+     */
+    private final ActionMonitorMarker[] markers;
+    private final int[] monitorOf;
+
+    // Aho-Corasick automaton over the literal markers.  State 0 is the root.
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[][] outputs;
+
+    private final Pattern combinedRegex;
+    private final int[] regexIds;
+    private final int[] regexGroups;
+    private final int[] singleIds;
+    private final Pattern[] singlePatterns;
+
+    public ActionMonitorMatcher(List<ActionMonitor> actionMonitors) {
+        this.actionMonitors = actionMonitors;
+
+        // Gather
+        final List<ActionMonitorMarker> allMarkers = new ArrayList<>();
+        final List<Integer> owners = new ArrayList<>();
+        final List<Integer> literalIds = new ArrayList<>();
+        final List<Integer> regexIdList = new ArrayList<>();
+        final List<Integer> singleIdList = new ArrayList<>();
+        final List<Pattern> singlePatternList = new ArrayList<>();
+        for (int m = 0; m < actionMonitors.size(); m++) {
+            final ActionMonitor actionMonitor = actionMonitors.get(m);
+            for (int i = 0; i < actionMonitor.actionMonitorMarkers.size(); i++) {
+                final ActionMonitorMarker actionMonitorMarker = actionMonitor.actionMonitorMarkers.get(i);
+                if (actionMonitorMarker.regex == null)
+                    continue;
+                final int id = allMarkers.size();
+                allMarkers.add(actionMonitorMarker);
+                owners.add(m);
+                if (!actionMonitor.regexMode) {
+                    literalIds.add(id);
+                } else if (isCombinable(actionMonitorMarker.regex)) {
+                    regexIdList.add(id);
+                } else {
+                    singleIdList.add(id);
+                    singlePatternList.add(actionMonitor.patternOf(i));
+                }
+            }
+        }
+        markers = allMarkers.toArray(new ActionMonitorMarker[0]);
+        monitorOf = owners.stream().mapToInt(Integer::intValue).toArray();
+
+        // Trie
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieOutputs.add(new ArrayList<>());
+        for (int id : literalIds) {
+            int state = 0;
+            for (char c : markers[id].regex.toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trieOutputs.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            trieOutputs.get(state).add(id);
+        }
+
+        final int states = trie.size();
+        edgeChars = new char[states][];
+        edgeTargets = new int[states][];
+        for (int s = 0; s < states; s++) {
+            final TreeMap<Character, Integer> edges = trie.get(s);
+            edgeChars[s] = new char[edges.size()];
+            edgeTargets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[s][i] = edge.getKey();
+                edgeTargets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Failure links, breadth first, with each state's outputs merged with those of its failure state.
+        failure = new int[states];
+        outputs = new int[states][];
+        outputs[0] = toArray(trieOutputs.get(0));
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : edgeTargets[0]) {
+            failure[target] = 0;
+            outputs[target] = merge(trieOutputs.get(target), outputs[0]);
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            final int s = queue.poll();
+            for (int i = 0; i < edgeChars[s].length; i++) {
+                final char c = edgeChars[s][i];
+                final int target = edgeTargets[s][i];
+                int f = failure[s];
+                while (f != 0 && next(f, c) < 0) {
+                    f = failure[f];
+                }
+                final int fallback = next(f, c);
+                failure[target] = (fallback < 0 || fallback == target) ? 0 : fallback;
+                outputs[target] = merge(trieOutputs.get(target), outputs[failure[target]]);
+                queue.add(target);
+            }
+        }
+
+        // Combined regex.  Each marker was already compiled on its own by its ActionMonitor, which is where a bad
+        // one is reported; if they still don't combine, match them all one at a time.
+        // Only the lookahead's own prefix is DOTALL, so each marker's "." means what it does on its own.  A marker's
+        // group comes after the groups of the markers before it, which is how its number is known up front.
+        Pattern combined = null;
+        final List<Integer> regexGroupList = new ArrayList<>();
+        if (!regexIdList.isEmpty()) {
+            final StringBuilder sb = new StringBuilder("^");
+            int group = 1;
+            for (int id : regexIdList) {
+                sb.append("(?:(?=(?s:.*?)(").append(markers[id].regex).append(")))?");
+                regexGroupList.add(group);
+                group += 1 + Pattern.compile(markers[id].regex).matcher("").groupCount();
+            }
+            try {
+                combined = Pattern.compile(sb.toString());
+            } catch (PatternSyntaxException e) {
+                for (int id : regexIdList) {
+                    singleIdList.add(id);
+                    singlePatternList.add(Pattern.compile(markers[id].regex));
+                }
+                regexIdList.clear();
+                regexGroupList.clear();
+            }
+        }
+        combinedRegex = combined;
+        regexIds = toArray(regexIdList);
+        regexGroups = toArray(regexGroupList);
+        singleIds = toArray(singleIdList);
+        singlePatterns = singlePatternList.toArray(new Pattern[0]);
+    }
+
+    /**
+     * Whether this regex means the same inside the combined regex as it does on its own: no backreferences (by number
+     * or by name), no named groups, and no inline flags (which could turn on comments and swallow the rest).  Erring
+     * on the side of no only costs a separate match.
+     */
+    static boolean isCombinable(String regex) {
+        for (int i = 0, n = regex.length(); i < n; i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < n) {
+                final char escaped = regex.charAt(++i);
+                if (Character.isDigit(escaped) || escaped == 'k')
+                    return false;
+                if (escaped == 'Q') {
+                    final int end = regex.indexOf("\\E", i);
+                    if (end < 0)
+                        return true;
+                    i = end + 1;
+                }
+            } else if (c == '(' && i + 2 < n && regex.charAt(i + 1) == '?') {
+                final char kind = regex.charAt(i + 2);
+                if (kind == '<' && i + 3 < n && Character.isLetter(regex.charAt(i + 3)))
+                    return false;
+                if (Character.isLetter(kind) || kind == '-')
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        final int[] merged = Arrays.copyOf(toArray(own), own.size() + inherited.length);
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+
+    private int next(int state, char c) {
+        final int i = Arrays.binarySearch(edgeChars[state], c);
+        return (i < 0) ? -1 : edgeTargets[state][i];
+    }
+
+    public boolean isEmpty() {
+        return markers.length == 0;
+    }
+
+    /**
+     * Fresh timing state for one container (or monitored log file) checked against this matcher.
+     */
+    public ActionMonitorTracker newTracker() {
+        return new ActionMonitorTracker(actionMonitors.size());
+    }
+
+    /**
+     * As if this were the first line seen.  A streamer uses checkForProgress(logLine, tracker) instead.
+     */
+    public List<ActionProgress> checkForProgress(String logLine) {
+        return checkForProgress(logLine, newTracker());
+    }
+
+    /**
+     * Returns the progress of every monitor that has a marker in this line (usually none, in which case nothing is
+     * allocated).
+     */
+    public List<ActionProgress> checkForProgress(String logLine, ActionMonitorTracker tracker) {
+        // Guard
+        if (markers.length == 0)
+            return Collections.emptyList();
+
+        // Go
+        int[] best = null;
+        int state = 0;
+        if (outputs[0].length > 0) {
+            best = record(best, outputs[0]);
+        }
+        for (int i = 0, n = logLine.length(); i < n; i++) {
+            final char c = logLine.charAt(i);
+            int target = next(state, c);
+            while (target < 0 && state != 0) {
+                state = failure[state];
+                target = next(state, c);
+            }
+            state = (target < 0) ? 0 : target;
+            if (outputs[state].length > 0) {
+                best = record(best, outputs[state]);
+            }
+        }
+
+        if (combinedRegex != null) {
+            final Matcher matcher = combinedRegex.matcher(logLine);
+            if (matcher.lookingAt()) {
+                for (int i = 0; i < regexIds.length; i++) {
+                    if (matcher.start(regexGroups[i]) >= 0) {
+                        best = record(best, new int[] { regexIds[i] });
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < singleIds.length; i++) {
+            if (singlePatterns[i].matcher(logLine).find()) {
+                best = record(best, new int[] { singleIds[i] });
+            }
+        }
+
+        if (best == null)
+            return Collections.emptyList();
+
+        final List<ActionProgress> progress = new ArrayList<>();
+        for (int m = 0; m < best.length; m++) {
+            if (best[m] != Integer.MAX_VALUE) {
+                progress.add(tracker.progressAt(m, actionMonitors.get(m), markers[best[m]]));
+            }
+        }
+        return progress;
+    }
+
+    private int[] record(int[] best, int[] ids) {
+        if (best == null) {
+            best = new int[actionMonitors.size()];
+            Arrays.fill(best, Integer.MAX_VALUE);
+        }
+        for (int id : ids) {
+            final int m = monitorOf[id];
+            best[m] = Math.min(best[m], id);
+        }
+        return best;
+    }
+}
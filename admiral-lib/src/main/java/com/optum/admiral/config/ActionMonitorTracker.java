@@ -0,0 +1,38 @@
+package com.optum.admiral.config;
+
+import com.optum.admiral.type.ActionMonitorMarker;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Where one container is up to in each of its action monitors.  The monitors themselves are shared by every service
+ * and replica that uses them, so the timing of a run lives here instead: one tracker per container (or per monitored
+ * log file), shared by its stdout and stderr streams.
+ */
+public class ActionMonitorTracker {
+    private final long[] firstMonitorTimes;
+    private final LongSupplier clock;
+
+    ActionMonitorTracker(int monitors) {
+        this(monitors, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock The current time in milliseconds.
+     */
+    ActionMonitorTracker(int monitors, LongSupplier clock) {
+        this.firstMonitorTimes = new long[monitors];
+        this.clock = clock;
+        Arrays.fill(firstMonitorTimes, Long.MAX_VALUE);
+    }
+
+    synchronized ActionProgress progressAt(int monitor, ActionMonitor actionMonitor, ActionMonitorMarker actionMonitorMarker) {
+        final long nowTime = clock.getAsLong();
+        // If we don't have a firstMonitorTime, or if we just detected the first ActionMonitorMarker, (re)set.
+        if (firstMonitorTimes[monitor]==Long.MAX_VALUE || actionMonitorMarker.msFromStart==actionMonitor.firstMsMarker) {
+            firstMonitorTimes[monitor] = nowTime;
+        }
+        return actionMonitor.progressAt(actionMonitorMarker, firstMonitorTimes[monitor], nowTime);
+    }
+}
@@ -7,6 +7,7 @@ import com.optum.admiral.yaml.NetworkYaml;
 import com.optum.admiral.yaml.YamlParserHelper;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,7 +37,9 @@ import java.util.Map;
  *   ComposeNetworkReferenceName = "notmynetwork"
  *   isExternal = true
  */
-public class AdmiralNetworkConfig {
+public class AdmiralNetworkConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final DockerComposeNetworkName dockerComposeNetworkName;
 
     private Map<String, String> labels = new HashMap<>();
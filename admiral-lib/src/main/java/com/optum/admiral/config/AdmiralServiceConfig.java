@@ -22,6 +22,7 @@ import com.optum.admiral.type.Volume;
 import com.optum.admiral.type.exception.InvalidSemanticVersion;
 import com.optum.admiral.type.exception.VariableSpecContraint;
 import com.optum.admiral.util.FileService;
+import com.optum.admiral.util.URLResolver;
 import com.optum.admiral.yaml.CommandsYaml;
 import com.optum.admiral.yaml.ServiceYamlTweakableSupplier;
 import com.optum.admiral.yaml.TweaksYaml;
@@ -42,6 +43,7 @@ import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -53,7 +55,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
-public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<AdmiralServiceConfig> {
+public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<AdmiralServiceConfig>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String name;
     private Assume assume = Assume.DONOT;
     private Commands commands = Commands.AUTO;
@@ -66,13 +70,14 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
     private final List<String> entrypoint = new ArrayList<>();
     private EnvironmentSpecification environmentSpecification;
     private final List<ActionMonitor> actionMonitors = new ArrayList<>();
+    private ActionMonitorMatcher actionMonitorMatcher;
     private final List<LogMonitor> logMonitors = new ArrayList<>();
     private final List<ServiceYaml> sources = new ArrayList<>();
     private final Set<String> showVariables = new HashSet<>();
     private final Set<String> serviceGroups = new HashSet<>();
     private final Map<String, NetworkRef> networks = new HashMap<>();
 
-    // This is reset with each config load.
+    // Each applied ServiceYaml adds to this; it is only rebuilt if the config variables change.
     private ContainerParameterProcessor containerParameterProcessor;
 
     public AdmiralServiceConfig(final String name) {
@@ -218,6 +223,14 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
 
     public void applyServiceYaml(FileService fileService, ServiceYaml serviceYaml, ConfigVariableProcessor configVariableProcessor) throws
             AdmiralConfigurationException, InvalidSemanticVersion, VariableSpecContraint, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
+        applyServiceYaml(fileService, serviceYaml, configVariableProcessor, new URLResolver(null));
+    }
+
+    /**
+     * @param urlResolver Reads the x-admiral_environment_specs URLs.
+     */
+    public void applyServiceYaml(FileService fileService, ServiceYaml serviceYaml, ConfigVariableProcessor configVariableProcessor, URLResolver urlResolver) throws
+            AdmiralConfigurationException, InvalidSemanticVersion, VariableSpecContraint, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
         sources.add(serviceYaml);
 
         YamlParserHelper yph = new YamlParserHelper(configVariableProcessor);
@@ -228,7 +241,7 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
         applyServiceYaml_DependsOn(serviceYaml, false);
         applyServiceYaml_DeployConfig(serviceYaml);
         applyServiceYaml_Entrypoint(serviceYaml);
-        applyServiceYaml_EnvironmentSpecs(serviceYaml, yph);
+        applyServiceYaml_EnvironmentSpecs(serviceYaml, yph, urlResolver);
         applyServiceYaml_ExposedPorts(serviceYaml, yph, false);
         applyServiceYaml_ExtraHosts(serviceYaml);
         applyServiceYaml_HealthCheck(serviceYaml, yph);
@@ -245,10 +258,10 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
         applyServiceYaml_Volumes(serviceYaml, yph, fileService);
         applyServiceYaml_VolumesFrom(serviceYaml);
 
-        thenReprocessEnvironmentVariables(configVariableProcessor);
+        thenApplyEnvironmentVariables(serviceYaml, configVariableProcessor);
     }
 
-    private void applyServiceYaml_EnvironmentSpecs(ServiceYaml serviceYaml, YamlParserHelper yph)
+    private void applyServiceYaml_EnvironmentSpecs(ServiceYaml serviceYaml, YamlParserHelper yph, URLResolver urlResolver)
             throws AdmiralConfigurationException, InvalidSemanticVersion, VariableSpecContraint, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
         if (!serviceYaml.x_admiral_environment_specs.isEmpty()) {
             if (environmentSpecification == null) {
@@ -262,7 +275,7 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
                 } catch (MalformedURLException e) {
                     throw new AdmiralConfigurationException(name, "Bad URL: " + environmentSpecString);
                 }
-                EnvironmentSpecificationYaml environmentSpecificationYaml = EnvironmentSpecificationYaml.loadFromYamlURL(environmentSpecURL);
+                EnvironmentSpecificationYaml environmentSpecificationYaml = EnvironmentSpecificationYaml.loadFromYamlURL(urlResolver, environmentSpecURL);
                 environmentSpecification.addVariables(yph, environmentSpecificationYaml.getVariables());
             }
         }
@@ -270,9 +283,16 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
 
     private void applyServiceYaml_PostCreateExecute(ServiceYaml serviceYaml, YamlParserHelper yph) throws AdmiralConfigurationException {
         for(ExecuteHookYaml executeHookYaml : serviceYaml.x_admiral_post_create_execute) {
+            final long timeout;
+            if (executeHookYaml.timeout != null) {
+                timeout = new Duration(yph.getS(executeHookYaml.timeout)).getMS();
+            } else {
+                timeout = 0;
+            }
             postExecuteHooks.add(new ExecuteHook(yph.getS(executeHookYaml.id),
                     yph.getS(executeHookYaml.cmd),
-                    yph.getS(executeHookYaml.working_dir)));
+                    yph.getS(executeHookYaml.working_dir),
+                    timeout));
         }
     }
 
@@ -320,7 +340,8 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
         for(String action_monitor : serviceYaml.x_admiral_action_monitors) {
             if (action_monitor==null || action_monitor.isEmpty())
                 throw new AdmiralConfigurationException("", "Blank x-admiral_action_monitors: lines are not allowed.");
-            actionMonitors.add(new ActionMonitor(fileService.relativeFile(action_monitor)));
+            actionMonitors.add(ActionMonitor.of(fileService.relativeFile(action_monitor)));
+            actionMonitorMatcher = null;
         }
     }
 
@@ -499,37 +520,43 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
         this.deployConfig = new DeployConfig(serviceYaml.deploy.replicas);
     }
 
-    private void thenReprocessEnvironmentVariables(ConfigVariableProcessor configVariableProcessor) throws AdmiralConfigurationException {
-        // Each time a new serviceYaml is applied we have to rebuild, since all env_vars must process before any environment.
-        containerEnvironmentVariables.clear();
-
-        containerParameterProcessor = new ContainerParameterProcessor(configVariableProcessor);
-
-        // env_file section processing is first
-        for(ServiceYaml sy : sources) {
-            for(String envFile : sy.getEnvFiles()) {
-                File envFilePath = sy.getRelativePathForEnvFile(envFile);
-                try {
-                    containerParameterProcessor.addContainerEnvironmentVariablesFromFileNamed(envFilePath);
-                } catch (IOException e) {
-                    // TODO - rethrow intelligent yaml error.
-                    System.out.println("Error loading properties from " + envFilePath);
-                    e.printStackTrace();
-                }
+    /**
+     * Only serviceYaml's own env_file and environment are added.  The ContainerParameterProcessor keeps environment
+     * ahead of env_file no matter which ServiceYaml each came from, so nothing applied earlier needs redoing.
+     */
+    private void thenApplyEnvironmentVariables(ServiceYaml serviceYaml, ConfigVariableProcessor configVariableProcessor) throws AdmiralConfigurationException {
+        if (containerParameterProcessor == null || !containerParameterProcessor.isUsing(configVariableProcessor)) {
+            // Values are evaluated against the config variables, so different config variables mean starting over.
+            containerParameterProcessor = new ContainerParameterProcessor(configVariableProcessor);
+            for(ServiceYaml sy : sources) {
+                applyEnvironmentVariables(sy);
             }
+        } else {
+            applyEnvironmentVariables(serviceYaml);
         }
 
-        // environment section processing is second, because these must override values set in env_file
-        for(ServiceYaml sy : sources) {
-            final String source = sy.getParent().getSourceFile().getPath();
-            for(Map.Entry<String, String> entry : sy.getEnvironmentVariables().entrySet()) {
-                final String key = entry.getKey();
-                final String value = entry.getValue();
-                containerParameterProcessor.addEnvironmentVariable(key, value, source);
+        containerEnvironmentVariables.clear();
+        containerEnvironmentVariables.putAll(containerParameterProcessor.getData());
+    }
+
+    private void applyEnvironmentVariables(ServiceYaml sy) throws AdmiralConfigurationException {
+        for(String envFile : sy.getEnvFiles()) {
+            File envFilePath = sy.getRelativePathForEnvFile(envFile);
+            try {
+                containerParameterProcessor.addContainerEnvironmentVariablesFromFileNamed(envFilePath);
+            } catch (IOException e) {
+                // TODO - rethrow intelligent yaml error.
+                System.out.println("Error loading properties from " + envFilePath);
+                e.printStackTrace();
             }
         }
 
-        containerEnvironmentVariables.putAll(containerParameterProcessor.getData());
+        final String source = sy.getParent().getSourceFile().getPath();
+        for(Map.Entry<String, String> entry : sy.getEnvironmentVariables().entrySet()) {
+            final String key = entry.getKey();
+            final String value = entry.getValue();
+            containerParameterProcessor.addEnvironmentVariable(key, value, source);
+        }
     }
 
     private void applyServiceYaml_Networks(ServiceYaml serviceYaml) {
@@ -584,6 +611,16 @@ public class AdmiralServiceConfig implements AdmiralContainerConfig, Comparable<
         return actionMonitors;
     }
 
+    /**
+     * All of this service's action monitors compiled into one matcher, built the first time it is needed.
+     */
+    public synchronized ActionMonitorMatcher getActionMonitorMatcher() {
+        if (actionMonitorMatcher == null) {
+            actionMonitorMatcher = new ActionMonitorMatcher(actionMonitors);
+        }
+        return actionMonitorMatcher;
+    }
+
     public List<LogMonitor> getLogMonitors() {
         return logMonitors;
     }
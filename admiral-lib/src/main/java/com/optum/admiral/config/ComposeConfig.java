@@ -10,24 +10,33 @@ import com.optum.admiral.type.Dependant;
 import com.optum.admiral.type.exception.InvalidSemanticVersion;
 import com.optum.admiral.type.exception.VariableSpecContraint;
 import com.optum.admiral.util.FileService;
+import com.optum.admiral.util.URLResolver;
 import com.optum.admiral.yaml.ComposeYaml;
 import com.optum.admiral.yaml.NetworkYaml;
 import com.optum.admiral.yaml.ServiceYaml;
+import com.optum.admiral.yaml.YamlParserHelper;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 
 import java.io.File;
+import java.io.Serializable;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
-public class ComposeConfig implements ContainerNamingConvention {
+public class ComposeConfig implements ContainerNamingConvention, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private static final String DEFAULT = "default";
 
     private final String sourceType;
@@ -37,11 +46,13 @@ public class ComposeConfig implements ContainerNamingConvention {
     private final ConfigVariableProcessor configVariableProcessor;
 
     private final Map<String, AdmiralServiceConfig> services = new TreeMap<>();
-    private Collection<AdmiralServiceConfig> servicesReadOnlyValues;
+    private transient Collection<AdmiralServiceConfig> servicesReadOnlyValues;
     private final Map<String, AdmiralNetworkConfig> networks = new TreeMap<>();
 
     private final GroupEngine groupEngine = new GroupEngine(this);
 
+    private transient URLResolver urlResolver;
+
     public GroupEngine getGroupEngine() {
         return groupEngine;
     }
@@ -58,6 +69,10 @@ public class ComposeConfig implements ContainerNamingConvention {
         return projectName;
     }
 
+    public ConfigVariableProcessor getConfigVariableProcessor() {
+        return configVariableProcessor;
+    }
+
     /**
      * TODO:  Only used by Spec.  Needs to switch to applyServiceYaml
      */
@@ -71,6 +86,10 @@ public class ComposeConfig implements ContainerNamingConvention {
     }
 
     public Collection<AdmiralServiceConfig> getServices() throws AdmiralServiceConfigNotFoundException {
+        if (servicesReadOnlyValues == null) {
+            // A ComposeConfig read back from the boot cache.
+            servicesReadOnlyValues = Collections.unmodifiableMap(services).values();
+        }
         if (servicesReadOnlyValues.isEmpty()) {
             throw new AdmiralServiceConfigNotFoundException(null);
         }
@@ -141,6 +160,20 @@ public class ComposeConfig implements ContainerNamingConvention {
         return containerNamingConvention.calculateContainerName(serviceName, replicaInstance);
     }
 
+    /**
+     * The booter's URLResolver, so every compose file of a boot shares its fetches.
+     */
+    public void setURLResolver(URLResolver urlResolver) {
+        this.urlResolver = urlResolver;
+    }
+
+    private URLResolver getURLResolver() {
+        if (urlResolver == null) {
+            urlResolver = new URLResolver(null);
+        }
+        return urlResolver;
+    }
+
     public Map<String, ConfigVariableProcessor.Entry> getData() {
         return configVariableProcessor.getData();
     }
@@ -149,7 +182,7 @@ public class ComposeConfig implements ContainerNamingConvention {
             throws AdmiralConfigurationException, InvalidSemanticVersion, VariableSpecContraint, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
         AdmiralServiceConfig admiralServiceConfig = services.computeIfAbsent(serviceName,
             k -> new AdmiralServiceConfig(serviceName));
-        admiralServiceConfig.applyServiceYaml(fileService, serviceYaml, variableProcessor);
+        admiralServiceConfig.applyServiceYaml(fileService, serviceYaml, variableProcessor, getURLResolver());
     }
 
     public void applyNetworkYaml(ConfigVariableProcessor variableProcessor, String networkName, NetworkYaml networkYaml)
@@ -168,10 +201,26 @@ public class ComposeConfig implements ContainerNamingConvention {
                 InvalidSemanticVersion,
                 PropertyNotFoundException,
                 VariableSpecContraint {
+        load(composeFile, ComposeYaml.loadFromYamlFile(composeFile));
+    }
+
+    /**
+     * Apply a compose file that has already been parsed (see YamlFilePrefetcher).
+     */
+    public void load(File composeFile, ComposeYaml composeYaml)
+            throws
+                AdmiralConfigurationException,
+                AdmiralFileException,
+            InvalidEnumException,
+                InvalidBooleanException,
+                InvalidSemanticVersion,
+                PropertyNotFoundException,
+                VariableSpecContraint {
         // Go
-        final ComposeYaml composeYaml = ComposeYaml.loadFromYamlFile(composeFile);
         final FileService fileService = FileService.getFileServiceForContainingDirectoryOf(composeFile);
 
+        prefetchEnvironmentSpecs(composeYaml);
+
         for (Map.Entry<String, ServiceYaml> service : composeYaml.services.entrySet()) {
             // Gather
             final String serviceName = service.getKey();
@@ -192,6 +241,32 @@ public class ComposeConfig implements ContainerNamingConvention {
         }
     }
 
+    /**
+     * Start fetching every environment spec this file's services name, so they arrive side by side rather than one
+     * service at a time.  A spec that doesn't evaluate to a URL is left for applyServiceYaml to report.
+     */
+    private void prefetchEnvironmentSpecs(ComposeYaml composeYaml) {
+        // Gather
+        final YamlParserHelper yph = new YamlParserHelper(configVariableProcessor);
+        final Set<URL> urls = new LinkedHashSet<>();
+        for (ServiceYaml serviceYaml : composeYaml.services.values()) {
+            for (String spec : serviceYaml.x_admiral_environment_specs) {
+                try {
+                    urls.add(new URL(yph.getS(spec)));
+                } catch (AdmiralConfigurationException | MalformedURLException e) {
+                    // Eat it - applyServiceYaml reports it in context.
+                }
+            }
+        }
+
+        // Guard
+        if (urls.isEmpty())
+            return;
+
+        // Go
+        getURLResolver().prefetch(urls);
+    }
+
     public void verifyServiceDependsOn() throws InvalidDependsOnException {
         List<InvalidDependsOnException.InvalidDependsOn> errors = new ArrayList<>();
         for(AdmiralServiceConfig admiralServiceConfig : services.values()) {
@@ -1,6 +1,10 @@
 package com.optum.admiral.config;
 
-public class DeployConfig {
+import java.io.Serializable;
+
+public class DeployConfig implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     final int replicas;
     public DeployConfig(int replicas) {
         this.replicas = replicas;
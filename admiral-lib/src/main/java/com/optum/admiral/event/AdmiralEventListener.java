@@ -48,6 +48,8 @@ public interface AdmiralEventListener {
     void dockerEngineConnected();
     void dockerEngineConnecting();
     void dockerEngineDisconnected();
+    void dockerEngineContainerEvent(String containerName, String action);
+    void dockerEngineNetworkEvent(String networkFullName, String action);
 
     void imagePulling(String imageName);
     void imagePullingProgressMessage(ProgressMessage progressMessage);
@@ -4,4 +4,11 @@ import java.util.function.Consumer;
 
 public interface AdmiralEventPublisher {
     void publish(Consumer<AdmiralEventListener> event);
+
+    /**
+     * Waits until every event published so far has reached the listeners.  Publishers that deliver right away have
+     * nothing to wait for.
+     */
+    default void flush() {
+    }
 }
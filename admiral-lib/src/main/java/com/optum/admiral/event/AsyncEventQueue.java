@@ -0,0 +1,108 @@
+package com.optum.admiral.event;
+
+import com.optum.admiral.util.NamedThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+/**
+ * Delivers one listener's events on a thread of its own, in the order they were published.
+ *
+ * The events wait in a bounded ring (an ArrayBlockingQueue) with this queue's thread as its only consumer.  A publisher
+ * only waits when the listener has fallen CAPACITY events behind.  An event published by the listener itself is
+ * delivered right away, since waiting on its own thread would never end.
+ */
+class AsyncEventQueue {
+    static final int CAPACITY = 8192;
+
+    private static final NamedThreadFactory threadFactory = new NamedThreadFactory("AdmiralEvents");
+    private static final Consumer<AdmiralEventListener> STOP = l -> {};
+
+    private final AdmiralEventListener listener;
+    private final BlockingQueue<Consumer<AdmiralEventListener>> events = new ArrayBlockingQueue<>(CAPACITY);
+    private final Thread thread;
+    private volatile boolean closed = false;
+
+    AsyncEventQueue(AdmiralEventListener listener) {
+        this.listener = listener;
+        this.thread = threadFactory.newThread(this::run);
+        thread.start();
+    }
+
+    void enqueue(Consumer<AdmiralEventListener> event) {
+        // Guard
+        if (closed || Thread.currentThread() == thread) {
+            event.accept(listener);
+            return;
+        }
+
+        // Go
+        try {
+            events.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            event.accept(listener);
+        }
+    }
+
+    /**
+     * Returns once every event enqueued before this call has been delivered.
+     */
+    void flush() {
+        // Guard
+        if (closed || Thread.currentThread() == thread)
+            return;
+
+        // Go
+        final CountDownLatch delivered = new CountDownLatch(1);
+        enqueue(l -> delivered.countDown());
+        try {
+            delivered.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Delivers what is already queued, then stops the thread.  Anything enqueued afterwards is delivered right away.
+     */
+    void close() {
+        flush();
+        closed = true;
+        try {
+            events.put(STOP);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            final Consumer<AdmiralEventListener> event;
+            try {
+                event = events.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == STOP) {
+                // A publisher that saw this queue open just before it closed may have slipped one in behind STOP.
+                Consumer<AdmiralEventListener> straggler;
+                while ((straggler = events.poll()) != null) {
+                    deliver(straggler);
+                }
+                return;
+            }
+            deliver(event);
+        }
+    }
+
+    private void deliver(Consumer<AdmiralEventListener> event) {
+        try {
+            event.accept(listener);
+        } catch (RuntimeException e) {
+            // A listener that throws only loses that one event; its queue keeps draining.
+        }
+    }
+}
@@ -7,14 +7,20 @@ import com.optum.admiral.io.PrintStreamOutputWriter;
 import com.optum.admiral.io.ProgressMessageRenderer;
 import com.optum.admiral.preferences.OutputPreferences;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
 /**
  * No reason for this code to be embedded in another business object.
  *
  * "Does one thing."
+ *
+ * By default each listener is called on the publishing thread.  When asynchronous, each listener instead gets its own
+ * AsyncEventQueue, so publishing doesn't wait on console output; flush() waits until everything published so far has
+ * been delivered.
  */
 public class SimpleAdmiralEventPublisher implements AdmiralEventPublisher {
 
@@ -31,27 +37,74 @@ public class SimpleAdmiralEventPublisher implements AdmiralEventPublisher {
         setAdmiralEventListener(admiralEventListener);
     }
 
-    private final List<AdmiralEventListener> admiralEventListenerList = new ArrayList<>();
+    private final List<AdmiralEventListener> admiralEventListenerList = new CopyOnWriteArrayList<>();
+    private final Map<AdmiralEventListener, AsyncEventQueue> asyncEventQueues = new ConcurrentHashMap<>();
+    private boolean asynchronous = false;
 
-    public void setAdmiralEventListener(AdmiralEventListener admiralEventListener) {
+    public synchronized void setAsynchronous(boolean asynchronous) {
+        // Guard
+        if (this.asynchronous == asynchronous)
+            return;
+
+        // Go
+        this.asynchronous = asynchronous;
+        for (AdmiralEventListener admiralEventListener : admiralEventListenerList) {
+            if (asynchronous) {
+                asyncEventQueues.put(admiralEventListener, new AsyncEventQueue(admiralEventListener));
+            } else {
+                closeQueue(admiralEventListener);
+            }
+        }
+    }
+
+    public synchronized void setAdmiralEventListener(AdmiralEventListener admiralEventListener) {
         // Guard
         if (admiralEventListener == null) {
             throw new IllegalArgumentException("AdmiralEventListener is being set to null.");
         }
 
         // Go
+        for (AdmiralEventListener previous : admiralEventListenerList) {
+            closeQueue(previous);
+        }
         admiralEventListenerList.clear();
         admiralEventListenerList.add(admiralEventListener);
+        if (asynchronous) {
+            asyncEventQueues.put(admiralEventListener, new AsyncEventQueue(admiralEventListener));
+        }
     }
 
-    public void removeAdmiralEventListener(AdmiralEventListener admiralEventListener) {
+    public synchronized void removeAdmiralEventListener(AdmiralEventListener admiralEventListener) {
         admiralEventListenerList.remove(admiralEventListener);
+        closeQueue(admiralEventListener);
+    }
+
+    /**
+     * Anything already queued for the listener is still delivered to it.
+     */
+    private void closeQueue(AdmiralEventListener admiralEventListener) {
+        final AsyncEventQueue asyncEventQueue = asyncEventQueues.remove(admiralEventListener);
+        if (asyncEventQueue != null) {
+            asyncEventQueue.close();
+        }
     }
 
     @Override
     public void publish(Consumer<AdmiralEventListener> event) {
         for (AdmiralEventListener admiralEventListener : admiralEventListenerList) {
-            event.accept(admiralEventListener);
+            final AsyncEventQueue asyncEventQueue = asyncEventQueues.get(admiralEventListener);
+            if (asyncEventQueue == null) {
+                event.accept(admiralEventListener);
+            } else {
+                asyncEventQueue.enqueue(event);
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        for (AsyncEventQueue asyncEventQueue : asyncEventQueues.values()) {
+            asyncEventQueue.flush();
         }
     }
 
@@ -16,7 +16,7 @@ public class AdmiralLogStreamerListener implements LogStreamerListener {
     }
 
     @Override
-    public void addLine_OnLogStreamerThread(String containerName, String streamName, String line) {
+    public void addLine_OnListenerThread(String containerName, String streamName, String line) {
         if ("stderr".equals(streamName)) {
             if (!outputPreferences.showStderr)
                 return;
@@ -30,11 +30,11 @@ public class AdmiralLogStreamerListener implements LogStreamerListener {
     }
 
     @Override
-    public void detectedProgress_OnLogStreamerThread(String streamName, ActionProgress actionProgress) {
+    public void detectedProgress_OnListenerThread(String streamName, ActionProgress actionProgress) {
         admiralEventListener.logStreamProgress(containerName, streamName, actionProgress);
     }
 
     @Override
-    public void disconnected_OnLogStreamerThread() {
+    public void disconnected_OnListenerThread() {
     }
 }
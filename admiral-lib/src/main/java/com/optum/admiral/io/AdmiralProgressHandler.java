@@ -4,17 +4,60 @@ import com.optum.admiral.exception.AdmiralDockerException;
 import com.optum.admiral.model.ProgressHandler;
 import com.optum.admiral.model.ProgressMessage;
 
+import com.optum.admiral.util.NamedThreadFactory;
+
 import java.io.PrintStream;
 import java.util.HashMap;
-
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Images are pulled concurrently, so progress arrives from several pull callbacks at once.  The public methods are
+ * synchronized so that each message moves the cursor and prints as a unit.  Layers shared by several images have
+ * the same id and so share one line.
+ *
+ * A pull can deliver hundreds of updates a second, so an update to a line already on screen only records the line's
+ * latest contents.  The changed lines are repainted together, in one write, at most framesPerSecond times a second.
+ * New lines are still printed right away.  close() paints whatever is still pending; call it when done.
+ */
 public class AdmiralProgressHandler implements ProgressHandler {
+    public static final int DEFAULT_FRAMES_PER_SECOND = 10;
+
+    private static final ScheduledExecutorService sharedPainter = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("ProgressPainter"));
+
     private final PrintStream ps;
+    private final ScheduledExecutorService painter;
+    private final long frameMillis;
     private int untrackedLines=0;
 
     private final HashMap<String, Integer> linePosition = new HashMap<>();
 
+    /**
+     * Latest contents of each line that has changed since the last paint, by its line number from the top.
+     */
+    private final TreeMap<Integer, String> pendingLines = new TreeMap<>();
+    private boolean paintScheduled = false;
+    private long lastPaintMillis = 0;
+    private boolean closed = false;
+
     public AdmiralProgressHandler(PrintStream ps) {
+        this(ps, DEFAULT_FRAMES_PER_SECOND);
+    }
+
+    public AdmiralProgressHandler(PrintStream ps, int framesPerSecond) {
+        this(ps, framesPerSecond, sharedPainter);
+    }
+
+    /**
+     * Paints are scheduled on painter, so a test can run them when it chooses.
+     */
+    AdmiralProgressHandler(PrintStream ps, int framesPerSecond, ScheduledExecutorService painter) {
         this.ps = ps;
+        this.frameMillis = 1000 / Math.max(1, framesPerSecond);
+        this.painter = painter;
     }
 
     /**
@@ -38,24 +81,93 @@ public class AdmiralProgressHandler implements ProgressHandler {
         }
     }
 
-    private int getPositionForProgressMessageKey(String key) {
-        return getPositionForKey(key);
+    /**
+     * A new line is printed now; a change to a line already on screen waits for the next paint (unless closed).
+     */
+    private void outputTracked(String key, String contents) {
+        final int position = getPositionForKey(key);
+        if (position == 0 || closed) {
+            printLineAt(position, contents);
+            ps.flush();
+        } else {
+            pendingLines.put(linePosition.get(key), contents);
+            schedulePaint();
+        }
     }
 
-    public void outln(String contents) {
+    private void schedulePaint() {
+        // Guard
+        if (paintScheduled || closed)
+            return;
+
+        // Go
+        paintScheduled = true;
+        final long delay = Math.max(0, lastPaintMillis + frameMillis - System.currentTimeMillis());
+        painter.schedule(this::paint, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void paint() {
+        paintScheduled = false;
+        paintPendingLines();
+    }
+
+    /**
+     * Paints every pending line in one write: up to the topmost changed line, then down through the rest, and back
+     * to the bottom.
+     */
+    private void paintPendingLines() {
+        // Guard
+        if (pendingLines.isEmpty())
+            return;
+
+        // Go
+        final int size = linePosition.size() + untrackedLines;
+        final StringBuilder frame = new StringBuilder();
+        int row = size;
+        for (Map.Entry<Integer, String> pendingLine : pendingLines.entrySet()) {
+            final int line = pendingLine.getKey();
+            if (row > line) {
+                frame.append(String.format(MOVEUP_FORMAT, row - line));
+            } else if (row < line) {
+                frame.append(String.format(MOVEDOWN_FORMAT, line - row));
+            }
+            frame.append(DELETE_LINE);
+            final String contents = pendingLine.getValue();
+            frame.append(contents);
+            if (!contents.endsWith("\n")) {
+                frame.append('\n');
+            }
+            row = line + 1;
+        }
+        if (row < size) {
+            frame.append(String.format(MOVEDOWN_FORMAT, size - row));
+        }
+        pendingLines.clear();
+        lastPaintMillis = System.currentTimeMillis();
+        ps.print(frame);
+        ps.flush();
+    }
+
+    /**
+     * Paints whatever is still pending.  Nothing is deferred after this; later changes are printed right away.
+     */
+    public synchronized void close() {
+        paintPendingLines();
+        closed = true;
+    }
+
+    public synchronized void outln(String contents) {
         ++untrackedLines;
         ps.println(contents);
         ps.flush();
     }
 
-    public void output(String key, String contents) {
-        final int position = getPositionForKey(key);
-        printLineAt(position, contents);
-        ps.flush();
+    public synchronized void output(String key, String contents) {
+        outputTracked(key, contents);
     }
 
     @Override
-    public void progress(ProgressMessage progressMessage) throws AdmiralDockerException {
+    public synchronized void progress(ProgressMessage progressMessage) throws AdmiralDockerException {
         if (progressMessage.error() != null)
             throw new AdmiralDockerException(progressMessage.error());
 
@@ -85,9 +197,8 @@ public class AdmiralProgressHandler implements ProgressHandler {
                 id = status;
             }
 
-            final int position = getPositionForProgressMessageKey(id);
-
-            printLineAt(position, contents.toString());
+            outputTracked(id, contents.toString());
+            return;
         } else if (progressMessage.stream() != null) {
             ++untrackedLines;
             safePrint(progressMessage.stream());
@@ -109,7 +220,7 @@ public class AdmiralProgressHandler implements ProgressHandler {
     /**
      * Don't clear the screen if we are tracking lines.
      */
-    public void clearScreen() {
+    public synchronized void clearScreen() {
         if (linePosition.isEmpty()) {
             ps.print(CLEAR_SCREEN);
         }
@@ -3,16 +3,18 @@ package com.optum.admiral.io;
 import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.model.Frame;
 import com.optum.admiral.key.LogStreamerKey;
-import com.optum.admiral.config.ActionMonitor;
+import com.optum.admiral.config.ActionMonitorMatcher;
+import com.optum.admiral.config.ActionMonitorTracker;
 import com.optum.admiral.config.ActionProgress;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * This class has the responsibility of pulling Docker Container stdout/stderr (Log) stream bytes by line and
- * sending the lines to a LogStreamListener.
+ * sending the lines to a LogStreamListener.  A line that arrives split across Frames is delivered once, whole.
  *
  * With the new Docker-Java library we do not need to do Threading - instead we implement
  * a callback object and are invoked as data is pulled from the container for us.
@@ -35,13 +37,20 @@ public class ContainerLogStreamer implements LogStreamer, ResultCallback<Frame>
     private final String containerName;
     private final String streamName;
 
-    private final List<ActionMonitor> actionMonitors;
+    private final ActionMonitorMatcher actionMonitorMatcher;
+    private final ActionMonitorTracker actionMonitorTracker;
 
     /**
      * Composition delegation to manage our listeners
      */
     private final LogStreamListenerManager logStreamListenerManager = new LogStreamListenerManager();
 
+    /**
+     * Frames are not lines.  This reassembles them (and decodes them as UTF-8) before anyone sees them.
+     */
+    private final LineAssembler lineAssembler = new LineAssembler();
+    private final Consumer<String> lineHandler = this::lineReceived;
+
     /**
      * Get our primary key
      */
@@ -52,14 +61,21 @@ public class ContainerLogStreamer implements LogStreamer, ResultCallback<Frame>
 
     private boolean shutdownRequested = false;
 
+    /**
+     * The attach stream, as handed to us by Docker-Java.  Closing it ends this stream alone; the Docker client (and
+     * every other stream on it) stays up.
+     */
+    private Closeable stream;
+
     /**
      * This is intentionally an inexpensive constructor to wrap the ugly primary key (StreamerKey) code.  It is
      * expected that a ContainerLogStreamer will be constructed simply in order to
      */
-    public ContainerLogStreamer(String containerName, String groupName, String streamName, List<ActionMonitor> actionMonitors) {
+    public ContainerLogStreamer(String containerName, String groupName, String streamName, ActionMonitorMatcher actionMonitorMatcher, ActionMonitorTracker actionMonitorTracker) {
         this.containerName = containerName;
         this.streamName = streamName;
-        this.actionMonitors = actionMonitors;
+        this.actionMonitorMatcher = actionMonitorMatcher;
+        this.actionMonitorTracker = actionMonitorTracker;
         primaryKey = new LogStreamerKey(containerName, groupName, streamName);
     }
 
@@ -68,36 +84,61 @@ public class ContainerLogStreamer implements LogStreamer, ResultCallback<Frame>
         logStreamListenerManager.addListener(logStreamerListener);
     }
 
+    @Override
+    public List<LogStreamListenerManager.ListenerStatistics> getListenerStatistics() {
+        return logStreamListenerManager.getListenerStatistics();
+    }
+
     @Override
     public synchronized void requestShutdown() {
         logStreamListenerManager.disconnectedAll();
 
         shutdownRequested = true;
+        closeStream();
     }
 
     @Override
-    public void onStart(Closeable closeable) {
+    public synchronized void onStart(Closeable closeable) {
+        stream = closeable;
+        if (shutdownRequested) {
+            closeStream();
+        }
+    }
+
+    private void closeStream() {
+        // Guard
+        if (stream == null)
+            return;
+
+        // Go
+        try {
+            stream.close();
+        } catch (IOException e) {
+            // Eat it - the stream is going away either way.
+        }
+        stream = null;
     }
 
     @Override
     public void onNext(Frame f) {
-        final String line =  new String(f.getPayload()).trim();
+        lineAssembler.accept(f.getPayload(), lineHandler);
+    }
+
+    private void lineReceived(String line) {
         logStreamListenerManager.notifyAll(containerName, streamName, line);
-        for(ActionMonitor actionMonitor : actionMonitors) {
-            ActionProgress actionProgress = actionMonitor.checkForProgress(line);
-            if (actionProgress != null) {
-                logStreamListenerManager.progressAll(streamName, actionProgress);
-            }
+        for(ActionProgress actionProgress : actionMonitorMatcher.checkForProgress(line, actionMonitorTracker)) {
+            logStreamListenerManager.progressAll(streamName, actionProgress);
         }
     }
 
     @Override
     public void onError(Throwable throwable) {
-
+        lineAssembler.flush(lineHandler);
     }
 
     @Override
     public void onComplete() {
+        lineAssembler.flush(lineHandler);
     }
 
     @Override
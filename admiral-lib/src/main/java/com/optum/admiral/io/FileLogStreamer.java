@@ -1,34 +1,34 @@
 package com.optum.admiral.io;
 
-import com.optum.admiral.config.ActionMonitor;
+import com.optum.admiral.config.ActionMonitorTracker;
 import com.optum.admiral.config.ActionProgress;
 import com.optum.admiral.key.LogStreamerKey;
 import com.optum.admiral.model.DockerModelController;
 import com.optum.admiral.type.LogMonitor;
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
 
-public class FileLogStreamer implements TailerListener, LogStreamer {
+public class FileLogStreamer implements LogStreamer {
     private final String containerName;
     private final LogMonitor logMonitor;
+    private final ActionMonitorTracker actionMonitorTracker;
 
     private final File logFile;
     private final String logFileName;
     private final LogStreamListenerManager logStreamListenerManager = new LogStreamListenerManager();
-    private final Tailer tailer;
+    private Closeable tail;
     private final LogStreamerKey logStreamerKey;
 
     public FileLogStreamer(String containerName, LogMonitor logMonitor) {
         this.containerName = containerName;
         this.logMonitor = logMonitor;
+        this.actionMonitorTracker = logMonitor.getActionMonitorMatcher().newTracker();
 
         logFile = new File(logMonitor.filename);
         logFileName = logFile.getName();
         logStreamerKey = new LogStreamerKey(containerName, "C", logFileName);
-
-        this.tailer = new Tailer(logFile, this, 1000, true);
     }
 
     @Override
@@ -36,14 +36,12 @@ public class FileLogStreamer implements TailerListener, LogStreamer {
         return logStreamerKey;
     }
 
-    public void start(ThreadGroup logStreamerThreadGroup, boolean reconnecting, DockerModelController dmc) {
+    public synchronized void start(FileTailService fileTailService, boolean reconnecting, DockerModelController dmc) {
         if ((!reconnecting) && logMonitor.deleteAtStart) {
             dmc.deleteFile(logFile);
         }
 
-        Thread thread = new Thread(logStreamerThreadGroup, tailer, "TailStreamer for " + containerName + ":/" + logFileName);
-        thread.setDaemon(true);
-        thread.start();
+        tail = fileTailService.tail(logFile, this::handle);
     }
 
     @Override
@@ -52,38 +50,32 @@ public class FileLogStreamer implements TailerListener, LogStreamer {
     }
 
     @Override
-    public void init(Tailer tailer) {
-    }
-
-    @Override
-    public void fileNotFound() {
-    }
-
-    @Override
-    public void fileRotated() {
+    public List<LogStreamListenerManager.ListenerStatistics> getListenerStatistics() {
+        return logStreamListenerManager.getListenerStatistics();
     }
 
-    @Override
-    public void handle(String line) {
+    private void handle(String line) {
         logStreamListenerManager.notifyAll(containerName, logFileName, line+"\n");
-        for(ActionMonitor actionMonitor : logMonitor.getActionMonitors()) {
-            ActionProgress actionProgress = actionMonitor.checkForProgress(line);
-            if (actionProgress !=null) {
-                logStreamListenerManager.progressAll(logFileName, actionProgress);
-            }
+        for(ActionProgress actionProgress : logMonitor.getActionMonitorMatcher().checkForProgress(line, actionMonitorTracker)) {
+            logStreamListenerManager.progressAll(logFileName, actionProgress);
         }
     }
 
     @Override
-    public void handle(Exception e) {
-    }
-
-    @Override
-    public void requestShutdown() {
+    public synchronized void requestShutdown() {
         logStreamListenerManager.disconnectedAll();
 
-        // Tailer is well-behaved.  When asked to stop it exits its loop and its thread dies.
-        tailer.stop();
+        // Guard
+        if (tail == null)
+            return;
+
+        // Go
+        try {
+            tail.close();
+        } catch (IOException e) {
+            // Eat it - the tail is going away either way.
+        }
+        tail = null;
     }
 
 }
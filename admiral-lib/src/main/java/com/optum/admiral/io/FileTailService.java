@@ -0,0 +1,330 @@
+package com.optum.admiral.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Tails any number of files from one thread.
+ *
+ * The directories of the tailed files are registered with a WatchService, so a write is usually seen within
+ * milliseconds.  Some file systems (network and some bind mounts) never report changes, so every file is also checked
+ * every FALLBACK_POLL_MILLIS, however busy the watched directories are.  New bytes are read with positional
+ * FileChannel reads into one reusable buffer and handed to each file's LineAssembler, so only whole lines are
+ * delivered.
+ *
+ * Like Tailer, a file that exists when tailing starts is read from its end, and a file that appears later is read
+ * from its beginning.  If the file is replaced (rotated) or deleted, what was left in the old one is read first.  If
+ * it shrinks (truncated), reading starts over from the beginning.
+ */
+public class FileTailService {
+    static final long FALLBACK_POLL_MILLIS = 250;
+
+    private final ThreadGroup threadGroup;
+    private final List<Tail> tails = new CopyOnWriteArrayList<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    // Guarded by this.
+    private WatchService watchService;
+    private final Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+    private Thread thread;
+
+    public FileTailService(ThreadGroup threadGroup) {
+        this.threadGroup = threadGroup;
+    }
+
+    /**
+     * Starts delivering the lines added to file.  Closing the result stops it.
+     */
+    public synchronized Closeable tail(File file, Consumer<String> lineConsumer) {
+        final Tail tail = new Tail(file.getAbsoluteFile().toPath(), lineConsumer);
+        tails.add(tail);
+        watch(tail.path.getParent());
+        if (thread == null) {
+            thread = new Thread(threadGroup, this::run, "FileTailService");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return () -> {
+            tails.remove(tail);
+            tail.close();
+        };
+    }
+
+    /**
+     * Stops the thread and the WatchService.  Tails that are still open are no longer polled.
+     */
+    public synchronized void close() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                // Eat it - it is going away either way.
+            }
+            watchService = null;
+            watchedDirectories.clear();
+        }
+    }
+
+    /**
+     * A directory that doesn't exist yet can't be watched; until it can, the fallback poll covers it.
+     */
+    private synchronized void watch(Path directory) {
+        // Guard
+        if (directory == null || watchedDirectories.containsKey(directory) || !Files.isDirectory(directory))
+            return;
+
+        // Go
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+            }
+            watchedDirectories.put(directory, directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+        } catch (IOException | UnsupportedOperationException e) {
+            // Eat it - the fallback poll still sees every change, just later.
+        }
+    }
+
+    private synchronized WatchService getWatchService() {
+        return watchService;
+    }
+
+    private void run() {
+        long lastFullPoll = System.nanoTime();
+        while (true) {
+            // Gather
+            final Set<Path> changedDirectories = new HashSet<>();
+            try {
+                awaitChanges(changedDirectories);
+            } catch (InterruptedException e) {
+                return;
+            }
+            // By the clock, not by quiet spells: a busy directory mustn't starve the rest of their fallback poll.
+            final long now = System.nanoTime();
+            final boolean fullPoll = now - lastFullPoll >= TimeUnit.MILLISECONDS.toNanos(FALLBACK_POLL_MILLIS);
+            if (fullPoll) {
+                lastFullPoll = now;
+            }
+
+            // Go
+            for (Tail tail : tails) {
+                if (fullPoll || changedDirectories.contains(tail.path.getParent())) {
+                    if (fullPoll) {
+                        watch(tail.path.getParent());
+                    }
+                    try {
+                        tail.poll(buffer);
+                    } catch (RuntimeException e) {
+                        // Eat it - one failing consumer mustn't stop the thread every other tail shares.
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits up to FALLBACK_POLL_MILLIS for a watched directory to change, collecting every directory that changed.
+     */
+    private void awaitChanges(Set<Path> changedDirectories) throws InterruptedException {
+        final WatchService watchService = getWatchService();
+        if (watchService == null) {
+            Thread.sleep(FALLBACK_POLL_MILLIS);
+            return;
+        }
+
+        try {
+            WatchKey watchKey = watchService.poll(FALLBACK_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            while (watchKey != null) {
+                watchKey.pollEvents();
+                changedDirectories.add((Path) watchKey.watchable());
+                if (!watchKey.reset()) {
+                    forget((Path) watchKey.watchable());
+                }
+                watchKey = watchService.poll();
+            }
+        } catch (ClosedWatchServiceException e) {
+            Thread.sleep(FALLBACK_POLL_MILLIS);
+        }
+    }
+
+    /**
+     * The directory went away.  If it comes back, the fallback poll registers it again.
+     */
+    private synchronized void forget(Path directory) {
+        watchedDirectories.remove(directory);
+    }
+
+    /**
+     * Whether the file now at the path is the one that was opened.  Where the file system has file keys (inodes),
+     * those say.  Where it doesn't (Windows), a different creation time, or a file smaller than the open one, means it
+     * was replaced.
+     */
+    static boolean isSameFile(Object fileKey, FileTime creationTime, long openSize, BasicFileAttributes attributes) {
+        if (fileKey != null || attributes.fileKey() != null)
+            return Objects.equals(attributes.fileKey(), fileKey);
+        return Objects.equals(attributes.creationTime(), creationTime) && attributes.size() >= openSize;
+    }
+
+    /**
+     * One tailed file.  Only the FileTailService thread polls it; close can come from anywhere.
+     */
+    private static class Tail {
+        private final Path path;
+        private final Consumer<String> lineConsumer;
+        private final LineAssembler lineAssembler = new LineAssembler();
+
+        // Guarded by this.
+        private FileChannel channel;
+        private Object fileKey;
+        private FileTime creationTime;
+        private long position = 0;
+        private boolean closed = false;
+
+        Tail(Path path, Consumer<String> lineConsumer) {
+            this.path = path;
+            this.lineConsumer = lineConsumer;
+            // Start at the end of a file that is already there.
+            final BasicFileAttributes attributes = attributesOrNull();
+            if (attributes != null) {
+                open(attributes);
+                position = attributes.size();
+            }
+        }
+
+        synchronized void poll(ByteBuffer buffer) {
+            // Guard
+            if (closed)
+                return;
+
+            // Gather
+            // The open file's size is taken first, so a file growing in between can't look smaller than itself.
+            final long openSize = openSize();
+            final BasicFileAttributes attributes = attributesOrNull();
+
+            // Go
+            if (channel != null && (attributes == null || !isSameFile(fileKey, creationTime, openSize, attributes))) {
+                // Rotated or deleted: finish what was written to the old file.
+                readAvailable(buffer);
+                lineAssembler.flush(lineConsumer);
+                closeChannel();
+                position = 0;
+            }
+
+            if (attributes == null)
+                return;
+
+            if (channel == null) {
+                open(attributes);
+            } else if (attributes.size() < position) {
+                // Truncated: deliver any half line and start over.
+                lineAssembler.flush(lineConsumer);
+                position = 0;
+            }
+
+            readAvailable(buffer);
+        }
+
+        private BasicFileAttributes attributesOrNull() {
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (IOException e) {
+                // Usually NoSuchFileException.
+                return null;
+            }
+        }
+
+        private void open(BasicFileAttributes attributes) {
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+                fileKey = attributes.fileKey();
+                creationTime = attributes.creationTime();
+            } catch (IOException e) {
+                // Not readable (yet).  Try again next time.
+                channel = null;
+            }
+        }
+
+        private void readAvailable(ByteBuffer buffer) {
+            // Guard
+            if (channel == null)
+                return;
+
+            // Go
+            try {
+                while (true) {
+                    buffer.clear();
+                    final int read = channel.read(buffer, position);
+                    if (read <= 0)
+                        return;
+                    position += read;
+                    buffer.flip();
+                    lineAssembler.accept(buffer, lineConsumer);
+                }
+            } catch (IOException e) {
+                // Try again next time, from the same position.
+            }
+        }
+
+        private void closeChannel() {
+            // Guard
+            if (channel == null)
+                return;
+
+            // Go
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Eat it - the channel is going away either way.
+            }
+            channel = null;
+            fileKey = null;
+            creationTime = null;
+        }
+
+        private long openSize() {
+            // Guard
+            if (channel == null)
+                return 0;
+
+            // Go
+            try {
+                return channel.size();
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            closeChannel();
+        }
+    }
+}
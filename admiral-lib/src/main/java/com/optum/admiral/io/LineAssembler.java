@@ -0,0 +1,135 @@
+package com.optum.admiral.io;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Turns a stream of byte chunks (Docker Frames) into whole lines.  The Docker Engine cuts frames wherever its buffer
+ * fills, so a frame may hold several lines, part of a line, or even part of a multi-byte UTF-8 character.  Partial
+ * lines and partial characters are carried over to the next chunk.
+ *
+ * One LineAssembler per stream.  It is not thread-safe, which is fine because Docker-Java delivers a stream's frames
+ * one at a time.  The buffers are reused from chunk to chunk, so the only allocation per line is the String itself.
+ *
+ * A stream that never sends a line break (binary output, or a progress bar redrawn with carriage returns) would
+ * otherwise grow the partial line without end, so once it reaches maxLineLength it is delivered as a line of its own.
+ */
+public class LineAssembler {
+    public static final int DEFAULT_MAX_LINE_LENGTH = 64 * 1024;
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    /**
+     * Bytes not yet decoded (the tail of a multi-byte character).  Kept in fill mode between calls.
+     */
+    private ByteBuffer bytes = ByteBuffer.allocate(8192);
+    private final CharBuffer chars = CharBuffer.allocate(8192);
+    private final StringBuilder partialLine = new StringBuilder();
+    private final int maxLineLength;
+
+    public LineAssembler() {
+        this(DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    public LineAssembler(int maxLineLength) {
+        this.maxLineLength = Math.max(2, maxLineLength);
+    }
+
+    public void accept(byte[] payload, Consumer<String> lineConsumer) {
+        accept(ByteBuffer.wrap(payload), lineConsumer);
+    }
+
+    /**
+     * Consumes everything remaining in payload, which the caller is then free to reuse.
+     */
+    public void accept(ByteBuffer payload, Consumer<String> lineConsumer) {
+        if (bytes.remaining() < payload.remaining()) {
+            final ByteBuffer bigger = ByteBuffer.allocate(bytes.position() + payload.remaining());
+            bytes.flip();
+            bigger.put(bytes);
+            bytes = bigger;
+        }
+        bytes.put(payload);
+        bytes.flip();
+        decode(false, lineConsumer);
+        bytes.compact();
+    }
+
+    /**
+     * The stream has ended: whatever is left is the last line, even without a line break.
+     */
+    public void flush(Consumer<String> lineConsumer) {
+        bytes.flip();
+        decode(true, lineConsumer);
+        decoder.flush(chars);
+        split(lineConsumer);
+        bytes.clear();
+        decoder.reset();
+        if (partialLine.length() > 0) {
+            emit(lineConsumer);
+        }
+    }
+
+    private void decode(boolean endOfInput, Consumer<String> lineConsumer) {
+        while (decoder.decode(bytes, chars, endOfInput).isOverflow()) {
+            split(lineConsumer);
+        }
+        split(lineConsumer);
+    }
+
+    /**
+     * Moves the decoded characters into lines, leaving chars empty.
+     */
+    private void split(Consumer<String> lineConsumer) {
+        chars.flip();
+        final char[] array = chars.array();
+        final int end = chars.limit();
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (array[i] == '\n') {
+                append(array, start, i, lineConsumer);
+                emit(lineConsumer);
+                start = i + 1;
+            }
+        }
+        append(array, start, end, lineConsumer);
+        chars.clear();
+    }
+
+    /**
+     * Appends array[start, end) to the partial line, delivering it each time it would grow past maxLineLength.
+     */
+    private void append(char[] array, int start, int end, Consumer<String> lineConsumer) {
+        while (partialLine.length() + (end - start) > maxLineLength) {
+            int take = maxLineLength - partialLine.length();
+            // Don't split a surrogate pair between two lines.
+            if (take > 0 && Character.isHighSurrogate(array[start + take - 1])) {
+                take--;
+            }
+            partialLine.append(array, start, take);
+            start += take;
+            deliver(partialLine.length(), lineConsumer);
+        }
+        partialLine.append(array, start, end - start);
+    }
+
+    private void emit(Consumer<String> lineConsumer) {
+        int length = partialLine.length();
+        if (length > 0 && partialLine.charAt(length - 1) == '\r') {
+            length--;
+        }
+        deliver(length, lineConsumer);
+    }
+
+    private void deliver(int length, Consumer<String> lineConsumer) {
+        final String line = partialLine.substring(0, length);
+        partialLine.setLength(0);
+        lineConsumer.accept(line);
+    }
+}
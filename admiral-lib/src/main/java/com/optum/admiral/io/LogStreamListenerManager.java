@@ -1,38 +1,200 @@
 package com.optum.admiral.io;
 
 import com.optum.admiral.config.ActionProgress;
+import com.optum.admiral.util.NamedThreadFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
+/**
+ * Fans each event of a LogStreamer out to its listeners without calling any of them on the LogStreamer thread.
+ *
+ * Every listener gets its own bounded queue, drained in order by a pooled thread while (and only while) the queue has
+ * something in it.  The LogStreamer thread only enqueues, so a slow listener delays itself rather than the stream
+ * and the other listeners.  What happens when a listener's queue is full of lines is up to its OverflowPolicy.
+ */
 public class LogStreamListenerManager {
+    public static final int QUEUE_CAPACITY = 4096;
+
+    private static final ExecutorService drainers = Executors.newCachedThreadPool(new NamedThreadFactory("LogListener"));
+
     /**
-     * This variable's contents is thread-exposed.  It is guarded by the LogStreamer instance object - so it must only be
-     * touched (read or write) inside synchronized member methods.
+     * Copy-on-write, so events are enqueued without holding this manager's lock: a BLOCK listener whose queue is full
+     * holds up only the LogStreamer, never another thread using this manager.  Adding and clearing are synchronized
+     * so that disconnectedAll reaches every listener it clears.
      */
-    private final List<LogStreamerListener> listeners = new ArrayList<>();
+    private final List<ListenerQueue> listenerQueues = new CopyOnWriteArrayList<>();
 
     public synchronized void addListener(LogStreamerListener logStreamerListener) {
-        listeners.add(logStreamerListener);
+        listenerQueues.add(new ListenerQueue(logStreamerListener, logStreamerListener.getOverflowPolicy(), QUEUE_CAPACITY));
     }
 
-    public synchronized void notifyAll(String containerName, String streamName, String line) {
-        for(LogStreamerListener listener : listeners) {
-            listener.addLine_OnLogStreamerThread(containerName, streamName, line);
+    public void notifyAll(String containerName, String streamName, String line) {
+        enqueueAll(listenerQueues, true, l -> l.addLine_OnListenerThread(containerName, streamName, line));
+    }
+
+    public void progressAll(String streamName, ActionProgress actionProgress) {
+        enqueueAll(listenerQueues, false, l -> l.detectedProgress_OnListenerThread(streamName, actionProgress));
+    }
+
+    public void disconnectedAll() {
+        final List<ListenerQueue> disconnected;
+        synchronized (this) {
+            disconnected = new ArrayList<>(listenerQueues);
+            listenerQueues.clear();
         }
+        enqueueAll(disconnected, false, LogStreamerListener::disconnected_OnListenerThread);
     }
 
-    public synchronized void progressAll(String streamName, ActionProgress actionProgress) {
-        for(LogStreamerListener listener : listeners) {
-            listener.detectedProgress_OnLogStreamerThread(streamName, actionProgress);
+    /**
+     * Listeners that never block get the event first, so a full BLOCK queue doesn't hold it back from them.
+     */
+    private static void enqueueAll(List<ListenerQueue> queues, boolean isLine, Consumer<LogStreamerListener> delivery) {
+        for(ListenerQueue listenerQueue : queues) {
+            if (listenerQueue.overflowPolicy != OverflowPolicy.BLOCK) {
+                listenerQueue.enqueue(isLine, delivery);
+            }
+        }
+        for(ListenerQueue listenerQueue : queues) {
+            if (listenerQueue.overflowPolicy == OverflowPolicy.BLOCK) {
+                listenerQueue.enqueue(isLine, delivery);
+            }
         }
     }
 
-    public synchronized void disconnectedAll() {
-        for(LogStreamerListener listener : listeners) {
-            listener.disconnected_OnLogStreamerThread();
+    public List<ListenerStatistics> getListenerStatistics() {
+        final List<ListenerStatistics> statistics = new ArrayList<>();
+        for(ListenerQueue listenerQueue : listenerQueues) {
+            statistics.add(listenerQueue.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * How well one listener is keeping up: its queue depth now, the deepest it has been, and how many lines it has had
+     * dropped.
+     */
+    public static class ListenerStatistics {
+        public final String listenerName;
+        public final OverflowPolicy overflowPolicy;
+        public final int depth;
+        public final int maxDepth;
+        public final long dropped;
+
+        ListenerStatistics(String listenerName, OverflowPolicy overflowPolicy, int depth, int maxDepth, long dropped) {
+            this.listenerName = listenerName;
+            this.overflowPolicy = overflowPolicy;
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+            this.dropped = dropped;
+        }
+
+        @Override
+        public String toString() {
+            return listenerName + ": depth " + depth + " (max " + maxDepth + "), dropped " + dropped + " (" + overflowPolicy + ")";
         }
-        listeners.clear();
     }
 
+    private static class Event {
+        final boolean isLine;
+        final Consumer<LogStreamerListener> delivery;
+
+        Event(boolean isLine, Consumer<LogStreamerListener> delivery) {
+            this.isLine = isLine;
+            this.delivery = delivery;
+        }
+    }
+
+    private static class ListenerQueue implements Runnable {
+        private final LogStreamerListener listener;
+        private final OverflowPolicy overflowPolicy;
+        private final int capacity;
+
+        // Guarded by this.
+        private final ArrayDeque<Event> events = new ArrayDeque<>();
+        private int lines = 0;
+        private boolean draining = false;
+        private int maxDepth = 0;
+        private long dropped = 0;
+        private long overflows = 0;
+
+        ListenerQueue(LogStreamerListener listener, OverflowPolicy overflowPolicy, int capacity) {
+            this.listener = listener;
+            this.overflowPolicy = overflowPolicy;
+            this.capacity = capacity;
+        }
+
+        synchronized void enqueue(boolean isLine, Consumer<LogStreamerListener> delivery) {
+            if (isLine) {
+                while (lines >= capacity) {
+                    if (overflowPolicy == OverflowPolicy.BLOCK) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            dropped++;
+                            return;
+                        }
+                    } else if (overflowPolicy == OverflowPolicy.SAMPLE && (++overflows % OverflowPolicy.SAMPLE_EVERY) != 0) {
+                        dropped++;
+                        return;
+                    } else {
+                        removeOldestLine();
+                        dropped++;
+                    }
+                }
+                lines++;
+            }
+            events.add(new Event(isLine, delivery));
+            maxDepth = Math.max(maxDepth, events.size());
+            if (!draining) {
+                draining = true;
+                drainers.execute(this);
+            }
+        }
+
+        private void removeOldestLine() {
+            final Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isLine) {
+                    iterator.remove();
+                    lines--;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final Event event;
+                synchronized (this) {
+                    event = events.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                    if (event.isLine) {
+                        lines--;
+                        notifyAll();
+                    }
+                }
+                try {
+                    event.delivery.accept(listener);
+                } catch (RuntimeException e) {
+                    // A listener that throws only loses that one event; its queue keeps draining.
+                }
+            }
+        }
+
+        synchronized ListenerStatistics getStatistics() {
+            return new ListenerStatistics(listener.getClass().getSimpleName(), overflowPolicy, events.size(), maxDepth, dropped);
+        }
+    }
 }
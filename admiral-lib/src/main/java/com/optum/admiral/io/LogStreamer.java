@@ -2,6 +2,8 @@ package com.optum.admiral.io;
 
 import com.optum.admiral.key.LogStreamerKey;
 
+import java.util.List;
+
 public interface LogStreamer {
     default String getContainerName() {
         return getPrimaryKey().containerName.tabName;
@@ -13,5 +15,6 @@ public interface LogStreamer {
 
     LogStreamerKey getPrimaryKey();
     void addListener(LogStreamerListener logStreamerListener);
+    List<LogStreamListenerManager.ListenerStatistics> getListenerStatistics();
     void requestShutdown();
 }
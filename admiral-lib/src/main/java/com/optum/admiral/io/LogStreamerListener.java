@@ -2,8 +2,16 @@ package com.optum.admiral.io;
 
 import com.optum.admiral.config.ActionProgress;
 
+/**
+ * Called by LogStreamListenerManager, never on the LogStreamer thread: each listener's events are delivered in order on
+ * a pooled thread that drains that listener's own queue.
+ */
 public interface LogStreamerListener {
-    void addLine_OnLogStreamerThread(String containerName, String streamName, String line);
-    void detectedProgress_OnLogStreamerThread(String streamName, ActionProgress actionProgress);
-    void disconnected_OnLogStreamerThread();
+    void addLine_OnListenerThread(String containerName, String streamName, String line);
+    void detectedProgress_OnListenerThread(String streamName, ActionProgress actionProgress);
+    void disconnected_OnListenerThread();
+
+    default OverflowPolicy getOverflowPolicy() {
+        return OverflowPolicy.BLOCK;
+    }
 }
@@ -0,0 +1,23 @@
+package com.optum.admiral.io;
+
+/**
+ * What a LogStreamListenerManager does with a new line when a listener already has a full queue of lines waiting.
+ * Progress and disconnect events are never dropped.
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait for room.  Nothing is lost, but a slow listener slows the stream (as it always did).
+     */
+    BLOCK,
+    /**
+     * Drop the oldest waiting line to make room.
+     */
+    DROP_OLDEST,
+    /**
+     * Drop new lines, except every SAMPLE_EVERY-th one, which replaces the oldest waiting line.  A listener that can't
+     * keep up still sees a thinned-out live tail.
+     */
+    SAMPLE;
+
+    public static final int SAMPLE_EVERY = 10;
+}
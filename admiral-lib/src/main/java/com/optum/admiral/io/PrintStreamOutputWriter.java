@@ -5,6 +5,10 @@ import com.optum.admiral.model.ProgressMessage;
 
 import java.io.PrintStream;
 
+/**
+ * Log streamers write here directly from their own threads, so every method is synchronized to keep tracked lines
+ * (which move the cursor) from being interleaved.
+ */
 public class PrintStreamOutputWriter implements OutputWriter {
     private final PrintStream printStream;
     private final ProgressMessageRenderer progressMessageRenderer;
@@ -17,26 +21,28 @@ public class PrintStreamOutputWriter implements OutputWriter {
     }
 
     @Override
-    public void outTrackedLine(String key, String contents) {
+    public synchronized void outTrackedLine(String key, String contents) {
         admiralProgressHandler.output(key, contents);
     }
 
     @Override
-    public void outln(String s) {
+    public synchronized void outln(String s) {
+        admiralProgressHandler.close();
         printStream.println(s);
         printStream.flush();
         resetProgress();
     }
 
     @Override
-    public void outStackTrace(Throwable e) {
+    public synchronized void outStackTrace(Throwable e) {
+        admiralProgressHandler.close();
         e.printStackTrace(printStream);
         printStream.flush();
         resetProgress();
     }
 
     @Override
-    public void progress(ProgressMessage progressMessage) {
+    public synchronized void progress(ProgressMessage progressMessage) {
         try {
             admiralProgressHandler.progress(progressMessage);
         } catch (AdmiralDockerException e) {
@@ -45,19 +51,20 @@ public class PrintStreamOutputWriter implements OutputWriter {
     }
 
     @Override
-    public void progress(int current, int total, String url, String status, String progress) {
+    public synchronized void progress(int current, int total, String url, String status, String progress) {
         ProgressMessage progressMessage = progressMessageRenderer.renderProgressMessage(current, total, url, status, progress);
         progress(progressMessage);
     }
 
     @Override
-    public void progress(String url, String status, String progress) {
+    public synchronized void progress(String url, String status, String progress) {
         ProgressMessage progressMessage = progressMessageRenderer.renderProgressMessage(url, status, progress);
         progress(progressMessage);
     }
 
     @Override
-    public void resetProgress() {
+    public synchronized void resetProgress() {
+        admiralProgressHandler.close();
         this.admiralProgressHandler = new AdmiralProgressHandler(printStream);
     }
 }
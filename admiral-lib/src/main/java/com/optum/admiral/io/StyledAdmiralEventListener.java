@@ -692,6 +692,18 @@ public class StyledAdmiralEventListener
             writer.outln(styler.command.format("Connected to Docker Engine"));
     }
 
+    @Override
+    public void dockerEngineContainerEvent(String containerName, String action) {
+        if (preferences.showDebug)
+            writer.outln(styler.debug.format("DEBUG Docker Engine Event: ") + styler.container.format(containerName) + " " + action);
+    }
+
+    @Override
+    public void dockerEngineNetworkEvent(String networkFullName, String action) {
+        if (preferences.showDebug)
+            writer.outln(styler.debug.format("DEBUG Docker Engine Event: ") + styler.network.format(networkFullName) + " " + action);
+    }
+
     @Override
     public void dockerEngineConnecting() {
         if (preferences.showDockerEngineConnectionActivity)
@@ -5,6 +5,7 @@ import com.optum.admiral.ContainerParameterProcessor;
 import com.optum.admiral.config.AdmiralContainerConfig;
 import com.optum.admiral.config.AdmiralServiceConfig;
 import com.optum.admiral.exception.AdmiralDockerException;
+import com.optum.admiral.model.ContainerReads;
 import com.optum.admiral.model.DockerModelController;
 import com.optum.admiral.preferences.OutputPreferences;
 
@@ -25,9 +26,9 @@ public class VariableWriterUtil {
     }
 
     /**
-     * As an ACT, it will invoke other ACTs (which will connect as necessary).
+     * The container variables come from containersVars, which the caller started reading (for every service) up front.
      */
-    public void writeInspectACT(Admiral admiral, ContainerParameterProcessor containerParameterProcessor, String serviceName, AdmiralServiceConfig admiralServiceConfig) {
+    public void writeInspectACT(Admiral admiral, ContainerReads<Map<String, String>> containersVars, ContainerParameterProcessor containerParameterProcessor, String serviceName, AdmiralServiceConfig admiralServiceConfig) {
         writer.outln(styler.serviceHeading.format(serviceName + ":"));
 
         Map<String, ContainerParameterProcessor.Entry> results = new TreeMap<>();
@@ -38,7 +39,7 @@ public class VariableWriterUtil {
         for (int i = 1; i <= replicas; i++) {
             final String containerName = admiral.calculateContainerName(serviceName, i);
             try {
-                Map<String, String> containerVars = admiral.getContainerEnvironmentVariablesACT(containerName);
+                Map<String, String> containerVars = containersVars.get(containerName);
 
                 writer.outln(" " + styler.container.format(containerName) + ":");
 
@@ -90,7 +91,7 @@ public class VariableWriterUtil {
         }
     }
 
-    public void writeDigACT(Admiral admiral, String serviceName, AdmiralServiceConfig admiralServiceConfig, boolean showAll) {
+    public void writeDigACT(Admiral admiral, ContainerReads<Map<String, String>> allContainersVars, String serviceName, AdmiralServiceConfig admiralServiceConfig, boolean showAll) {
         writer.outln(styler.serviceHeading.format(serviceName + ":"));
 
         Map<String, Map<String, String>> containersVars = new HashMap<>();
@@ -100,7 +101,7 @@ public class VariableWriterUtil {
             final String containerName = admiral.calculateContainerName(serviceName, i);
 
             try {
-                Map<String, String> containerVars = admiral.getContainerEnvironmentVariablesACT(containerName);
+                Map<String, String> containerVars = allContainersVars.get(containerName);
                 containersVars.put(containerName, containerVars);
             } catch (AdmiralDockerException | InterruptedException e) {
                 // Eat it.  This is optional data.
@@ -4,12 +4,14 @@ import com.github.dockerjava.api.async.ResultCallback;
 import com.github.dockerjava.api.command.ExecCreateCmdResponse;
 import com.github.dockerjava.api.model.Frame;
 import com.optum.admiral.exception.AdmiralDockerException;
+import com.optum.admiral.type.Duration;
 
-
-import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class ComposeHealthCheck extends HealthCheck {
+    private static final long serialVersionUID = 1L;
 
-public class ComposeHealthCheck extends HealthCheck implements ResultCallback<Frame> {
     public final boolean cmdShell;
     public final String[] args;
 
@@ -21,14 +23,18 @@ public class ComposeHealthCheck extends HealthCheck implements ResultCallback<Fr
 
     @Override
     public long execute(DockerModelController dockerModelController, String containerName, int tryCount) {
+        // One callback per try: the replicas of a service share this health check and may be checked at once.
+        final ResultCallback.Adapter<Frame> callback = new ResultCallback.Adapter<>();
         try {
             dockerModelController.healthCheckProgress(tryCount, retries, id, "Check", getTest());
 
-            ExecCreateCmdResponse execCreateCmdResponse = dockerModelController.execute(containerName, this, args);
+            ExecCreateCmdResponse execCreateCmdResponse = dockerModelController.execute(containerName, callback, args);
 
-            // Wait (block using ourselves as the synchronization object) for execute completion
-            synchronized (this) {
-                this.wait();
+            // Wait for execute completion
+            final long tryTimeout = getTryTimeout();
+            if (!callback.awaitCompletion(tryTimeout, TimeUnit.MILLISECONDS)) {
+                dockerModelController.healthCheckProgress(tryCount, retries, id, "Timeout", "No result within " + Duration.prettyMS(tryTimeout));
+                return -1;
             }
 
             final long exitCode = dockerModelController.checkExecResponse(execCreateCmdResponse);
@@ -50,6 +56,13 @@ public class ComposeHealthCheck extends HealthCheck implements ResultCallback<Fr
         } catch (InterruptedException e) {
             dockerModelController.healthCheckProgress(tryCount, retries, id, "Wait Interrupted", "");
             return -1;
+        } finally {
+            // A try that timed out (or failed) still holds the exec's attach stream and its connection.
+            try {
+                callback.close();
+            } catch (IOException e) {
+                // Eat it - the try is over either way.
+            }
         }
     }
 
@@ -78,29 +91,4 @@ public class ComposeHealthCheck extends HealthCheck implements ResultCallback<Fr
             return id;
         }
     }
-
-    @Override
-    public void onStart(Closeable closeable) {
-    }
-
-    @Override
-    public void onNext(Frame frame) {
-        // This is where we could read the output of the healthcheck if we wanted to.
-    }
-
-    @Override
-    public void onError(Throwable throwable) {
-    }
-
-    @Override
-    public void onComplete() {
-        // Notify ourself.  This completes a wait().
-        synchronized (this) {
-            this.notifyAll();
-        }
-    }
-
-    @Override
-    public void close() throws IOException {
-    }
 }
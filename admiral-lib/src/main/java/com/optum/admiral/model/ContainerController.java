@@ -12,7 +12,11 @@ public class ContainerController {
     private final Service service;
     private final Map<LogStreamerKey, LogStreamer> logStreamers = new HashMap<>();
 
-    private InspectContainerResponse inspectContainerResponse;
+    /**
+     * Both are written from the Docker Engine events stream thread as well as by actions.
+     */
+    private volatile InspectContainerResponse inspectContainerResponse;
+    private volatile ContainerStateSnapshot.State containerState;
 
     public ContainerController(final String name, final Service service) {
         if (name==null)
@@ -59,6 +63,16 @@ public class ContainerController {
         return inspectContainerResponse;
     }
 
+    /**
+     * An inspect response taken before the state changed would describe the old state, so it is dropped.
+     */
+    public void setContainerState(ContainerStateSnapshot.State containerState) {
+        if (this.containerState != containerState) {
+            this.containerState = containerState;
+            inspectContainerResponse = null;
+        }
+    }
+
     @Override
     public int hashCode() {
         return name.hashCode();
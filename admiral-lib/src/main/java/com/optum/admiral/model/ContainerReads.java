@@ -0,0 +1,71 @@
+package com.optum.admiral.model;
+
+import com.optum.admiral.exception.AdmiralDockerException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * The answers to one Docker Engine query per container, all asked at once but handed out by container name.  Callers
+ * still walk their containers in the order they always did, so the output doesn't change; they just no longer wait
+ * a full round-trip for each one in turn.
+ */
+public class ContainerReads<V> {
+    @FunctionalInterface
+    public interface Read<V> {
+        V read(String containerName) throws AdmiralDockerException;
+    }
+
+    private final Map<String, Future<V>> reads;
+
+    private ContainerReads(Map<String, Future<V>> reads) {
+        this.reads = reads;
+    }
+
+    static <V> ContainerReads<V> start(ExecutorService executorService, Collection<String> containerNames, Read<V> read) {
+        final Map<String, Future<V>> reads = new HashMap<>();
+        for (String containerName : containerNames) {
+            reads.computeIfAbsent(containerName, name -> executorService.submit(() -> read.read(name)));
+        }
+        return new ContainerReads<>(reads);
+    }
+
+    /**
+     * For when the reads couldn't even be started (say, no connection).  Every get throws the reason.
+     */
+    public static <V> ContainerReads<V> failed(Collection<String> containerNames, AdmiralDockerException reason) {
+        final Map<String, Future<V>> reads = new HashMap<>();
+        for (String containerName : containerNames) {
+            reads.put(containerName, CompletableFuture.failedFuture(reason));
+        }
+        return new ContainerReads<>(reads);
+    }
+
+    /**
+     * Waits for the answer for containerName, throwing whatever its query threw.
+     */
+    public V get(String containerName) throws AdmiralDockerException, InterruptedException {
+        final Future<V> read = reads.get(containerName);
+        if (read == null) {
+            throw new IllegalArgumentException("Container " + containerName + " was not read.");
+        }
+        try {
+            return read.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof AdmiralDockerException) {
+                throw (AdmiralDockerException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
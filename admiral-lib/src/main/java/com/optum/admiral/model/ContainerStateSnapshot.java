@@ -0,0 +1,95 @@
+package com.optum.admiral.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What one listContainers call said about every container in the project, so that "is it running" and "does it
+ * exist" questions can be answered from memory instead of one inspectContainer round-trip per replica per service.
+ *
+ * An entry is forgotten (invalidate) whenever Admiral itself changes that container, and the next question about it
+ * goes back to the Docker Engine.  Changes made by anyone else arrive on the Docker Engine events stream and are
+ * written straight into the snapshot (put).
+ */
+public class ContainerStateSnapshot {
+    public enum State {
+        MISSING,
+        CREATED,
+        RUNNING
+    }
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    public ContainerStateSnapshot(Collection<String> containerNames, List<Container> containers) {
+        final Map<String, Container> byName = new HashMap<>();
+        for (Container container : containers) {
+            if (container.getNames() != null) {
+                for (String name : container.getNames()) {
+                    // The Docker Engine reports names with a leading slash.
+                    byName.put(name.startsWith("/") ? name.substring(1) : name, container);
+                }
+            }
+        }
+
+        for (String containerName : containerNames) {
+            final Container container = byName.get(containerName);
+            if (container == null) {
+                states.put(containerName, State.MISSING);
+            } else {
+                states.put(containerName, stateOf(container.getState()));
+            }
+        }
+    }
+
+    /**
+     * Matches InspectContainerResponse.getState().getRunning(), which is also true for paused and restarting
+     * containers.
+     */
+    private static State stateOf(String dockerState) {
+        if ("running".equals(dockerState) || "paused".equals(dockerState) || "restarting".equals(dockerState)) {
+            return State.RUNNING;
+        }
+        return State.CREATED;
+    }
+
+    /**
+     * The state a container is in after the named Docker Engine event, or null if the event doesn't change it.
+     * "stop" and "kill" are always followed by "die", so "die" is the one that counts.
+     */
+    public static State stateAfterEvent(String action) {
+        if (action == null)
+            return null;
+        switch (action) {
+            case "create":
+                return State.CREATED;
+            case "start":
+            case "restart":
+            case "unpause":
+                return State.RUNNING;
+            case "die":
+                return State.CREATED;
+            case "destroy":
+                return State.MISSING;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns null when the snapshot doesn't know (or no longer knows) about this container.
+     */
+    public State get(String containerName) {
+        return states.get(containerName);
+    }
+
+    public void put(String containerName, State state) {
+        states.put(containerName, state);
+    }
+
+    public void invalidate(String containerName) {
+        states.remove(containerName);
+    }
+}
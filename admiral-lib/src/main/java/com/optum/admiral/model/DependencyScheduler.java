@@ -0,0 +1,222 @@
+package com.optum.admiral.model;
+
+import com.optum.admiral.exception.AdmiralDockerException;
+import com.optum.admiral.util.NamedThreadFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs one task per node of a dependency graph.  A node is submitted the moment its last prerequisite finishes, so
+ * there is no polling, and independent branches run concurrently on a bounded pool of worker threads.  A pool size
+ * of 1 gives the old serial behavior.
+ *
+ * The calling thread is the only thread that touches the graph bookkeeping; workers only run tasks.
+ */
+public class DependencyScheduler {
+    public interface Task {
+        /**
+         * Return true when the node is done.  Return false if the node failed, in which case nothing that depends on
+         * it will be run.
+         */
+        boolean perform(String name) throws AdmiralDockerException, InterruptedException, IOException;
+    }
+
+    public interface BlockedListener {
+        /**
+         * The named node will never be run because these prerequisites never finished.
+         */
+        void blocked(String name, Collection<String> waitingOn);
+    }
+
+    private final String threadName;
+    private final int maxInFlight;
+    private final Set<String> satisfied = new HashSet<>();
+    private final Map<String, Set<String>> prerequisites = new LinkedHashMap<>();
+    private boolean stopOnFailure;
+
+    public DependencyScheduler(String threadName, int maxInFlight) {
+        this.threadName = threadName;
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    /**
+     * Mark a node as already finished (for example, a service that was already running).  Nodes that depend on it
+     * will not wait for it.
+     */
+    public void satisfied(String name) {
+        satisfied.add(name);
+    }
+
+    /**
+     * When set, the first node to fail ends the run: nothing more is submitted, and nothing is reported as blocked.
+     * This is how the serial loops this replaced behaved.
+     */
+    public void setStopOnFailure(boolean stopOnFailure) {
+        this.stopOnFailure = stopOnFailure;
+    }
+
+    public void add(String name, Collection<String> nodePrerequisites) {
+        prerequisites.put(name, new LinkedHashSet<>(nodePrerequisites));
+    }
+
+    /**
+     * Returns true if every node ran and succeeded.
+     */
+    public boolean run(Task task, BlockedListener blockedListener)
+            throws AdmiralDockerException, InterruptedException, IOException {
+        // Gather
+        final Map<String, Set<String>> waitingOn = new LinkedHashMap<>();
+        final Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : prerequisites.entrySet()) {
+            final Set<String> pending = new LinkedHashSet<>(entry.getValue());
+            pending.removeAll(satisfied);
+            pending.remove(entry.getKey());
+            waitingOn.put(entry.getKey(), pending);
+            for (String prerequisite : pending) {
+                dependents.computeIfAbsent(prerequisite, k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        final Set<String> blocked = new HashSet<>();
+        final List<String> ready = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : waitingOn.entrySet()) {
+            final List<String> missing = new ArrayList<>();
+            for (String prerequisite : entry.getValue()) {
+                if (!waitingOn.containsKey(prerequisite)) {
+                    missing.add(prerequisite);
+                }
+            }
+            if (!missing.isEmpty()) {
+                block(entry.getKey(), missing, dependents, blocked, blockedListener);
+            }
+        }
+        for (Map.Entry<String, Set<String>> entry : waitingOn.entrySet()) {
+            if (entry.getValue().isEmpty() && !blocked.contains(entry.getKey())) {
+                ready.add(entry.getKey());
+            }
+        }
+
+        // Go
+        final Set<String> finished = new HashSet<>();
+        final Map<Future<Boolean>, String> inFlight = new HashMap<>();
+        Throwable failure = null;
+        boolean stopped = false;
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.min(maxInFlight, Math.max(1, waitingOn.size())), new NamedThreadFactory(threadName));
+        try {
+            final ExecutorCompletionService<Boolean> completionService = new ExecutorCompletionService<>(executorService);
+            // Ready nodes wait here until a worker is free, so a node that fails stops the ones behind it.
+            final Deque<String> runnable = new ArrayDeque<>(ready);
+            submit(runnable, inFlight, completionService, task);
+
+            while (!inFlight.isEmpty()) {
+                final Future<Boolean> future = completionService.take();
+                final String name = inFlight.remove(future);
+                boolean success;
+                try {
+                    success = future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    success = false;
+                }
+
+                if (!success && stopOnFailure) {
+                    stopped = true;
+                    runnable.clear();
+                    continue;
+                }
+                if (!success) {
+                    blocked.add(name);
+                    block(name, null, dependents, blocked, blockedListener);
+                } else {
+                    finished.add(name);
+                    for (String dependent : dependents.getOrDefault(name, new ArrayList<>())) {
+                        final Set<String> pending = waitingOn.get(dependent);
+                        pending.remove(name);
+                        if (pending.isEmpty() && !stopped && !blocked.contains(dependent)) {
+                            runnable.add(dependent);
+                        }
+                    }
+                }
+                if (failure != null) {
+                    runnable.clear();
+                }
+                submit(runnable, inFlight, completionService, task);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        if (failure != null) {
+            rethrow(failure);
+        }
+        if (stopped)
+            return false;
+
+        // Anything that never became ready is waiting on a circular depends_on.
+        for (Map.Entry<String, Set<String>> entry : waitingOn.entrySet()) {
+            final String name = entry.getKey();
+            if (!finished.contains(name) && !blocked.contains(name)) {
+                blockedListener.blocked(name, entry.getValue());
+            }
+        }
+
+        return finished.size() == waitingOn.size();
+    }
+
+    private void submit(Deque<String> runnable, Map<Future<Boolean>, String> inFlight,
+                        ExecutorCompletionService<Boolean> completionService, Task task) {
+        while (inFlight.size() < maxInFlight && !runnable.isEmpty()) {
+            final String name = runnable.poll();
+            inFlight.put(completionService.submit(() -> task.perform(name)), name);
+        }
+    }
+
+    /**
+     * Marks the node, and everything that transitively depends on it, as never going to run.
+     */
+    private void block(String name, Collection<String> waitingOn, Map<String, List<String>> dependents,
+                       Set<String> blocked, BlockedListener blockedListener) {
+        if (waitingOn != null) {
+            if (!blocked.add(name))
+                return;
+            blockedListener.blocked(name, waitingOn);
+        }
+        for (String dependent : dependents.getOrDefault(name, new ArrayList<>())) {
+            final List<String> because = new ArrayList<>();
+            because.add(name);
+            block(dependent, because, dependents, blocked, blockedListener);
+        }
+    }
+
+    private static void rethrow(Throwable t) throws AdmiralDockerException, InterruptedException, IOException {
+        if (t instanceof AdmiralDockerException)
+            throw (AdmiralDockerException) t;
+        if (t instanceof InterruptedException)
+            throw (InterruptedException) t;
+        if (t instanceof IOException)
+            throw (IOException) t;
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        throw new IllegalStateException(t);
+    }
+}
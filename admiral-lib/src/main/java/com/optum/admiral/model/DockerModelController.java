@@ -25,7 +25,8 @@ import com.github.dockerjava.api.model.Ports;
 import com.github.dockerjava.api.model.Version;
 import com.github.dockerjava.core.command.CreateContainerCmdImpl;
 import com.optum.admiral.AdmiralOptions;
-import com.optum.admiral.config.ActionMonitor;
+import com.optum.admiral.config.ActionMonitorMatcher;
+import com.optum.admiral.config.ActionMonitorTracker;
 import com.optum.admiral.config.AdmiralContainerConfig;
 import com.optum.admiral.config.AdmiralNetworkConfig;
 import com.optum.admiral.config.AdmiralServiceConfig;
@@ -44,14 +45,17 @@ import com.optum.admiral.exception.AdmiralNetworkNotFoundException;
 import com.optum.admiral.exception.AdmiralNetworkHasActiveEndpointsException;
 import com.optum.admiral.io.ContainerLogStreamer;
 import com.optum.admiral.io.FileLogStreamer;
+import com.optum.admiral.io.FileTailService;
 import com.optum.admiral.key.LogStreamerKey;
 import com.optum.admiral.model.dockerjava.DockerJavaDockerModelImpl;
+import com.optum.admiral.model.dockerjava.DockerJavaEventsCallback;
 import com.optum.admiral.type.CopyHook;
 import com.optum.admiral.type.Dependant;
 import com.optum.admiral.type.Duration;
 import com.optum.admiral.type.LogMonitor;
 import com.optum.admiral.type.PortMap;
 import com.optum.admiral.type.Volume;
+import com.optum.admiral.util.NamedThreadFactory;
 
 import java.io.File;
 import java.io.IOException;
@@ -59,14 +63,26 @@ import java.lang.reflect.Field;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -112,14 +128,60 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
 
     private final ComposeConfig composeConfig;
 
-    private final ThreadGroup logStreamerThreadGroup;
+    private final FileTailService fileTailService;
+
+    private final Semaphore createPermits;
+
+    /**
+     * Runs the tries of every HealthCheck and PostStartWait.  Tries block (an exec, a socket connect), but the waits
+     * between them don't hold a thread.
+     */
+    private final ScheduledExecutorService healthCheckScheduler;
+    private final ExecutorService readPool;
+
+    /**
+     * Runs post create execute hooks when they run in parallel.  Bounded, so creating many services at once can't
+     * start an unbounded number of processes (each hook's thread also reads its output).
+     */
+    private final ExecutorService hookPool;
+
+    /**
+     * Built lazily by the first state question, then kept current by the Docker Engine events stream.  Dropped
+     * whenever that stream isn't live.
+     */
+    private ContainerStateSnapshot containerStateSnapshot;
+
+    /**
+     * Services are started, created, and stopped concurrently, so events arrive from many threads at once.  Each
+     * event is delivered to the listeners as a unit so that multi-line output and tracked (cursor-positioned) lines
+     * are never interleaved.
+     */
+    private final Object publishLock = new Object();
 
     public DockerModelController(AdmiralEventPublisher admiralEventPublisher, ComposeConfig composeConfig, AdmiralOptions admiralOptions) {
         this.admiralEventPublisher = admiralEventPublisher;
         this.composeConfig = composeConfig;
         this.admiralOptions = admiralOptions;
-        this.logStreamerThreadGroup = new ThreadGroup("LogStreamers");
+        this.fileTailService = new FileTailService(new ThreadGroup("LogStreamers"));
+        this.createPermits = new Semaphore(admiralOptions.maxCreatesInFlight);
+        this.healthCheckScheduler = Executors.newScheduledThreadPool(2 * admiralOptions.maxServicesInFlight, new NamedThreadFactory("HealthCheck"));
+        this.readPool = Executors.newFixedThreadPool(admiralOptions.maxReadsInFlight, new NamedThreadFactory("DockerRead"));
+        this.hookPool = Executors.newFixedThreadPool(admiralOptions.maxHooksInFlight, new NamedThreadFactory("ExecuteHook"));
         rebuildContainerSet(composeConfig);
+        dockerImpl.setMaxConnections(connectionPoolSize());
+    }
+
+    /**
+     * Each joined container holds two connections (stdout and stderr) for as long as it is joined, and the events
+     * stream holds one more.  On top of those, every in-flight operation and health check try needs one of its own.
+     * Connections are only opened on demand, so a generous maximum costs nothing.
+     */
+    private int connectionPoolSize() {
+        final int streams = 2 * containerSet.size() + 1;
+        final int operations = Math.max(Math.max(admiralOptions.maxServicesInFlight, admiralOptions.maxReadsInFlight),
+                Math.max(admiralOptions.maxCreatesInFlight, admiralOptions.maxPullsInFlight));
+        final int healthChecks = 2 * admiralOptions.maxServicesInFlight;
+        return Math.max(DockerJavaDockerModelImpl.DEFAULT_MAX_CONNECTIONS, streams + operations + healthChecks);
     }
 
     /**
@@ -127,7 +189,17 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
      */
     @Override
     public void publish(Consumer<AdmiralEventListener> event) {
-        admiralEventPublisher.publish(event);
+        synchronized (publishLock) {
+            admiralEventPublisher.publish(event);
+        }
+    }
+
+    /**
+     * Convenience delegate method.  Not under the publish lock, so other threads can keep publishing while this waits.
+     */
+    @Override
+    public void flush() {
+        admiralEventPublisher.flush();
     }
 
     private DockerJavaDockerModelImpl dockerImpl = new DockerJavaDockerModelImpl(this, this);
@@ -184,6 +256,57 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         if (dockerImpl.connectIfNecessary()) {
             publish(l -> l.dockerEngineConnected());
         }
+        // Every action comes through here first.  While the events stream is live it keeps the snapshot current, so
+        // the snapshot carries over from one action to the next.  Otherwise the action starts with a fresh view.
+        if (!dockerImpl.isWatchingEvents()) {
+            invalidateContainerStateSnapshot();
+            dockerImpl.watchEvents(new DockerJavaEventsCallback(this));
+        }
+    }
+
+    /**
+     * Called on the Docker Engine events stream thread.
+     */
+    public void containerEventReceived(String containerName, String action) {
+        // Guard
+        final ContainerController containerController = containerSet.get(containerName);
+        if (containerController == null)
+            return;
+        final ContainerStateSnapshot.State state = ContainerStateSnapshot.stateAfterEvent(action);
+        if (state == null)
+            return;
+
+        // Go
+        synchronized (this) {
+            if (containerStateSnapshot != null) {
+                containerStateSnapshot.put(containerName, state);
+            }
+        }
+        containerController.setContainerState(state);
+
+        // Notify
+        publish(l -> l.dockerEngineContainerEvent(containerName, action));
+    }
+
+    /**
+     * Called on the Docker Engine events stream thread.
+     */
+    public void networkEventReceived(String dockerNetworkName, String action) {
+        for (AdmiralNetworkConfig admiralNetworkConfig : composeConfig.getNetworks()) {
+            if (dockerNetworkName.equals(admiralNetworkConfig.getDockerNetworkName())) {
+                publish(l -> l.dockerEngineNetworkEvent(dockerNetworkName, action));
+                return;
+            }
+        }
+    }
+
+    /**
+     * The events stream ended without us closing it (the Docker Engine restarted, for example).  What we know may now
+     * be stale, so forget it; the next action will ask again and resubscribe.
+     */
+    public void eventsStreamLost(Throwable throwable) {
+        invalidateContainerStateSnapshot();
+        publish(l -> l.debug("Docker Engine events stream closed" + (throwable == null ? "" : ": " + throwable.getMessage())));
     }
 
     public void disconnectFromDockerEngine() throws AdmiralDockerException {
@@ -191,22 +314,36 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         publish(l -> l.dockerEngineDisconnected());
     }
 
+    /**
+     * Stops the threads this controller keeps for its whole life.  Only needed when the process goes on without it
+     * (the daemon, when it reboots).
+     */
+    public void close() {
+        healthCheckScheduler.shutdownNow();
+        readPool.shutdownNow();
+        hookPool.shutdownNow();
+        fileTailService.close();
+    }
+
     private static final String STDOUT = "stdout";
     private static final String STDERR = "stderr";
     public void attachToContainer(AdmiralServiceConfig admiralServiceConfig, String containerName)
             throws AdmiralDockerException {
+        // The matcher is shared by every replica of the service; the tracker is this container's alone.
+        final ActionMonitorMatcher actionMonitorMatcher = admiralServiceConfig.getActionMonitorMatcher();
+        final ActionMonitorTracker actionMonitorTracker = actionMonitorMatcher.newTracker();
         publish(l -> l.debugAttachToContainerBegin(containerName, STDOUT));
-        attachToContainer(containerName, "A", STDOUT, admiralServiceConfig.getActionMonitors(), false);
+        attachToContainer(containerName, "A", STDOUT, actionMonitorMatcher, actionMonitorTracker, false);
         publish(l -> l.debugAttachToContainerEnd(containerName, STDOUT));
         publish(l -> l.debugAttachToContainerBegin(containerName, STDERR));
-        attachToContainer(containerName, "B", STDERR, admiralServiceConfig.getActionMonitors(), true);
+        attachToContainer(containerName, "B", STDERR, actionMonitorMatcher, actionMonitorTracker, true);
         publish(l -> l.debugAttachToContainerEnd(containerName, STDERR));
     }
 
-    private void attachToContainer(String containerName, String groupName, String streamName, List<ActionMonitor> actionMonitors, boolean stderr)
+    private void attachToContainer(String containerName, String groupName, String streamName, ActionMonitorMatcher actionMonitorMatcher, ActionMonitorTracker actionMonitorTracker, boolean stderr)
             throws AdmiralDockerException {
         // Gather
-        final ContainerLogStreamer containerLogStreamer = new ContainerLogStreamer(containerName, groupName, streamName, actionMonitors);
+        final ContainerLogStreamer containerLogStreamer = new ContainerLogStreamer(containerName, groupName, streamName, actionMonitorMatcher, actionMonitorTracker);
         final LogStreamerKey logStreamerKey = containerLogStreamer.getPrimaryKey();
 
         final ContainerController containerController = getContainer(containerName);
@@ -246,7 +383,7 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
                 return;
 
             // Go
-            fileLogStreamer.start(logStreamerThreadGroup, reconnecting, this);
+            fileLogStreamer.start(fileTailService, reconnecting, this);
             publish(l -> l.debugAttachToLogEnd(containerName, logMonitor.filename));
 
             // Notify
@@ -259,13 +396,58 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         containerController.detatch();
     }
 
+    public void detatchFromAllContainers() {
+        for (ContainerController containerController : containerSet.values()) {
+            containerController.detatch();
+        }
+    }
+
     public boolean isContainerRunning(String containerName) throws AdmiralDockerException {
-        try {
-            final InspectContainerResponse inspectContainerResponse = dockerImpl.inspectContainer(containerName);
-            return inspectContainerResponse.getState().getRunning();
-        } catch (AdmiralContainerNotFoundException e) {
-            return false;
+        return getContainerState(containerName) == ContainerStateSnapshot.State.RUNNING;
+    }
+
+    /**
+     * Answers from the snapshot when it can.  Containers that aren't ours, or that Admiral has changed since the
+     * snapshot was taken, are inspected individually and the answer is remembered.
+     */
+    private ContainerStateSnapshot.State getContainerState(String containerName) throws AdmiralDockerException {
+        final ContainerStateSnapshot snapshot = getContainerStateSnapshot();
+        ContainerStateSnapshot.State state = snapshot.get(containerName);
+        if (state == null) {
+            try {
+                final InspectContainerResponse inspectContainerResponse = dockerImpl.inspectContainer(containerName);
+                state = Boolean.TRUE.equals(inspectContainerResponse.getState().getRunning()) ? ContainerStateSnapshot.State.RUNNING : ContainerStateSnapshot.State.CREATED;
+            } catch (AdmiralContainerNotFoundException e) {
+                state = ContainerStateSnapshot.State.MISSING;
+            }
+            snapshot.put(containerName, state);
+        }
+        final ContainerController containerController = containerSet.get(containerName);
+        if (containerController != null) {
+            containerController.setContainerState(state);
         }
+        return state;
+    }
+
+    /**
+     * One listContainers call covers every container in the project.  Container names all start with the project
+     * name, so that is what we filter on.
+     */
+    private synchronized ContainerStateSnapshot getContainerStateSnapshot() throws AdmiralDockerException {
+        if (containerStateSnapshot == null) {
+            containerStateSnapshot = new ContainerStateSnapshot(containerSet.keySet(), dockerImpl.listContainers(composeConfig.getProjectName()));
+        }
+        return containerStateSnapshot;
+    }
+
+    private synchronized void invalidateContainerState(String containerName) {
+        if (containerStateSnapshot != null) {
+            containerStateSnapshot.invalidate(containerName);
+        }
+    }
+
+    private synchronized void invalidateContainerStateSnapshot() {
+        containerStateSnapshot = null;
     }
 
     /**
@@ -303,11 +485,8 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
         for (int i = 1; i <= replicas; i++) {
             final String containerName = composeConfig.calculateContainerName(serviceName, i);
-            try {
-                dockerImpl.inspectContainer(containerName);
+            if (containerExists(containerName)) {
                 return true;
-            } catch (AdmiralContainerNotFoundException e) {
-                // Do Nothing
             }
         }
         return false;
@@ -337,52 +516,40 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         }
     }
 
+    /**
+     * Starts each service the moment the last of its depends_on services has started, with independent services
+     * starting concurrently (up to maxServicesInFlight at a time).
+     */
     public void startServicesInDependencyOrder(Collection<AdmiralServiceConfig> services)
-            throws AdmiralDockerException, InterruptedException {
-        Set<String> startedServiceNames = new HashSet<>();
-        Set<AdmiralServiceConfig> toStart = new HashSet<>(services);
+            throws AdmiralDockerException, InterruptedException, IOException {
+        final DependencyScheduler dependencyScheduler = new DependencyScheduler("ServiceStarter", admiralOptions.maxServicesInFlight);
+        final Map<String, AdmiralServiceConfig> toStart = new HashMap<>();
 
         for(AdmiralServiceConfig admiralServiceConfig : composeConfig.getServicesOrEmpty()) {
             if (isServiceRunningOrAssumed(admiralServiceConfig.getName())) {
-                startedServiceNames.add(admiralServiceConfig.getName());
+                dependencyScheduler.satisfied(admiralServiceConfig.getName());
             }
         }
 
-        boolean keepTrying = true;
-        while (keepTrying && (!toStart.isEmpty())) {
-            for (AdmiralServiceConfig admiralServiceConfig : services) {
-                if (toStart.contains(admiralServiceConfig)) {
-                    List<String> notIn = admiralServiceConfig.dependsOnAllIn(startedServiceNames);
-                    if (notIn.isEmpty()) {
-                        startService(admiralServiceConfig);
-                        startedServiceNames.add(admiralServiceConfig.getName());
-                        toStart.remove(admiralServiceConfig);
-                    } else {
-                        ArrayList<String> wontStart = new ArrayList<>();
-                        wontStart.addAll(notIn);
-                        for(AdmiralServiceConfig toDo : toStart) {
-                            wontStart.remove(toDo.getName());
-                        }
-                        if (wontStart.isEmpty()) {
-                            publish(l -> l.warning("Can't start " + admiralServiceConfig.getName() + " yet.  Waiting on: " + String.join(", ", notIn)));
-                        } else {
-                            publish(l -> l.error("Unable to start " + admiralServiceConfig.getName() + " because the following depends_on services are not running: " + String.join(", ", wontStart)));
-                            keepTrying = false;
-                        }
-                    }
-                }
-            }
-            try {
-                // TODO - Sleeps are evil.  Static, no back-off sleeps are more evil.
-                if (keepTrying)
-                    Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                System.out.println("SS: " + e.getMessage());
-                keepTrying = false;
-            }
+        for (AdmiralServiceConfig admiralServiceConfig : services) {
+            toStart.put(admiralServiceConfig.getName(), admiralServiceConfig);
+            dependencyScheduler.add(admiralServiceConfig.getName(), getDependsOnNames(admiralServiceConfig));
         }
+
+        dependencyScheduler.run(serviceName -> {
+                    startService(toStart.get(serviceName));
+                    return true;
+                },
+                (serviceName, waitingOn) -> publish(l -> l.error("Unable to start " + serviceName + " because the following depends_on services are not running: " + String.join(", ", waitingOn))));
     }
 
+    private static List<String> getDependsOnNames(AdmiralServiceConfig admiralServiceConfig) {
+        List<String> names = new ArrayList<>();
+        for (Dependant dependant : admiralServiceConfig.getDependsOn()) {
+            names.add(dependant.getServiceName());
+        }
+        return names;
+    }
 
     public void startService(AdmiralServiceConfig admiralServiceConfig)
             throws AdmiralDockerException, InterruptedException {
@@ -393,6 +560,8 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         publish(l -> l.serviceStarting(serviceName));
 
         // Go
+        // Every replica is started before any is waited on, so their waits run side by side.
+        final List<CompletableFuture<Boolean>> waits = new ArrayList<>();
         final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
         for (int i = 1; i <= replicas; i++) {
             final String containerName = composeConfig.calculateContainerName(serviceName, i);
@@ -400,61 +569,63 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
             if (!running) {
                 attachToContainer(admiralServiceConfig, containerName);
                 attachToLogs(admiralServiceConfig, containerName, false);
-                startContainer(admiralServiceConfig, containerName);
+                waits.add(startContainerAsync(admiralServiceConfig, containerName));
             } else {
                 // This is a skipped
                 publish(l -> l.containerStarted(containerName, true));
             }
         }
+        awaitAll(waits);
 
         publish(l -> l.serviceStarted(serviceName));
     }
 
+    /**
+     * Stops services in reverse dependency order: a service is stopped the moment every service (in this set) that
+     * depends on it has stopped, and independent services stop concurrently.  So a stop takes about as long as the
+     * longest depends_on chain of stop_grace_periods, not the sum of all of them.
+     */
     // TODO: This implementation is blind to the actual state of containers.
     public void stopServices(Collection<AdmiralServiceConfig> services)
-            throws AdmiralDockerException {
-        Set<String> stopped = new HashSet<>();
-        Set<String> toStop = new HashSet<>();
+            throws AdmiralDockerException, InterruptedException, IOException {
+        final Map<String, AdmiralServiceConfig> toStop = new HashMap<>();
         for (AdmiralServiceConfig admiralServiceConfig : services) {
-            toStop.add(admiralServiceConfig.getName());
+            toStop.put(admiralServiceConfig.getName(), admiralServiceConfig);
         }
 
-        boolean keepTrying = true;
-        while (keepTrying && (!toStop.isEmpty())) {
-            for (AdmiralServiceConfig admiralServiceConfig : services) {
-                final String serviceName = admiralServiceConfig.getName();
-                if (toStop.contains(serviceName) && nooneDependsOnMe(stopped, services, serviceName)) {
-                    stopService(admiralServiceConfig);
-                    stopped.add(serviceName);
-                    toStop.remove(serviceName);
-                } else {
-                    publish(l -> l.warning("Can't stop " + serviceName + " yet."));
-                }
-            }
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                keepTrying = false;
-            }
-        }
+        reverseDependencyScheduler("ServiceStopper", services).run(serviceName -> {
+                    stopService(toStop.get(serviceName));
+                    return true;
+                },
+                (serviceName, waitingOn) -> publish(l -> l.warning("Can't stop " + serviceName + " because these services depending on it did not stop: " + String.join(", ", waitingOn))));
     }
 
-    private boolean nooneDependsOnMe(Set<String> stopped, Collection<AdmiralServiceConfig> services, String me) {
+    /**
+     * In reverse dependency order, a service waits on every service in the set that depends on it.
+     */
+    private DependencyScheduler reverseDependencyScheduler(String threadName, Collection<AdmiralServiceConfig> services) {
+        final Map<String, List<String>> dependents = new HashMap<>();
         for (AdmiralServiceConfig admiralServiceConfig : services) {
-            final String serviceName = admiralServiceConfig.getName();
-            for(Dependant dependant : admiralServiceConfig.getDependsOn()) {
-                if (dependant.getServiceName().equals(me) && (!stopped.contains(serviceName))) {
-                    // And that service isn't stopped.
-                    // So I can't stop.
-                    return false;
+            dependents.put(admiralServiceConfig.getName(), new ArrayList<>());
+        }
+        for (AdmiralServiceConfig admiralServiceConfig : services) {
+            for (Dependant dependant : admiralServiceConfig.getDependsOn()) {
+                final List<String> dependentNames = dependents.get(dependant.getServiceName());
+                if (dependentNames != null) {
+                    dependentNames.add(admiralServiceConfig.getName());
                 }
             }
         }
-        return true;
+
+        final DependencyScheduler dependencyScheduler = new DependencyScheduler(threadName, admiralOptions.maxServicesInFlight);
+        for (AdmiralServiceConfig admiralServiceConfig : services) {
+            dependencyScheduler.add(admiralServiceConfig.getName(), dependents.get(admiralServiceConfig.getName()));
+        }
+        return dependencyScheduler;
     }
 
     private void stopService(AdmiralServiceConfig admiralServiceConfig)
-            throws AdmiralDockerException {
+            throws AdmiralDockerException, InterruptedException, IOException {
         // Gather
         final String serviceName = admiralServiceConfig.getName();
 
@@ -462,18 +633,36 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
 
         final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
 
+        // Every replica can block for the full stop_grace_period, so they are stopped concurrently, up to
+        // maxServicesInFlight at a time.
+        final DependencyScheduler replicaScheduler = new DependencyScheduler("ReplicaStopper", Math.min(replicas, admiralOptions.maxServicesInFlight));
         for (int i = 1; i <= replicas; i++) {
-            final String containerName = composeConfig.calculateContainerName(serviceName, i);
-            stopContainer(containerName, admiralServiceConfig.getStopGracePeriod());
+            replicaScheduler.add(composeConfig.calculateContainerName(serviceName, i), Collections.emptyList());
         }
+        replicaScheduler.run(containerName -> {
+                    stopContainer(containerName, admiralServiceConfig.getStopGracePeriod());
+                    return true;
+                },
+                (containerName, waitingOn) -> {});
+
         publish(l -> l.serviceStopped(serviceName));
     }
 
+    /**
+     * Removes services in the same reverse dependency order as stopServices, independent services concurrently.
+     */
     public void rmServices(Collection<AdmiralServiceConfig> services)
-            throws AdmiralDockerException, InterruptedException {
+            throws AdmiralDockerException, InterruptedException, IOException {
+        final Map<String, AdmiralServiceConfig> toRemove = new HashMap<>();
         for (AdmiralServiceConfig admiralServiceConfig : services) {
-            rmService(admiralServiceConfig);
+            toRemove.put(admiralServiceConfig.getName(), admiralServiceConfig);
         }
+
+        reverseDependencyScheduler("ServiceRemover", services).run(serviceName -> {
+                    rmService(toRemove.get(serviceName));
+                    return true;
+                },
+                (serviceName, waitingOn) -> publish(l -> l.warning("Can't remove " + serviceName + " because these services depending on it were not removed: " + String.join(", ", waitingOn))));
     }
 
     private void rmService(AdmiralServiceConfig admiralServiceConfig)
@@ -496,11 +685,10 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
      * Convenience Method
      */
     public String matchAdmiralContainerName(Container container) {
-        for (String name : containerSet.keySet()) {
-            for(String n : container.getNames()) {
-                if (n.equals("/" + name)) {
-                    return name;
-                }
+        for(String n : container.getNames()) {
+            // The Docker Engine reports names with a leading slash.
+            if (n.startsWith("/") && containerSet.containsKey(n.substring(1))) {
+                return n.substring(1);
             }
         }
         return null;
@@ -515,44 +703,117 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
      * If the user in the shell types "wait" we wait (userSpecificallyAskedToWait==true) even if the waitForContainersWhenStarting is false.
      */
     public boolean containerWait(AdmiralContainerConfig admiralContainerConfig, String containerName, boolean userSpecificallyAskedToWait) {
+        return await(containerWaitAsync(admiralContainerConfig, containerName, userSpecificallyAskedToWait));
+    }
+
+    /**
+     * All of a container's HealthChecks run at the same time, and then all of its PostStartWaits run at the same time.
+     * Nothing blocks while the checks wait between tries, so any number of containers can be waited on at once.
+     */
+    public CompletableFuture<Boolean> containerWaitAsync(AdmiralContainerConfig admiralContainerConfig, String containerName, boolean userSpecificallyAskedToWait) {
         // HealthChecks are mandatory since they are docker specifications.
-        HealthCheck composeHealthCheck = admiralContainerConfig.getComposeHealthCheck();
+        // PostStartWaits are optional since they are Admiral specifications.  If you don't want to wait, we won't wait.
+        final boolean waitForAdmiralChecks = userSpecificallyAskedToWait || admiralOptions.waitForContainersWhenStarting;
+
+        // Gather
+        final List<CompletableFuture<Boolean>> healthChecks = new ArrayList<>();
+        final HealthCheck composeHealthCheck = admiralContainerConfig.getComposeHealthCheck();
         if (composeHealthCheck != null) {
-            if (!composeHealthCheck.executeHealthCheck(this, this, containerName, userSpecificallyAskedToWait)) {
-                publish(l -> l.warning("Healthcheck expired.  Container " + containerName + " has not responded within "
-                        + composeHealthCheck.retries + " retries."));
-                return false;
-            }
+            healthChecks.add(watchHealthCheck(composeHealthCheck, containerName, userSpecificallyAskedToWait));
         }
-
-        // PostStartWaits are optional since they are Admiral specifications.  If you don't want to wait, we won't wait.
-        if (userSpecificallyAskedToWait || admiralOptions.waitForContainersWhenStarting) {
+        if (waitForAdmiralChecks) {
             for(HealthCheck healthCheck : admiralContainerConfig.getAdmiralHealthChecks()) {
-                if (!healthCheck.executeHealthCheck(this, this, containerName, userSpecificallyAskedToWait)) {
-                    publish(l -> l.warning("Healthcheck expired.  Container " + containerName + " has not responded within "
-                            + healthCheck.retries + " retries."));
-                    return false;
-                }
+                healthChecks.add(watchHealthCheck(healthCheck, containerName, userSpecificallyAskedToWait));
             }
+        }
 
+        // Go
+        return allTrue(healthChecks).thenCompose(healthy -> {
+            if (!healthy || !waitForAdmiralChecks) {
+                return CompletableFuture.completedFuture(healthy);
+            }
+            final List<CompletableFuture<Boolean>> startWaits = new ArrayList<>();
             for (StartWait startWait : admiralContainerConfig.getPostStartWaits()) {
-                if (!startWait.waitForIt(this)) {
-                    publish(l -> l.warning("Wait expired.  Container " + containerName + " has not responded within "
-                            + startWait.getSeconds() + " seconds."));
-                    return false;
-                }
+                startWaits.add(startWait.waitForIt(healthCheckScheduler, this).thenApply(success -> {
+                    if (!success) {
+                        publish(l -> l.warning("Wait expired.  Container " + containerName + " has not responded within "
+                                + startWait.getSeconds() + " seconds."));
+                    }
+                    return success;
+                }));
             }
+            return allTrue(startWaits);
+        });
+    }
+
+    private CompletableFuture<Boolean> watchHealthCheck(HealthCheck healthCheck, String containerName, boolean rewait) {
+        return healthCheck.executeHealthCheck(healthCheckScheduler, this, this, containerName, rewait).thenApply(success -> {
+            if (!success) {
+                publish(l -> l.warning("Healthcheck expired.  Container " + containerName + " has not responded within "
+                        + healthCheck.retries + " retries."));
+            }
+            return success;
+        });
+    }
+
+    /**
+     * Completes with true when every future does, or with false the moment any one of them doesn't (cancelling the
+     * rest, since their answer no longer matters).
+     */
+    private CompletableFuture<Boolean> allTrue(List<CompletableFuture<Boolean>> futures) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        if (futures.isEmpty()) {
+            result.complete(true);
+            return result;
         }
+        final AtomicInteger remaining = new AtomicInteger(futures.size());
+        for (CompletableFuture<Boolean> future : futures) {
+            future.whenComplete((success, throwable) -> {
+                if (throwable != null || !Boolean.TRUE.equals(success)) {
+                    if (throwable != null && !(throwable instanceof CancellationException)) {
+                        publishUnhandledException(throwable);
+                    }
+                    if (result.complete(false)) {
+                        for (CompletableFuture<Boolean> other : futures) {
+                            other.cancel(false);
+                        }
+                    }
+                } else if (remaining.decrementAndGet() == 0) {
+                    result.complete(true);
+                }
+            });
+        }
+        return result;
+    }
 
-        return true;
+    /**
+     * Blocks until every wait is finished.
+     */
+    public void awaitAll(Collection<CompletableFuture<Boolean>> futures) {
+        for (CompletableFuture<Boolean> future : futures) {
+            await(future);
+        }
     }
 
-    public boolean startContainer(AdmiralContainerConfig admiralContainerConfig, String containerName)
+    private boolean await(CompletableFuture<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | CancellationException e) {
+            future.cancel(false);
+            return false;
+        } catch (ExecutionException e) {
+            publishUnhandledException(e.getCause());
+            return false;
+        }
+    }
+
+    private boolean startContainerWithoutWaiting(AdmiralContainerConfig admiralContainerConfig, String containerName)
             throws AdmiralDockerException {
         try {
             publish(l -> l.containerStarting(this, containerName, admiralContainerConfig));
 
             dockerImpl.startContainer(containerName);
+            invalidateContainerState(containerName);
         } catch (AdmiralMountsDeniedException e) {
             publish(l -> l.containerStartingFailed(containerName));
             publish(l -> l.containerMountDenied(containerName, admiralContainerConfig.getName(), e.getMountName()));
@@ -564,7 +825,23 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         }
         publish(l -> l.containerStarted(containerName, false));
 
-        return containerWait(admiralContainerConfig, containerName, false);
+        return true;
+    }
+
+    public boolean startContainer(AdmiralContainerConfig admiralContainerConfig, String containerName)
+            throws AdmiralDockerException {
+        return await(startContainerAsync(admiralContainerConfig, containerName));
+    }
+
+    /**
+     * Completes once the container is started and has passed its waits.
+     */
+    public CompletableFuture<Boolean> startContainerAsync(AdmiralContainerConfig admiralContainerConfig, String containerName)
+            throws AdmiralDockerException {
+        if (!startContainerWithoutWaiting(admiralContainerConfig, containerName)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return containerWaitAsync(admiralContainerConfig, containerName, false);
     }
 
     public void publishUnhandledException(Throwable cause) {
@@ -578,6 +855,7 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
             final boolean running = isContainerRunning(containerName);
             if (!running) {
                 dockerImpl.removeContainer(containerName);
+                invalidateContainerState(containerName);
                 publish(l -> l.containerRemoved(containerName, false));
             } else {
                 publish(l -> l.containerRemoved(containerName, true));
@@ -635,12 +913,7 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
     }
 
     public boolean containerExists(String containerName) throws AdmiralDockerException {
-        try {
-            dockerImpl.inspectContainer(containerName);
-            return true;
-        } catch (AdmiralContainerNotFoundException e) {
-            return false;
-        }
+        return getContainerState(containerName) != ContainerStateSnapshot.State.MISSING;
     }
 
     private HostConfig createContainer_HostConfig(AdmiralContainerConfig admiralContainerConfig) {
@@ -768,6 +1041,7 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         boolean imageDownloaded = false;
         try {
             createContainerResponse = dockerImpl.createContainer(ccc);
+            invalidateContainerState(ccc.getName());
         } catch (AdmiralImageNotFoundException e) {
             publish(l -> l.localImageNotFound(e.getImageName()));
             publish(l -> l.imagePulling(admiralContainerConfig.getImage()));
@@ -888,58 +1162,147 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         return true;
     }
 
+    /**
+     * Pulls, before anything is created, every image these services need that isn't already local.  One listImages
+     * call decides what is missing, each distinct image/platform is pulled once no matter how many services use it,
+     * and up to maxPullsInFlight pulls run at the same time.  The Docker Engine itself shares layers between
+     * concurrent pulls.  An image that is local for another platform than the service asks for counts as missing.
+     *
+     * A failed pull is not fatal here (it is only warned about); create still pulls reactively and reports the
+     * failure in context.
+     */
+    public void pullMissingImages(Collection<AdmiralServiceConfig> services)
+            throws AdmiralDockerException, InterruptedException, IOException {
+        // Gather
+        final Map<String, AdmiralServiceConfig> imagesToPull = new LinkedHashMap<>();
+        for (AdmiralServiceConfig admiralServiceConfig : services) {
+            final String image = admiralServiceConfig.getImage();
+            if (image != null && !image.isEmpty()) {
+                imagesToPull.putIfAbsent(image + "|" + admiralServiceConfig.getPlatform(), admiralServiceConfig);
+            }
+        }
+
+        // Guard
+        if (imagesToPull.isEmpty())
+            return;
+
+        final Set<String> localTags = new HashSet<>();
+        for (Image image : dockerImpl.listImages()) {
+            if (image.getRepoTags() != null) {
+                localTags.addAll(Arrays.asList(image.getRepoTags()));
+            }
+        }
+        final DependencyScheduler pullScheduler = new DependencyScheduler("ImagePuller", admiralOptions.maxPullsInFlight);
+        for (Map.Entry<String, AdmiralServiceConfig> entry : imagesToPull.entrySet()) {
+            final String localTag = localTagFor(entry.getValue().getImage());
+            // Digest references aren't listed by tag; leave those to create.
+            if (localTag != null) {
+                if (!localTags.contains(localTag) || !isLocalForPlatform(localTag, entry.getValue().getPlatform())) {
+                    pullScheduler.add(entry.getKey(), Collections.emptyList());
+                }
+            }
+        }
+
+        // Go
+        pullScheduler.run(key -> {
+                    final AdmiralContainerConfig admiralContainerConfig = imagesToPull.get(key);
+                    final String image = admiralContainerConfig.getImage();
+                    publish(l -> l.imagePulling(image));
+                    try {
+                        dockerImpl.pullImage(image, admiralContainerConfig.getPlatform());
+                        return true;
+                    } catch (AdmiralDockerException e) {
+                        publish(l -> l.warning("Unable to pull " + image + " ahead of create: " + e.getMessage()));
+                        return false;
+                    }
+                },
+                (key, waitingOn) -> {});
+    }
+
+    /**
+     * Whether the local image is for this platform.  listImages doesn't say, so it takes an inspect, and only when
+     * the service names a platform.  An image that can't be inspected is pulled.
+     */
+    private boolean isLocalForPlatform(String localTag, String platform) {
+        // Guard
+        if (platform == null || platform.isEmpty())
+            return true;
+
+        // Go
+        try {
+            return samePlatform(platform, dockerImpl.inspectImagePlatform(localTag));
+        } catch (AdmiralDockerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compares two platforms written as "os[/arch[/variant]]", on only the parts the service asked for: the os always,
+     * and the architecture when it is given.  The variant is left out, as an image's inspect doesn't report it.
+     */
+    static boolean samePlatform(String requested, String local) {
+        final String[] requestedParts = requested.toLowerCase().split("/");
+        final String[] localParts = local.toLowerCase().split("/");
+        if (!requestedParts[0].equals(localParts[0]))
+            return false;
+        if (requestedParts.length < 2)
+            return true;
+        return localParts.length >= 2 && requestedParts[1].equals(localParts[1]);
+    }
+
+    /**
+     * The name the Docker Engine lists a pulled image under: "nginx" is listed as "nginx:latest" and
+     * "docker.io/library/nginx:1" as "nginx:1".  Returns null for digest references.
+     */
+    static String localTagFor(String image) {
+        if (image.contains("@"))
+            return null;
+        String name = image;
+        if (name.startsWith("docker.io/")) {
+            name = name.substring("docker.io/".length());
+            if (name.startsWith("library/")) {
+                name = name.substring("library/".length());
+            }
+        }
+        final int lastSlash = name.lastIndexOf('/');
+        if (name.indexOf(':', lastSlash + 1) < 0) {
+            name = name + ":latest";
+        }
+        return name;
+    }
+
+    /**
+     * Creates each service once all of its depends_on services are created.  With parallelizeCreates, independent
+     * services (and the replicas of one service) are created concurrently, never more than maxCreatesInFlight
+     * containers at a time.  Otherwise services are created one at a time, as before.
+     */
     public void createServicesInDependencyOrder(Collection<AdmiralServiceConfig> services)
             throws AdmiralDockerException, AdmiralServiceConfigNotFoundException, InterruptedException, IOException  {
-        Set<String> processedServiceNames = new HashSet<>();
-        Set<AdmiralServiceConfig> toProcess = new HashSet<>(services);
+        final int maxInFlight = admiralOptions.parallelizeCreates ? admiralOptions.maxCreatesInFlight : 1;
+        final DependencyScheduler dependencyScheduler = new DependencyScheduler("ServiceCreator", maxInFlight);
+        // As before, unless parallelizing: the first service that can't be created ends the run.
+        dependencyScheduler.setStopOnFailure(!admiralOptions.parallelizeCreates);
+        final Map<String, AdmiralServiceConfig> toCreate = new HashMap<>();
 
         for(AdmiralServiceConfig admiralServiceConfig : composeConfig.getServices()) {
             if (isServiceCreated(admiralServiceConfig.getName())) {
-                processedServiceNames.add(admiralServiceConfig.getName());
+                dependencyScheduler.satisfied(admiralServiceConfig.getName());
             }
         }
 
-        boolean keepTrying = true;
-        while (keepTrying && (!toProcess.isEmpty())) {
-            for (AdmiralServiceConfig admiralServiceConfig : services) {
-                // Gather
-                final String serviceName = admiralServiceConfig.getName();
-                // Go
-                if (toProcess.contains(admiralServiceConfig)) {
-                    List<String> notIn = admiralServiceConfig.dependsOnAllIn(processedServiceNames);
-                    if (notIn.isEmpty()) {
-                        boolean success = createService(admiralServiceConfig);
-                        if (success) {
-                            processedServiceNames.add(serviceName);
-                            toProcess.remove(admiralServiceConfig);
-                        } else {
-                            publish(l -> l.error("Unable to create service " + serviceName));
-                            return;
-                        }
-                    } else {
-                        ArrayList<String> wontCreate = new ArrayList<>();
-                        wontCreate.addAll(notIn);
-                        for(AdmiralServiceConfig toDo : toProcess) {
-                            wontCreate.remove(toDo.getName());
-                        }
-                        if (wontCreate.isEmpty()) {
-                            publish(l -> l.warning("Can't create " + admiralServiceConfig.getName() + " yet.  Waiting on: " + String.join(", ", notIn)));
-                        } else {
-                            publish(l -> l.error("Unable to create " + admiralServiceConfig.getName() + " because the following depends_on services are not created: " + String.join(", ", wontCreate)));
-                            keepTrying = false;
-                        }
-                    }
-                }
-            }
-            try {
-                // TODO - Sleeps are evil.  Static, no back-off sleeps are more evil.
-                if (keepTrying)
-                    Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                System.out.println("CS: " + e.getMessage());
-                keepTrying = false;
-            }
+        for (AdmiralServiceConfig admiralServiceConfig : services) {
+            toCreate.put(admiralServiceConfig.getName(), admiralServiceConfig);
+            dependencyScheduler.add(admiralServiceConfig.getName(), getDependsOnNames(admiralServiceConfig));
         }
+
+        dependencyScheduler.run(serviceName -> {
+                    boolean success = createService(toCreate.get(serviceName));
+                    if (!success) {
+                        publish(l -> l.error("Unable to create service " + serviceName));
+                    }
+                    return success;
+                },
+                (serviceName, waitingOn) -> publish(l -> l.error("Unable to create " + serviceName + " because the following depends_on services are not created: " + String.join(", ", waitingOn))));
     }
 
     private boolean createService(AdmiralServiceConfig admiralServiceConfig)
@@ -950,22 +1313,51 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
 
         final int replicas = admiralServiceConfig.getDeployConfig().getReplicas();
 
-        for (int i = 1; i <= replicas; i++) {
-            final String containerName = composeConfig.calculateContainerName(serviceName, i);
-
-            if (containerExists(containerName))
-                continue;
-
-            boolean success = createContainer(composeConfig, admiralServiceConfig, containerName);
+        if (admiralOptions.parallelizeCreates) {
+            final DependencyScheduler replicaScheduler = new DependencyScheduler("ReplicaCreator", admiralOptions.maxCreatesInFlight);
+            for (int i = 1; i <= replicas; i++) {
+                final String containerName = composeConfig.calculateContainerName(serviceName, i);
+                if (!containerExists(containerName)) {
+                    replicaScheduler.add(containerName, Collections.emptyList());
+                }
+            }
+            boolean success = replicaScheduler.run(containerName -> createContainerInFlight(admiralServiceConfig, containerName),
+                    (containerName, waitingOn) -> {});
             if (!success) {
                 return false;
             }
+        } else {
+            for (int i = 1; i <= replicas; i++) {
+                final String containerName = composeConfig.calculateContainerName(serviceName, i);
+
+                if (containerExists(containerName))
+                    continue;
+
+                boolean success = createContainer(composeConfig, admiralServiceConfig, containerName);
+                if (!success) {
+                    return false;
+                }
+            }
         }
 
         publish(l -> l.serviceCreated(serviceName));
         return true;
     }
 
+    /**
+     * Services and replicas are scheduled on separate pools, so this is what actually bounds the number of
+     * containers being created (and images being pulled) at once.
+     */
+    private boolean createContainerInFlight(AdmiralServiceConfig admiralServiceConfig, String containerName)
+            throws AdmiralDockerException, InterruptedException, IOException {
+        createPermits.acquire();
+        try {
+            return createContainer(composeConfig, admiralServiceConfig, containerName);
+        } finally {
+            createPermits.release();
+        }
+    }
+
     public void joinServices(Collection<AdmiralServiceConfig> services) throws AdmiralDockerException {
         for (AdmiralServiceConfig admiralServiceConfig : services) {
             joinService(admiralServiceConfig);
@@ -1037,54 +1429,39 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         publish(l -> l.warning("Done with create hook fail cleanup."));
     }
 
-    private void cancel(Collection<ForkJoinTask> tasks) {
-        for(ForkJoinTask task : tasks) {
-            if (!task.isCancelled()) {
-                task.cancel(true);
+    private void cancel(Collection<Future<Integer>> futures) {
+        for(Future<Integer> future : futures) {
+            if (!future.isDone()) {
+                future.cancel(true);
             }
         }
     }
 
-    private boolean runHooksInParallel(String containerName, List<ExecuteHook> executeHooks) {
-        final Collection<ForkJoinTask> tasks = new ArrayList<>();
+    /**
+     * The first hook to fail cancels the rest.  Cancelling a hook destroys its command and everything the command
+     * started.
+     */
+    boolean runHooksInParallel(String containerName, List<ExecuteHook> executeHooks) {
+        final CompletionService<Integer> completionService = new ExecutorCompletionService<>(hookPool);
+        final Collection<Future<Integer>> futures = new ArrayList<>();
         for(ExecuteHook executeHook : executeHooks) {
-            tasks.add(new ForkJoinTask() {
-                private Boolean success;
-                @Override
-                public boolean cancel(boolean mayInterruptIfRunning) {
-                    return super.cancel(mayInterruptIfRunning);
-                }
-
-                @Override
-                public Object getRawResult() {
-                    return success;
-                }
-
-                @Override
-                protected void setRawResult(Object value) {
-                }
-
-                @Override
-                protected boolean exec() {
-                    try {
-                        postCreateExecuteHook(containerName, executeHook);
-                    } catch (InterruptedException e) {
-                        DockerModelController.this.cancel(tasks);
-                        return false;
-                    } catch (Exception e) {
-                        DockerModelController.this.cancel(tasks);
-                        return false;
-                    }
-                    success = true;
-                    return success;
-                }
-            });
+            futures.add(completionService.submit(() -> {
+                postCreateExecuteHook(containerName, executeHook);
+                return 0;
+            }));
         }
         try {
-            ForkJoinTask.invokeAll(tasks);
-        } catch (CancellationException e) {
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
             publish(l -> l.error("Post Create Execute Hooks were cancelled."));
             return false;
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            return false;
         }
         return true;
     }
@@ -1151,6 +1528,7 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
 
         if (running) {
             dockerImpl.stopContainer(containerName, admiralOptions.killContainersWhenStopping ? 0 : stopGracePeriod.getSeconds());
+            invalidateContainerState(containerName);
         }
         ContainerController containerController = containerSet.get(containerName);
         containerController.shutdown();
@@ -1182,14 +1560,37 @@ public class DockerModelController implements AdmiralEventPublisher, Debugger, E
         return containerSet.keySet();
     }
 
-    public Collection<ContainerController> inspectContainers() throws AdmiralDockerException {
+    public Collection<ContainerController> inspectContainers() throws AdmiralDockerException, InterruptedException {
+        // Gather
+        final Set<String> existing = new HashSet<>();
+        for(ContainerController containerController : containerSet.values()) {
+            final String containerName = containerController.getName();
+            // No round-trip for containers the snapshot already knows don't exist.
+            if (getContainerState(containerName) != ContainerStateSnapshot.State.MISSING) {
+                existing.add(containerName);
+            }
+        }
+        final ContainerReads<InspectContainerResponse> inspections = readContainers(existing, dockerImpl::inspectContainer);
+
+        // Go
         for(ContainerController containerController : containerSet.values()) {
             final String containerName = containerController.getName();
-            containerController.setInspectContainerResponse(dockerImpl.inspectContainer(containerName));
+            containerController.setInspectContainerResponse(existing.contains(containerName) ? inspections.get(containerName) : null);
         }
         return containerSet.values();
     }
 
+    /**
+     * Starts read for every container, up to maxReadsInFlight at a time.
+     */
+    public <V> ContainerReads<V> readContainers(Collection<String> containerNames, ContainerReads.Read<V> read) {
+        return ContainerReads.start(readPool, containerNames, read);
+    }
+
+    public ContainerReads<Map<String, String>> getContainersEnvironmentVariables(Collection<String> containerNames) {
+        return readContainers(containerNames, this::getContainerEnvironmentVariables);
+    }
+
     public Map<String, String> getContainerEnvironmentVariables(String containerName) throws AdmiralDockerException {
         Map<String, String> vars = new HashMap<>();
         InspectContainerResponse inspectContainerResponse = dockerImpl.inspectContainer(containerName);
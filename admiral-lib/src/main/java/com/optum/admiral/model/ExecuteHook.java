@@ -1,25 +1,45 @@
 package com.optum.admiral.model;
 
 import com.optum.admiral.event.ExecuteHookListener;
+import com.optum.admiral.type.Duration;
+import com.optum.admiral.util.CommandEnvironment;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class ExecuteHook implements Callable<Integer>, Serializable {
+    private static final long serialVersionUID = 1L;
 
-public class ExecuteHook implements Callable<Integer> {
     final String cmdId;
     final String command;
     final String workingDir;
-    ExecuteHookListener executeHookListener;
-
-    private String lastNonErrorLine;
+    /**
+     * In milliseconds.  0 for no limit.
+     */
+    final long timeout;
+    /**
+     * Set for each run by whoever runs the hook, so it is not part of a cached config.
+     */
+    transient ExecuteHookListener executeHookListener;
+
+    private static final long POLL_MS = 20;
+    private static final long DESTROY_GRACE_MS = 5000;
 
     public ExecuteHook(String cmdId, String command, String workingDir) {
+        this(cmdId, command, workingDir, 0);
+    }
+
+    public ExecuteHook(String cmdId, String command, String workingDir, long timeout) {
         this.cmdId = cmdId;
         this.command = command;
         this.workingDir = workingDir;
+        this.timeout = timeout;
     }
 
     public void setExecuteHookListener(ExecuteHookListener executeHookListener){
@@ -38,59 +58,86 @@ public class ExecuteHook implements Callable<Integer> {
         return workingDir;
     }
 
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Runs the command, passing on its output line by line.  The calling thread both waits for the process and reads
+     * its output, so a hook costs one thread.
+     *
+     * If the hook has a timeout and the command runs longer, or the calling thread is interrupted (the hook was
+     * cancelled), the command and everything it started are destroyed.
+     */
     @Override
     public Integer call() throws Exception {
         executeHookListener.startLine(cmdId, "Executing Post Create Hook for " + cmdId);
 
-        Process process = Runtime.getRuntime().exec(command, null, new File(workingDir));
+        final Process process = Runtime.getRuntime().exec(command, CommandEnvironment.getEnvp(), new File(workingDir));
 
-        Thread t = new Thread(() -> {
-            String lastLine="";
-            try {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-                String line;
-                while (true) {
-                    if ((line = reader.readLine()) == null)
-                        break;
+        final String[] lastNonErrorLine = { "" };
+        final ProcessOutputPump pump = new ProcessOutputPump(process,
+                line -> {
                     executeHookListener.stdoutLine(cmdId, line);
-                    lastLine = line;
+                    lastNonErrorLine[0] = line;
+                },
+                line -> executeHookListener.stderrLine(cmdId, line));
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            while (process.isAlive()) {
+                // A command that keeps writing never lets waitFor see the interrupt, so look for it every time.
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Post Create Hook for " + cmdId + " was cancelled.");
                 }
-                reader.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-            lastNonErrorLine = lastLine;
-        });
-        t.start();
-
-        Thread t2 = new Thread(() -> {
-            try {
-                BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getErrorStream()));
-                String line;
-                while (true) {
-                    if ((line = reader.readLine()) == null)
-                        break;
-                    executeHookListener.stderrLine(cmdId, line);
+                if (timeout > 0 && System.nanoTime() - deadline >= 0) {
+                    destroyProcessTree(process);
+                    executeHookListener.stderrLine(cmdId, "Post Create Hook for " + cmdId + " timed out after " + Duration.prettyMS(timeout) + ".");
+                    throw new TimeoutException("Post Create Hook for " + cmdId + " timed out.");
+                }
+                if (!pump.pump()) {
+                    process.waitFor(POLL_MS, TimeUnit.MILLISECONDS);
                 }
-                reader.close();
-            } catch (IOException e) {
-                e.printStackTrace();
             }
-        });
-        t2.start();
-
-        //  Wait for the executing hook.
-        int result = process.waitFor();
-
-        // Wait for the readers.
-        t.join();
-        t2.join();
+            pump.finish();
+        } catch (InterruptedException e) {
+            destroyProcessTree(process);
+            throw e;
+        }
 
+        final int result = process.exitValue();
         if (result==0) {
-            executeHookListener.doneLine(cmdId, lastNonErrorLine);
+            executeHookListener.doneLine(cmdId, lastNonErrorLine[0]);
         }
 
         return result;
     }
+
+    /**
+     * Children first, so none of them is left behind when its parent goes.  Whatever hasn't stopped within the grace
+     * period is killed.
+     */
+    private static void destroyProcessTree(Process process) {
+        final List<ProcessHandle> tree = new ArrayList<>();
+        process.descendants().forEach(tree::add);
+        tree.add(process.toHandle());
+        for (ProcessHandle processHandle : tree) {
+            processHandle.destroy();
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DESTROY_GRACE_MS);
+        for (ProcessHandle processHandle : tree) {
+            final long remaining = deadline - System.nanoTime();
+            try {
+                processHandle.onExit().get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                // Eat it - it is killed below.
+            }
+            if (processHandle.isAlive()) {
+                processHandle.destroyForcibly();
+            }
+        }
+    }
 }
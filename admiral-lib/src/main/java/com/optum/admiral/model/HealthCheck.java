@@ -3,10 +3,18 @@ package com.optum.admiral.model;
 import com.optum.admiral.event.HealthCheckListener;
 import com.optum.admiral.type.Duration;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.io.Serializable;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public abstract class HealthCheck implements Serializable {
+    private static final long serialVersionUID = 1L;
 
-public abstract class HealthCheck {
     public final String id;
     public final long start_period;
     public final long timeout;
@@ -29,8 +37,21 @@ public abstract class HealthCheck {
         this.disabled = disabled;
     }
 
+    /**
+     * How long one try may take when no timeout is configured.  Tries run on a shared scheduler, so a try that never
+     * finished would hold one of its threads for good.  This is the default timeout Docker gives a HEALTHCHECK.
+     */
+    static final long DEFAULT_TRY_TIMEOUT = 30000;
+
     public abstract String getTest();
 
+    /**
+     * The configured timeout, or DEFAULT_TRY_TIMEOUT when there is none.
+     */
+    protected long getTryTimeout() {
+        return (timeout > 0) ? timeout : DEFAULT_TRY_TIMEOUT;
+    }
+
     /**
      * Return 0 = successful
      * Return -1 = not successful, continue
@@ -40,47 +61,64 @@ public abstract class HealthCheck {
 
     public abstract String getId(String containerName);
 
-    private static SimpleDateFormat whenFormat = new SimpleDateFormat("HH:mm:ss");
+    // Health checks run concurrently now, and SimpleDateFormat isn't thread-safe.
+    private static final DateTimeFormatter whenFormat = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     private String triggerTime(long delay) {
-        long now = new Date().getTime();
-        Date then = new Date(now + delay);
-        return whenFormat.format(then);
+        return whenFormat.format(LocalTime.now().plus(delay, ChronoUnit.MILLIS));
     }
 
-    public boolean executeHealthCheck(DockerModelController dockerModelController, HealthCheckListener healthCheckLlistener, String containerName, boolean rewait) {
+    /**
+     * Each try is a task on the scheduler, so no thread is held while we wait between tries.  The first try comes
+     * after start_period (rewait_period when rewaiting), and the wait between tries starts at interval (rewait_interval)
+     * and halves after every try, but never below minimum_interval.
+     *
+     * Cancelling the returned future stops any further tries.
+     */
+    public CompletableFuture<Boolean> executeHealthCheck(ScheduledExecutorService scheduler, DockerModelController dockerModelController, HealthCheckListener healthCheckLlistener, String containerName, boolean rewait) {
         final String id = getId(containerName);
         final long delayBeforeFirstCheck = (rewait) ? rewait_period : start_period;
         healthCheckLlistener.healthCheckProgress(id, "Initial Delay", "Wait: " + Duration.prettyMS(delayBeforeFirstCheck) + ". First try at " + triggerTime(delayBeforeFirstCheck));
-        try {
-            Thread.sleep(delayBeforeFirstCheck);
-        } catch (InterruptedException e) {
-            return false;
+
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final long firstInterval = (rewait) ? rewait_interval : interval;
+        scheduleTry(scheduler, dockerModelController, healthCheckLlistener, containerName, id, result, 1, firstInterval, delayBeforeFirstCheck);
+        return result;
+    }
+
+    private void scheduleTry(ScheduledExecutorService scheduler, DockerModelController dockerModelController, HealthCheckListener healthCheckLlistener,
+                             String containerName, String id, CompletableFuture<Boolean> result, int tryCount, long currentInterval, long delay) {
+        // Guard
+        if (tryCount >= retries) {
+            result.complete(false);
+            return;
         }
 
-        int tryCount = 1;
-        long currentInterval = (rewait) ? rewait_interval : interval;
-        while (tryCount < retries) {
-            final long exitCode;
-            exitCode = execute(dockerModelController, containerName, tryCount);
-            if (exitCode == 0) {
-                return true;
-            } else if (exitCode == -2) {
-                return false;
-            }
-            try {
-                healthCheckLlistener.healthCheckProgress(tryCount, retries, id, "Sleep", "Wait: " + Duration.prettyMS(currentInterval) + ". Next try at " + triggerTime(currentInterval));
-                Thread.sleep(currentInterval);
-            } catch (InterruptedException e) {
-                return false;
-            }
-            tryCount ++;
-            currentInterval = currentInterval/2;
-            if (currentInterval < minimum_interval) {
-                currentInterval = minimum_interval;
-            }
+        // Go
+        try {
+            scheduler.schedule(() -> {
+                if (result.isDone())
+                    return;
+                final long exitCode;
+                try {
+                    exitCode = execute(dockerModelController, containerName, tryCount);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                if (exitCode == 0) {
+                    result.complete(true);
+                } else if (exitCode == -2 || tryCount + 1 >= retries) {
+                    result.complete(false);
+                } else {
+                    healthCheckLlistener.healthCheckProgress(tryCount, retries, id, "Sleep", "Wait: " + Duration.prettyMS(currentInterval) + ". Next try at " + triggerTime(currentInterval));
+                    final long nextInterval = Math.max(currentInterval / 2, minimum_interval);
+                    scheduleTry(scheduler, dockerModelController, healthCheckLlistener, containerName, id, result, tryCount + 1, nextInterval, currentInterval);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.complete(false);
         }
-        return false;
     }
 
 }
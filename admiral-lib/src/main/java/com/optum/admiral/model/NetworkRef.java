@@ -1,9 +1,12 @@
 package com.optum.admiral.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
-public class NetworkRef {
+public class NetworkRef implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String name;
     private final List<String> aliases = new ArrayList<>();
 
@@ -0,0 +1,69 @@
+package com.optum.admiral.model;
+
+import com.optum.admiral.io.LineAssembler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Drains both of a process's output streams from one thread, without blocking on either: each call to pump takes only
+ * what is already available.  That way the thread waiting for the process does the reading too, instead of two more
+ * threads per process.
+ */
+class ProcessOutputPump {
+    private final byte[] buffer = new byte[8192];
+    private final Stream stdout;
+    private final Stream stderr;
+
+    private static class Stream {
+        final InputStream inputStream;
+        final Consumer<String> lineConsumer;
+        final LineAssembler lineAssembler = new LineAssembler();
+
+        Stream(InputStream inputStream, Consumer<String> lineConsumer) {
+            this.inputStream = inputStream;
+            this.lineConsumer = lineConsumer;
+        }
+    }
+
+    ProcessOutputPump(Process process, Consumer<String> stdoutLineConsumer, Consumer<String> stderrLineConsumer) {
+        this.stdout = new Stream(process.getInputStream(), stdoutLineConsumer);
+        this.stderr = new Stream(process.getErrorStream(), stderrLineConsumer);
+    }
+
+    /**
+     * Passes on every whole line available right now.  Returns false if there was nothing to read.
+     */
+    boolean pump() throws IOException {
+        final boolean readStdout = pump(stdout);
+        final boolean readStderr = pump(stderr);
+        return readStdout || readStderr;
+    }
+
+    /**
+     * The process has ended: pass on what is left, including a last line without a line break.  Anything a leftover
+     * child process writes later is not waited for.
+     */
+    void finish() throws IOException {
+        while (pump()) {
+            // Keep going until both are empty.
+        }
+        stdout.lineAssembler.flush(stdout.lineConsumer);
+        stderr.lineAssembler.flush(stderr.lineConsumer);
+    }
+
+    private boolean pump(Stream stream) throws IOException {
+        final int available = stream.inputStream.available();
+        if (available <= 0)
+            return false;
+
+        final int read = stream.inputStream.read(buffer, 0, Math.min(available, buffer.length));
+        if (read <= 0)
+            return false;
+
+        stream.lineAssembler.accept(ByteBuffer.wrap(buffer, 0, read), stream.lineConsumer);
+        return true;
+    }
+}
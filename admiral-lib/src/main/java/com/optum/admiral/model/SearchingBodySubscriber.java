@@ -0,0 +1,102 @@
+package com.optum.admiral.model;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Scans a response body for a search string as the bytes arrive, without ever holding the body in memory.  Reading
+ * stops (the subscription is cancelled) the moment the search string is found.
+ *
+ * Line breaks are skipped, just as the old line-by-line reader dropped them, so a search string that happens to be
+ * split across two lines is still found.
+ */
+class SearchingBodySubscriber implements HttpResponse.BodySubscriber<Boolean> {
+    private final byte[] search;
+    private final int[] fallback;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private int matched = 0;
+
+    SearchingBodySubscriber(String search) {
+        this.search = search.getBytes(StandardCharsets.UTF_8);
+        this.fallback = buildFallback(this.search);
+    }
+
+    /**
+     * Knuth-Morris-Pratt: for each prefix length, how much of the search is still matched after a mismatch.
+     */
+    private static int[] buildFallback(byte[] search) {
+        final int[] fallback = new int[search.length + 1];
+        int k = 0;
+        for (int i = 1; i < search.length; i++) {
+            while (k > 0 && search[i] != search[k]) {
+                k = fallback[k];
+            }
+            if (search[i] == search[k]) {
+                k++;
+            }
+            fallback[i + 1] = k;
+        }
+        return fallback;
+    }
+
+    @Override
+    public CompletionStage<Boolean> getBody() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (search.length == 0) {
+            result.complete(true);
+            subscription.cancel();
+        } else {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                if (accept(buffer.get())) {
+                    result.complete(true);
+                    subscription.cancel();
+                    return;
+                }
+            }
+        }
+        subscription.request(1);
+    }
+
+    /**
+     * Returns true when this byte completes the search.
+     */
+    boolean accept(byte b) {
+        if (b == '\n' || b == '\r')
+            return false;
+        while (matched > 0 && b != search[matched]) {
+            matched = fallback[matched];
+        }
+        if (b == search[matched]) {
+            matched++;
+        }
+        return matched == search.length;
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        result.complete(false);
+    }
+}
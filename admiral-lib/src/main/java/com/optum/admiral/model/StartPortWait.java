@@ -2,9 +2,23 @@ package com.optum.admiral.model;
 
 import com.optum.admiral.event.StartWaitListener;
 
+import java.io.Serializable;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class StartPortWait implements StartWait, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Tries are a second apart, and run on a scheduler shared with every other container's waits and health checks,
+     * so a host that never answers gets no longer than that.
+     */
+    static final int CONNECT_TIMEOUT_MS = 1000;
 
-public class StartPortWait implements StartWait {
     final String host;
     final int port;
     final int waitInSeconds;
@@ -23,28 +37,39 @@ public class StartPortWait implements StartWait {
     }
 
     @Override
-    public boolean waitForIt(StartWaitListener startWaitListener) {
-        boolean needed = true;
-        int count = 1;
-        int total = 10;
-        while(needed && (count<=waitInSeconds)) {
-            try(Socket check = new Socket(host,port)) {
-                // Use check even though we don't need to.
-                boolean alive = check.isConnected();
-                needed = false;
-                startWaitListener.startWaitProgress(count, total, url, "Finished", "Port Alive " + alive);
-                return true;
-            } catch (Exception e) {
-                startWaitListener.startWaitProgress(count, total, url, "Waiting", e.getMessage());
-            }
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                needed = false;
-            }
-            count++;
+    public CompletableFuture<Boolean> waitForIt(ScheduledExecutorService scheduler, StartWaitListener startWaitListener) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        scheduleTry(scheduler, startWaitListener, result, 1, 0);
+        return result;
+    }
+
+    private void scheduleTry(ScheduledExecutorService scheduler, StartWaitListener startWaitListener, CompletableFuture<Boolean> result, int count, long delay) {
+        // Guard
+        if (count > waitInSeconds) {
+            result.complete(false);
+            return;
+        }
+
+        // Go
+        final int total = 10;
+        try {
+            scheduler.schedule(() -> {
+                if (result.isDone())
+                    return;
+                try(Socket check = new Socket()) {
+                    check.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+                    // Use check even though we don't need to.
+                    boolean alive = check.isConnected();
+                    startWaitListener.startWaitProgress(count, total, url, "Finished", "Port Alive " + alive);
+                    result.complete(true);
+                } catch (Exception e) {
+                    startWaitListener.startWaitProgress(count, total, url, "Waiting", e.getMessage());
+                    scheduleTry(scheduler, startWaitListener, result, count + 1, 1000);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.complete(false);
         }
-        return false;
     }
 
 }
@@ -2,7 +2,14 @@ package com.optum.admiral.model;
 
 import com.optum.admiral.event.StartWaitListener;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
 public interface StartWait {
-    boolean waitForIt(StartWaitListener startWaitListener);
+    /**
+     * Completes with true once the wait is satisfied, or false once it expires.  Tries are scheduled on the scheduler
+     * rather than sleeping a thread between them.
+     */
+    CompletableFuture<Boolean> waitForIt(ScheduledExecutorService scheduler, StartWaitListener startWaitListener);
     int getSeconds();
 }
@@ -1,14 +1,32 @@
 package com.optum.admiral.model;
 
-import java.io.BufferedReader;
-import java.io.FileNotFoundException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.SocketException;
-import java.net.SocketTimeoutException;
-import java.net.URL;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class URLAdmiralHealthCheck extends HealthCheck {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Shared by every URL check of every container, so connections to a status page are kept alive and reused from
+     * one try to the next instead of being opened fresh each time.
+     */
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    // The same limit HttpURLConnection has.
+    private static final int MAX_REDIRECTS = 20;
+
     final String url;
     final String search;
     final boolean successWhenRedirected;
@@ -25,55 +43,111 @@ public class URLAdmiralHealthCheck extends HealthCheck {
         return url;
     }
 
+    /**
+     * A null or empty search makes this a status-only check: any 2xx response passes, and the body is never searched.
+     */
+    public boolean isStatusOnly() {
+        return search==null || search.isEmpty();
+    }
+
     @Override
     public long execute(DockerModelController dockerModelController, String containerName, int tryCount) {
         dockerModelController.healthCheckProgress(tryCount, retries, id, "Check", getTest());
-        final HttpURLConnection connection;
+
+        URI uri;
         try {
-            URL statusPage = new URL(url);
-            connection = (HttpURLConnection)statusPage.openConnection();
-            connection.setConnectTimeout((int) timeout);
-            connection.setReadTimeout((int) timeout);
-            int responseCode = connection.getResponseCode();
-            if (responseCode==302) {
-                if (successWhenRedirected) {
-                    dockerModelController.healthCheckProgress(tryCount, retries, id, "Finished", "Redirect 302 accepted");
-                    return 0;
-                } else {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            dockerModelController.healthCheckProgress(tryCount, retries, id, "Error", e.getMessage());
+            return -2;
+        }
+
+        // Follow redirects the way HttpURLConnection did: only when the protocol stays the same.
+        for (int redirects = 0; ; redirects++) {
+            final AtomicBoolean responded = new AtomicBoolean(false);
+            final CompletableFuture<HttpResponse<Boolean>> pending = httpClient.sendAsync(buildRequest(uri), responseInfo -> {
+                responded.set(true);
+                final int statusCode = responseInfo.statusCode();
+                if (isStatusOnly() || statusCode < 200 || statusCode >= 300) {
+                    // Drain it so the connection goes back to the pool.
+                    return HttpResponse.BodySubscribers.replacing(false);
+                }
+                return new SearchingBodySubscriber(search);
+            });
+
+            final HttpResponse<Boolean> response;
+            try {
+                response = pending.get(getTryTimeout(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                pending.cancel(true);
+                if (responded.get()) {
+                    dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "Socket Timeout");
+                    return -1;
+                }
+                dockerModelController.healthCheckProgress(tryCount, retries, id, "Error", "Timed out");
+                return -2;
+            } catch (InterruptedException e) {
+                pending.cancel(true);
+                dockerModelController.healthCheckProgress(tryCount, retries, id, "Wait Interrupted", "");
+                return -1;
+            } catch (ExecutionException e) {
+                if (responded.get()) {
+                    dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "Socket Not Yet Available");
+                    return -1;
+                }
+                final Throwable cause = e.getCause()==null ? e : e.getCause();
+                String msg = cause.getMessage()==null?cause.getClass().getSimpleName():cause.getMessage();
+                dockerModelController.healthCheckProgress(tryCount, retries, id, "Error", msg);
+                return -2;
+            }
+
+            final int responseCode = response.statusCode();
+            if (responseCode >= 300 && responseCode < 400) {
+                final URI location = response.headers().firstValue("Location").map(uri::resolve).orElse(null);
+                if (location != null && uri.getScheme().equalsIgnoreCase(location.getScheme()) && redirects < MAX_REDIRECTS) {
+                    uri = location;
+                    continue;
+                }
+                // Only a redirect HttpURLConnection wouldn't have followed gets here.
+                if (responseCode==302) {
+                    if (successWhenRedirected) {
+                        dockerModelController.healthCheckProgress(tryCount, retries, id, "Finished", "Redirect 302 accepted");
+                        return 0;
+                    }
                     dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "Result is 302 Redirect");
                     return -1;
                 }
             }
-        } catch (Exception e) {
-            String msg = e.getMessage()==null?"":e.getMessage();
-            dockerModelController.healthCheckProgress(tryCount, retries, id, "Error", msg);
-            return -2;
+            return checkResponse(dockerModelController, tryCount, responseCode, response.body());
         }
+    }
 
-        final boolean found;
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-            String inputLine;
-            StringBuilder builder = new StringBuilder();
-            while ((inputLine = in.readLine()) != null) {
-                builder.append(inputLine);
-            }
-            final String homepageHtml = builder.toString();
-            found = homepageHtml.contains(search);
-        } catch (SocketTimeoutException e) {
-            dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "Socket Timeout");
-            return -1;
-        } catch (SocketException e) {
-            dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "Socket Not Yet Available");
-            return -1;
-        } catch (FileNotFoundException e) {
+    private HttpRequest buildRequest(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(Duration.ofMillis(getTryTimeout()))
+                .build();
+    }
+
+    private long checkResponse(DockerModelController dockerModelController, int tryCount, int responseCode, boolean found) {
+        if (responseCode==404) {
             dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "URL Not Found");
             return -1;
-        } catch (Exception e) {
-            String msg = e.getMessage()==null?"":e.getMessage();
-            dockerModelController.healthCheckProgress(tryCount, retries, id, "Error", msg);
+        }
+        if (responseCode >= 400) {
+            dockerModelController.healthCheckProgress(tryCount, retries, id, "Error", "Server returned HTTP response code: " + responseCode);
             return -2;
         }
 
+        if (isStatusOnly()) {
+            if (responseCode >= 200 && responseCode < 300) {
+                dockerModelController.healthCheckProgress(tryCount, retries, id, "Finished", "Status " + responseCode);
+                return 0;
+            }
+            dockerModelController.healthCheckProgress(tryCount, retries, id, "Not Ready", "Status " + responseCode);
+            return -1;
+        }
+
         if (found) {
             dockerModelController.healthCheckProgress(tryCount, retries, id, "Finished", "\"" + search + "\" found");
             return 0;
@@ -8,8 +8,10 @@ import com.github.dockerjava.api.command.CreateNetworkResponse;
 import com.github.dockerjava.api.command.ExecCreateCmdResponse;
 import com.github.dockerjava.api.command.InspectContainerResponse;
 import com.github.dockerjava.api.command.InspectExecResponse;
+import com.github.dockerjava.api.command.InspectImageResponse;
 import com.github.dockerjava.api.command.PullImageCmd;
 import com.github.dockerjava.api.model.ContainerNetwork;
+import com.github.dockerjava.api.model.EventType;
 import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.api.model.Info;
 import com.github.dockerjava.api.model.Network;
@@ -30,7 +32,9 @@ import com.optum.admiral.model.ProgressHandler;
 import com.optum.admiral.model.REInt;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +45,19 @@ public class DockerJavaDockerModelImpl {
     DockerHttpClient httpClient;
     DockerClient dockerClient;
     ProgressHandler progressHandler;
+    DockerJavaEventsCallback eventsCallback;
+    int maxConnections = DEFAULT_MAX_CONNECTIONS;
+
+    /**
+     * The same as Docker-Java's own default, which is also the floor: an undersized pool doesn't fail, it just leaves
+     * operations queued behind streams that never end.
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+
+    /**
+     * How long to wait for the Docker Engine to accept a connection before calling it unreachable.
+     */
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
 
     public DockerJavaDockerModelImpl(DockerModelController dmc, Debugger debugger) {
         this.dmc = dmc;
@@ -51,18 +68,35 @@ public class DockerJavaDockerModelImpl {
         this.progressHandler = progressHandler;
     }
 
-    public void connect() {
+    /**
+     * Every action goes through the same long-lived client, so its connection pool is what all of the concurrent
+     * creates, starts, pulls, health checks, and attached log streams share.
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public synchronized void connect() {
+        // A client that is being replaced has failed; whatever it still holds open is of no use.
+        closeQuietly();
+
         config = DefaultDockerClientConfig.createDefaultConfigBuilder().build();
 
+        // No response timeout: the events stream and the attached log streams stay open for as long as we're joined.
         httpClient = new ApacheDockerHttpClient.Builder()
                 .dockerHost(config.getDockerHost())
                 .sslConfig(config.getSSLConfig())
+                .maxConnections(maxConnections)
+                .connectionTimeout(CONNECTION_TIMEOUT)
                 .build();
 
         dockerClient = DockerClientImpl.getInstance(config, httpClient);
     }
 
-    public boolean connectIfNecessary() throws AdmiralDockerException {
+    /**
+     * Reconnects only when the current client is gone or the Docker Engine stopped answering it.
+     */
+    public synchronized boolean connectIfNecessary() throws AdmiralDockerException {
         if (!isConnected()) {
             connect();
             return true;
@@ -71,31 +105,81 @@ public class DockerJavaDockerModelImpl {
     }
 
 
-    public void disconnect() throws AdmiralDockerException {
+    public synchronized void disconnect() throws AdmiralDockerException {
         // Guard
         if (dockerClient == null)
             return;
 
         // Go
+        stopWatchingEvents();
         try {
             dockerClient.close();
         } catch (IOException e) {
             throw new AdmiralDockerException(e.getMessage());
+        } finally {
+            dockerClient = null;
+            httpClient = null;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            disconnect();
+        } catch (AdmiralDockerException e) {
+            // Eat it - the client is being thrown away either way.
         }
     }
 
+    /**
+     * Cheap in the usual case.  The events stream is a free heartbeat: while it is open the Docker Engine is there,
+     * and when the Docker Engine goes away the stream is the first thing to notice.  Only without it do we ping.
+     */
     public boolean isConnected() {
-        return false;
-//        if (dockerClient == null)
-//            return false;
-//
-//        try {
-//            ping();
-//        } catch (AdmiralDockerException e) {
-//            // Eat it and return false
-//            return false;
-//        }
-//        return true;
+        // Guard
+        if (dockerClient == null)
+            return false;
+
+        // Go
+        if (isWatchingEvents())
+            return true;
+
+        try {
+            ping();
+        } catch (AdmiralDockerException e) {
+            // Eat it and return false
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Subscribe to the Docker Engine /events stream.  docker-java offers no network filter, and the Docker Engine ANDs
+     * filters of different kinds, so the stream is narrowed to container and network events here and to our own
+     * names by the callback's receiver.
+     */
+    public void watchEvents(DockerJavaEventsCallback callback) throws AdmiralDockerException {
+        stopWatchingEvents();
+        eventsCallback = new REInt<DockerJavaEventsCallback>().invoke( () -> dockerClient.eventsCmd()
+                .withEventTypeFilter(EventType.CONTAINER, EventType.NETWORK)
+                .exec(callback));
+    }
+
+    public boolean isWatchingEvents() {
+        return eventsCallback != null && !eventsCallback.isStopped();
+    }
+
+    public void stopWatchingEvents() {
+        // Guard
+        if (eventsCallback == null)
+            return;
+
+        // Go
+        try {
+            eventsCallback.close();
+        } catch (IOException e) {
+            // We are done with it either way.
+        }
+        eventsCallback = null;
     }
 
     public String ping() throws AdmiralDockerException {
@@ -115,6 +199,14 @@ public class DockerJavaDockerModelImpl {
         return new REInt<InspectContainerResponse>().invoke( () -> dockerClient.inspectContainerCmd(containerName).exec());
     }
 
+    /**
+     * The platform of a local image, written the way a pull's platform is: "os/arch".
+     */
+    public String inspectImagePlatform(String imageName) throws AdmiralDockerException {
+        final InspectImageResponse inspectImageResponse = new REInt<InspectImageResponse>().invoke( () -> dockerClient.inspectImageCmd(imageName).exec());
+        return inspectImageResponse.getOs() + "/" + inspectImageResponse.getArch();
+    }
+
     public List<Network> listNetworks(String dockerNetworkName) throws AdmiralDockerException {
         return new REInt<List<Network>>().invoke( () -> dockerClient.listNetworksCmd().withNameFilter(dockerNetworkName).exec());
     }
@@ -131,6 +223,25 @@ public class DockerJavaDockerModelImpl {
         );
     }
 
+    /**
+     * All containers (running or not) whose name contains the filter.  This is one round-trip no matter how many
+     * containers match.
+     */
+    public List<Container> listContainers(String nameFilter) throws AdmiralDockerException {
+        return new REInt<List<Container>>().invoke( () -> {
+            List<com.github.dockerjava.api.model.Container> dcc = dockerClient.listContainersCmd()
+                    .withShowAll(true)
+                    .withNameFilter(Collections.singletonList(nameFilter))
+                    .exec();
+            List<Container> containers = new ArrayList<>();
+            for (com.github.dockerjava.api.model.Container c : dcc) {
+                containers.add(new DockerJavaContainer(c));
+            }
+            return containers;
+        }
+        );
+    }
+
     public List<Image> listImages() throws AdmiralDockerException {
         return new REInt<List<Image>>().invoke( () -> {
             List<com.github.dockerjava.api.model.Image> dci = dockerClient.listImagesCmd().exec();
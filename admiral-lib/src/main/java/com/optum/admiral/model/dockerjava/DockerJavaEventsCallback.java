@@ -0,0 +1,79 @@
+package com.optum.admiral.model.dockerjava;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.api.model.EventType;
+import com.optum.admiral.model.DockerModelController;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Receives the Docker Engine /events stream for as long as Admiral stays connected.  Each container or network event
+ * is handed to the DockerModelController, which decides whether the name is one of ours.
+ */
+public class DockerJavaEventsCallback extends ResultCallback.Adapter<Event> {
+    private final DockerModelController dmc;
+    private volatile boolean stopped = false;
+
+    public DockerJavaEventsCallback(DockerModelController dmc) {
+        this.dmc = dmc;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /** Called when an async result event occurs */
+    @Override
+    public void onNext(Event event) {
+        // Guard
+        if (event.getActor() == null)
+            return;
+        final Map<String, String> attributes = event.getActor().getAttributes();
+        if (attributes == null)
+            return;
+        final String name = attributes.get("name");
+        if (name == null)
+            return;
+
+        // Go
+        final String action = event.getAction() == null ? event.getStatus() : event.getAction();
+        if (event.getType() == EventType.CONTAINER) {
+            dmc.containerEventReceived(name, action);
+        } else if (event.getType() == EventType.NETWORK) {
+            dmc.networkEventReceived(name, action);
+        }
+    }
+
+    /** Called when an exception occurs while processing */
+    @Override
+    public void onError(Throwable throwable) {
+        if (!stopped) {
+            stopped = true;
+            dmc.eventsStreamLost(throwable);
+        }
+        try {
+            close();
+        } catch (IOException e) {
+            // Already reported the stream as lost.
+        }
+    }
+
+    /** Called when processing was finished either by {@link #onError(Throwable)} or when the stream ended */
+    @Override
+    public void onComplete() {
+        if (!stopped) {
+            stopped = true;
+            dmc.eventsStreamLost(null);
+        }
+        super.onComplete();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Set first, so that the error caused by closing the stream isn't reported as a lost stream.
+        stopped = true;
+        super.close();
+    }
+}
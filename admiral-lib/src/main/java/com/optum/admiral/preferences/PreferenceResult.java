@@ -37,6 +37,14 @@ public final class PreferenceResult implements Comparable<PreferenceResult> {
         return preference.equals(other.preference);
     }
 
+    public String getPreference() {
+        return preference;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public int hashCode() {
         return preference.hashCode();
@@ -62,6 +62,14 @@ public class PreferenceTracker {
         }
     }
 
+    public void setI(String fieldName, int defaultValue, Integer candidateValue, File valueSource) {
+        if (valueSource==null) {
+            setI(fieldName, defaultValue, candidateValue, "builtin", PreferenceResult.SOURCETYPE.DEFAULT);
+        } else {
+            setI(fieldName, defaultValue, candidateValue, valueSource.getAbsolutePath(), PreferenceResult.SOURCETYPE.FILE);
+        }
+    }
+
     public void setTS(String fieldName, TimerStyle defaultValue, TimerStyle candidateValue, File valueSource) {
         if (valueSource==null) {
             setTS(fieldName, defaultValue, candidateValue, "builtin", PreferenceResult.SOURCETYPE.DEFAULT);
@@ -84,6 +92,20 @@ public class PreferenceTracker {
         doit(fieldName, value, source, sourcetype);
     }
 
+    public void setI(String fieldName, int defaultValue, Integer candidateValue, String valueSource, PreferenceResult.SOURCETYPE sourcetype) {
+        final String source;
+        final int value;
+        if (candidateValue==null) {
+            source = "default";
+            value = defaultValue;
+            sourcetype = PreferenceResult.SOURCETYPE.DEFAULT;
+        } else {
+            source = valueSource;
+            value = candidateValue;
+        }
+        doitI(fieldName, value, source, sourcetype);
+    }
+
     public void setTS(String fieldName, TimerStyle defaultValue, TimerStyle candidateValue, String valueSource, PreferenceResult.SOURCETYPE sourcetype) {
         final String source;
         final TimerStyle value;
@@ -109,6 +131,17 @@ public class PreferenceTracker {
         }
     }
 
+    private void doitI(String fieldName, int value, String source, PreferenceResult.SOURCETYPE sourcetype) {
+        try {
+            final Field field = getClass().getField(fieldName);
+            field.set(this, value);
+            addOrUpdate(new PreferenceResult(fieldName, Integer.toString(value), source, sourcetype));
+        } catch (IllegalAccessException | NoSuchFieldException e) {
+            System.out.println("Well, that's not supposed to happen.");
+            e.printStackTrace();
+        }
+    }
+
     private void doitTS(String fieldName, TimerStyle value, String source, PreferenceResult.SOURCETYPE sourcetype) {
         try {
             final Field field = getClass().getField(fieldName);
@@ -1,15 +1,15 @@
 package com.optum.admiral.preferences;
 
 import com.optum.admiral.event.AdmiralEventPublisher;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.util.FileService;
+import com.optum.admiral.yaml.YamlLoader;
 import com.optum.admiral.yaml.YamlParserHelper;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
 import org.apache.commons.io.FileUtils;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
@@ -27,11 +27,11 @@ import java.util.List;
  * Here is the shared logic for loading various Admiral preference files.
  */
 public abstract class PreferenceYamlLoader<T extends PreferenceYaml> {
-    private final Constructor constructor;
+    private final YamlLoader<T> yamlLoader;
     private final AdmiralEventPublisher admiralEventPublisher;
 
-    public PreferenceYamlLoader(Constructor constructor, AdmiralEventPublisher admiralEventPublisher) {
-        this.constructor = constructor;
+    public PreferenceYamlLoader(Class<T> type, AdmiralEventPublisher admiralEventPublisher) {
+        this.yamlLoader = YamlLoader.of(type);
         this.admiralEventPublisher = admiralEventPublisher;
     }
 
@@ -52,15 +52,15 @@ public abstract class PreferenceYamlLoader<T extends PreferenceYaml> {
 
     public T loadOrDefault(String prefererencesFilename) throws AdmiralConfigurationException, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
         final File yamlFile = findAPreferencesFile(prefererencesFilename);
-        final Yaml yaml = new Yaml(constructor);
 
         // The new .admiral.preferences search now delivers a null yamlFile for an unfound file.
         if (yamlFile == null) {
             return createDefault();
         }
 
+        ConfigFileStamps.read(yamlFile);
         try (FileInputStream fis = new FileInputStream(yamlFile)){
-            final T outputYaml = yaml.load(fis);
+            final T outputYaml = yamlLoader.load(fis);
             // If yamlFile exists but is actually EMPTY, SnakeParser load returns null instead of an "empty" object.
             // So we have to detect that case and return the empty object.
             if (outputYaml == null) {
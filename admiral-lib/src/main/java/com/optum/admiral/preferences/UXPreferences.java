@@ -10,8 +10,6 @@ import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.constructor.Constructor;
 
 import java.io.File;
 import java.io.IOException;
@@ -124,7 +122,7 @@ public class UXPreferences {
         private final List<PreferenceSourceCandidate> possiblePreferencesFiles;
 
         public Loader(AdmiralEventPublisher admiralEventPublisher, String appPreferenceFileName) {
-            super(new Constructor(Yaml.class, new LoaderOptions()), admiralEventPublisher);
+            super(Yaml.class, admiralEventPublisher);
             possiblePreferencesFiles = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(
                     new PreferenceSourceCandidate(Source.CURRENT, new ArrayList<>(Arrays.asList(new File("local-" + appPreferenceFileName + ".preferences")))),
                     new PreferenceSourceCandidate(Source.HOME, new ArrayList<>(Arrays.asList(new File("local-" + appPreferenceFileName + ".preferences")))),
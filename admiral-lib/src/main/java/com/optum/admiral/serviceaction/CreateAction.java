@@ -35,6 +35,7 @@ public class CreateAction extends ServiceAction {
             InterruptedException,
             IOException
     {
+        dmc.pullMissingImages(services);
         dmc.createServicesInDependencyOrder(services);
     }
 }
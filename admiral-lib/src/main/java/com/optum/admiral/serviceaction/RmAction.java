@@ -7,6 +7,7 @@ import com.optum.admiral.exception.AdmiralDockerException;
 import com.optum.admiral.model.DockerModelController;
 import com.optum.admiral.type.Commands;
 
+import java.io.IOException;
 import java.util.Collection;
 
 public class RmAction extends ServiceAction {
@@ -29,7 +30,8 @@ public class RmAction extends ServiceAction {
     protected void doWork(Collection<AdmiralServiceConfig> services, boolean isAll)
         throws
             AdmiralDockerException,
-            InterruptedException
+            InterruptedException,
+            IOException
     {
         dmc.rmServices(services);
     }
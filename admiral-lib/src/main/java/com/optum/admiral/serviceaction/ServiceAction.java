@@ -56,6 +56,7 @@ public abstract class ServiceAction {
         } finally {
             actionHarness.getTimer().stop();
             dmc.publish(l -> l.resetProgress(actionHarness));
+            dmc.flush();
         }
     }
 
@@ -7,6 +7,7 @@ import com.optum.admiral.exception.AdmiralDockerException;
 import com.optum.admiral.model.DockerModelController;
 import com.optum.admiral.type.Commands;
 
+import java.io.IOException;
 import java.util.Collection;
 
 public class StopAction extends ServiceAction {
@@ -28,7 +29,9 @@ public class StopAction extends ServiceAction {
     @Override
     protected void doWork(Collection<AdmiralServiceConfig> services, boolean isAll)
             throws
-        AdmiralDockerException
+        AdmiralDockerException,
+        InterruptedException,
+        IOException
     {
         dmc.stopServices(services);
     }
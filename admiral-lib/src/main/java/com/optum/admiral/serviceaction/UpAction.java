@@ -36,6 +36,7 @@ public class UpAction extends ServiceAction {
             IOException
     {
         dmc.createNetworks(composeConfig.getNetworks());
+        dmc.pullMissingImages(services);
         dmc.createServicesInDependencyOrder(services);
         dmc.startServicesInDependencyOrder(services);
     }
@@ -1,6 +1,10 @@
 package com.optum.admiral.type;
 
-public class ActionMonitorMarker {
+import java.io.Serializable;
+
+public class ActionMonitorMarker implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public final long msFromStart;
     public final String regex;
     public final String desc;
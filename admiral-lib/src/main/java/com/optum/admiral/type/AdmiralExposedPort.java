@@ -1,9 +1,13 @@
 package com.optum.admiral.type;
 
+import java.io.Serializable;
+
 /**
  * Admiral version of an exposed port.
  */
-public class AdmiralExposedPort {
+public class AdmiralExposedPort implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public final IPProtocol protocol;
     public final int port;
 
@@ -8,4 +8,8 @@ public class CommandVariable {
     public List<String> commands;
     public String shell;
     public String working_dir;
+    /**
+     * "true" lets the boot cache reuse the value from the boot that filled it.
+     */
+    public String cache;
 }
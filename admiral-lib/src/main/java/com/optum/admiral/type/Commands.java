@@ -2,7 +2,11 @@ package com.optum.admiral.type;
 
 import com.optum.admiral.yaml.CommandsYaml;
 
-public class Commands {
+import java.io.Serializable;
+
+public class Commands implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public static final Commands AUTO = new Commands();
 
     public enum Binding {
@@ -1,6 +1,10 @@
 package com.optum.admiral.type;
 
-public class CopyHook {
+import java.io.Serializable;
+
+public class CopyHook implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     final String source;
     final String target;
 
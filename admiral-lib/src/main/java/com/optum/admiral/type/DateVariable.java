@@ -3,4 +3,8 @@ package com.optum.admiral.type;
 public class DateVariable {
     public String name;
     public String format;
+    /**
+     * "true" lets the boot cache reuse the value from the boot that filled it.
+     */
+    public String cache;
 }
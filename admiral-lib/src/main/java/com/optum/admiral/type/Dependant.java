@@ -1,6 +1,10 @@
 package com.optum.admiral.type;
 
-public class Dependant {
+import java.io.Serializable;
+
+public class Dependant implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String serviceName;
     private final Condition condition;
 
@@ -1,6 +1,10 @@
 package com.optum.admiral.type;
 
-public class DockerComposeNetworkName {
+import java.io.Serializable;
+
+public class DockerComposeNetworkName implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String name;
     private final String projectName;
     private final String networkLogicalName;
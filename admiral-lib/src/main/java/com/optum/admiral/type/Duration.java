@@ -1,9 +1,12 @@
 package com.optum.admiral.type;
 
+import java.io.Serializable;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public class Duration {
+public class Duration implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private static final long SECONDS = 1000;
     private static final long MINUTES = 60 * 1000;
     private static final long HOURS = 60 * 60 * 1000;
@@ -2,7 +2,11 @@ package com.optum.admiral.type;
 
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 
-public class PortMap {
+import java.io.Serializable;
+
+public class PortMap implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final AdmiralExposedPort admiralExposedPort;
     private final String host;
     private final int published;
@@ -2,12 +2,16 @@ package com.optum.admiral.type;
 
 import com.optum.admiral.io.OutputWriter;
 
+import java.io.Serializable;
+
 /**
  * Volume Long Syntax and Volume Short Syntax in Docker have different capabilities.  It is not possible to "just
  * convert a short syntax to a long syntax at parsing time and store everything long syntax."  They share some
  * features which are captured by "interface Volume" but otherwise are different.
  */
-public class VolumeLongSyntax implements Volume {
+public class VolumeLongSyntax implements Volume, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final String type;
     private final String source;
     private final String target;
@@ -0,0 +1,71 @@
+package com.optum.admiral.util;
+
+import java.io.Console;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The environment the current da command was run in: its system environment variables, and the terminal to prompt
+ * on.  Normally both are this process's own.  The daemon outlives the shells that send it commands, so it sets each
+ * client's environment variables while running that client's command; the client's terminal can't be reached from
+ * the daemon, so there is nothing to prompt on then.
+ */
+public class CommandEnvironment {
+    private static volatile Map<String, String> clientVariables = null;
+
+    private CommandEnvironment() {
+    }
+
+    /**
+     * @param variables The client's environment variables, or null to go back to this process's own.
+     */
+    public static void setClientVariables(Map<String, String> variables) {
+        clientVariables = (variables == null) ? null : Collections.unmodifiableMap(new TreeMap<>(variables));
+    }
+
+    public static Map<String, String> getVariables() {
+        final Map<String, String> variables = clientVariables;
+        return (variables == null) ? System.getenv() : variables;
+    }
+
+    public static String getVariable(String name) {
+        return getVariables().get(name);
+    }
+
+    /**
+     * The terminal to prompt on, or null if there isn't one.
+     */
+    public static Console getConsole() {
+        return (clientVariables == null) ? System.console() : null;
+    }
+
+    /**
+     * The environment for a process started for this command, in the form Runtime.exec takes: null to inherit this
+     * process's own.
+     */
+    public static String[] getEnvp() {
+        final Map<String, String> variables = clientVariables;
+        if (variables == null)
+            return null;
+
+        final String[] envp = new String[variables.size()];
+        int i = 0;
+        for (Map.Entry<String, String> variable : variables.entrySet()) {
+            envp[i++] = variable.getKey() + "=" + variable.getValue();
+        }
+        return envp;
+    }
+
+    /**
+     * Gives a process about to be started this command's environment.
+     */
+    public static void applyTo(ProcessBuilder processBuilder) {
+        final Map<String, String> variables = clientVariables;
+        if (variables == null)
+            return;
+
+        processBuilder.environment().clear();
+        processBuilder.environment().putAll(variables);
+    }
+}
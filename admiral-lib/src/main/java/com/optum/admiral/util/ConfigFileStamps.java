@@ -0,0 +1,119 @@
+package com.optum.admiral.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Remembers every configuration file read (preferences, boot, admiral, compose, config, and env files) along with
+ * its last-modified time and length when it was read.  A long-running process uses this to tell when what it booted
+ * from has changed underneath it.
+ *
+ * Nothing is remembered until recording starts, so a one-shot da command pays nothing.  Files that were looked for
+ * but not found aren't remembered, so creating one doesn't count as a change.
+ *
+ * Separately, the boot cache collects Inputs: every file a boot read, and every file it looked for and didn't find.
+ */
+public class ConfigFileStamps {
+    private static Map<File, Stamp> stamps = null;
+    private static final List<Inputs> collecting = new ArrayList<>();
+
+    /**
+     * Each file, and whether it was found.
+     */
+    public static class Inputs {
+        private final Map<File, Boolean> files = new LinkedHashMap<>();
+
+        public Map<File, Boolean> getFiles() {
+            synchronized (ConfigFileStamps.class) {
+                return Collections.unmodifiableMap(new LinkedHashMap<>(files));
+            }
+        }
+    }
+
+    private static class Stamp {
+        final long lastModified;
+        final long length;
+
+        Stamp(File file) {
+            lastModified = file.lastModified();
+            length = file.length();
+        }
+
+        boolean matches(File file) {
+            return file.lastModified() == lastModified && file.length() == length;
+        }
+    }
+
+    private ConfigFileStamps() {
+    }
+
+    /**
+     * Forgets everything read so far and remembers everything read from now on.
+     */
+    public static synchronized void startRecording() {
+        stamps = new HashMap<>();
+    }
+
+    public static synchronized void stopRecording() {
+        stamps = null;
+    }
+
+    public static synchronized Inputs startCollectingInputs() {
+        final Inputs inputs = new Inputs();
+        collecting.add(inputs);
+        return inputs;
+    }
+
+    public static synchronized void stopCollectingInputs(Inputs inputs) {
+        collecting.remove(inputs);
+    }
+
+    public static synchronized void read(File file) {
+        // Guard
+        if (file == null)
+            return;
+
+        // Go
+        if (stamps != null) {
+            stamps.put(file.getAbsoluteFile(), new Stamp(file));
+        }
+        for (Inputs inputs : collecting) {
+            inputs.files.put(file.getAbsoluteFile(), true);
+        }
+    }
+
+    /**
+     * For files that are only read if they exist.  If this one doesn't, that's remembered as an input too.
+     */
+    public static synchronized void lookedFor(File file) {
+        // Guard
+        if (file == null || file.exists())
+            return;
+
+        // Go
+        for (Inputs inputs : collecting) {
+            inputs.files.putIfAbsent(file.getAbsoluteFile(), false);
+        }
+    }
+
+    /**
+     * True if any file read since recording started has since been changed or removed.
+     */
+    public static synchronized boolean anyChanged() {
+        // Guard
+        if (stamps == null)
+            return false;
+
+        // Go
+        for (Map.Entry<File, Stamp> entry : stamps.entrySet()) {
+            if (!entry.getValue().matches(entry.getKey()))
+                return true;
+        }
+        return false;
+    }
+}
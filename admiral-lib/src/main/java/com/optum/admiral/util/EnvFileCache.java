@@ -0,0 +1,79 @@
+package com.optum.admiral.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The parsed KEY=VALUE lines of every env_file read so far, shared by every service.  Stacks commonly point many
+ * services (and many layered compose files) at the same few env files, so each is read from disk once, and again only
+ * when its last-modified time or length changes.
+ *
+ * Values are kept raw.  Evaluating them is up to each service's ContainerParameterProcessor.
+ */
+public class EnvFileCache {
+    private static final Map<File, Parsed> cache = new ConcurrentHashMap<>();
+
+    private static class Parsed {
+        final long lastModified;
+        final long length;
+        final Map<String, String> variables;
+
+        Parsed(long lastModified, long length, Map<String, String> variables) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.variables = variables;
+        }
+    }
+
+    private EnvFileCache() {
+    }
+
+    /**
+     * The file's variables in the order they appear.  A key that appears twice keeps its last value.
+     */
+    public static Map<String, String> read(File file) throws IOException {
+        // Gather
+        ConfigFileStamps.read(file);
+        final File canonicalFile = file.getCanonicalFile();
+        final long lastModified = canonicalFile.lastModified();
+        final long length = canonicalFile.length();
+
+        // Guard
+        final Parsed cached = cache.get(canonicalFile);
+        if (cached != null && cached.lastModified == lastModified && cached.length == length)
+            return cached.variables;
+
+        // Go
+        final Map<String, String> variables = Collections.unmodifiableMap(parse(file));
+        cache.put(canonicalFile, new Parsed(lastModified, length, variables));
+        return variables;
+    }
+
+    private static Map<String, String> parse(File file) throws IOException {
+        final Map<String, String> variables = new LinkedHashMap<>();
+        try (
+            BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file)))
+        ) {
+            String line;
+            while((line = in.readLine()) != null) {
+                final String trimmed = line.trim();
+                if (trimmed.startsWith("#") || trimmed.length()==0) {
+                    continue;
+                }
+                final String[] pieces = trimmed.split("=",2);
+                if (pieces.length!=2) {
+                    throw new IllegalArgumentException("Line is not a valid KEY=VALUE: " + line);
+                }
+                variables.put(pieces[0].trim(), pieces[1].trim());
+            }
+        }
+        return variables;
+    }
+}
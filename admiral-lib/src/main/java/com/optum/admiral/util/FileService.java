@@ -40,6 +40,7 @@ public class FileService {
         List<File> found = new ArrayList<>(1);
         for(File rawCandidate : possibilities) {
             File candidate = relativeFile(rawCandidate.getPath());
+            ConfigFileStamps.lookedFor(candidate);
             if (isLegit(candidate)) {
                 found.add(candidate);
             }
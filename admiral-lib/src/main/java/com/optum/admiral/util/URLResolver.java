@@ -0,0 +1,285 @@
+package com.optum.admiral.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads the URLs a boot depends on: remote config files and environment specs.  Each distinct URL is fetched once per
+ * boot no matter how many services name it, and prefetch lets them all be fetched side by side instead of one after
+ * another.
+ *
+ * HTTP(S) responses are also kept on disk with their ETag and Last-Modified, so the next boot revalidates instead of
+ * downloading again.  When the server can't be reached (or answers 5xx) and there is a cached copy, the cached copy is
+ * used and the URL is reported by getStaleURLs.  Other URLs (file:, jar:) are just read.
+ */
+public class URLResolver implements AutoCloseable {
+    public static final File DEFAULT_DIRECTORY = new File(System.getProperty("user.home"), ".admiral" + File.separator + "url-cache");
+
+    private static final int MAX_FETCHES_IN_FLIGHT = 8;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String URL = "url";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final File directory;
+    private final Map<String, CompletableFuture<byte[]>> fetches = new ConcurrentHashMap<>();
+    private final Set<String> staleURLs = Collections.synchronizedSet(new TreeSet<>());
+    private final Set<String> readURLs = Collections.synchronizedSet(new TreeSet<>());
+    private ExecutorService executorService;
+
+    /**
+     * @param directory Where responses are cached, or null to not cache them on disk.
+     */
+    public URLResolver(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Start fetching these in the background.  Fetching a URL that is already fetched (or being fetched) does nothing.
+     */
+    public synchronized void prefetch(Collection<URL> urls) {
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(MAX_FETCHES_IN_FLIGHT, new NamedThreadFactory("URLFetch"));
+        }
+        for (URL url : urls) {
+            fetchOnce(url, executorService);
+        }
+    }
+
+    /**
+     * The content of the URL, waiting for it if it is being prefetched.  A URL that wasn't prefetched is fetched on
+     * the calling thread.
+     */
+    public InputStream openStream(URL url) throws IOException {
+        readURLs.add(url.toString());
+        try {
+            return new ByteArrayInputStream(fetchOnce(url, Runnable::run).get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted reading " + url);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * The URLs whose server couldn't be reached, so their cached copy was used.
+     */
+    public Collection<String> getStaleURLs() {
+        synchronized (staleURLs) {
+            return Collections.unmodifiableList(new ArrayList<>(staleURLs));
+        }
+    }
+
+    /**
+     * The URLs that were read through openStream (prefetched ones that nothing asked for aren't included).
+     */
+    public Collection<String> getReadURLs() {
+        synchronized (readURLs) {
+            return Collections.unmodifiableList(new ArrayList<>(readURLs));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    private CompletableFuture<byte[]> fetchOnce(URL url, Executor executor) {
+        // Guard
+        final CompletableFuture<byte[]> fetch = new CompletableFuture<>();
+        final CompletableFuture<byte[]> existing = fetches.putIfAbsent(url.toString(), fetch);
+        if (existing != null)
+            return existing;
+
+        // Go
+        executor.execute(() -> {
+            try {
+                fetch.complete(fetch(url));
+            } catch (IOException | RuntimeException e) {
+                fetch.completeExceptionally(e);
+            }
+        });
+        return fetch;
+    }
+
+    private byte[] fetch(URL url) throws IOException {
+        // Guard
+        if (!"http".equals(url.getProtocol()) && !"https".equals(url.getProtocol())) {
+            try (InputStream in = url.openStream()) {
+                return in.readAllBytes();
+            }
+        }
+
+        // Gather
+        final HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder(url.toURI()).timeout(REQUEST_TIMEOUT).GET();
+        } catch (URISyntaxException e) {
+            throw new IOException("Bad URL: " + url, e);
+        }
+        final File bodyFile = cacheFile(url, ".body");
+        final Properties cached = readProperties(cacheFile(url, ".properties"));
+        if (cached != null && bodyFile.isFile()) {
+            if (cached.getProperty(ETAG) != null) {
+                request.header("If-None-Match", cached.getProperty(ETAG));
+            }
+            if (cached.getProperty(LAST_MODIFIED) != null) {
+                request.header("If-Modified-Since", cached.getProperty(LAST_MODIFIED));
+            }
+        }
+
+        // Go
+        final HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted reading " + url);
+        } catch (IOException e) {
+            return useCachedCopy(url, bodyFile, e);
+        }
+
+        final int statusCode = response.statusCode();
+        if (statusCode == 304 && bodyFile.isFile()) {
+            return Files.readAllBytes(bodyFile.toPath());
+        } else if (statusCode >= 200 && statusCode < 300) {
+            writeCache(url, response);
+            return response.body();
+        } else if (statusCode >= 500) {
+            return useCachedCopy(url, bodyFile, new IOException("HTTP " + statusCode + " reading " + url));
+        }
+        throw new IOException("HTTP " + statusCode + " reading " + url);
+    }
+
+    private byte[] useCachedCopy(URL url, File bodyFile, IOException reason) throws IOException {
+        // Guard
+        if (directory == null || !bodyFile.isFile())
+            throw reason;
+
+        // Go
+        final byte[] body = Files.readAllBytes(bodyFile.toPath());
+        staleURLs.add(url.toString());
+        return body;
+    }
+
+    private File cacheFile(URL url, String suffix) {
+        if (directory == null)
+            return new File("");
+
+        return new File(directory, sha256(url.toString()) + suffix);
+    }
+
+    private Properties readProperties(File file) {
+        // Guard
+        if (directory == null || !file.isFile())
+            return null;
+
+        // Go
+        final Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(in);
+        } catch (IOException e) {
+            return null;
+        }
+        return properties;
+    }
+
+    private void writeCache(URL url, HttpResponse<byte[]> response) {
+        // Guard
+        if (directory == null)
+            return;
+
+        // Gather
+        final Properties properties = new Properties();
+        properties.setProperty(URL, url.toString());
+        response.headers().firstValue("ETag").ifPresent(etag -> properties.setProperty(ETAG, etag));
+        response.headers().firstValue("Last-Modified").ifPresent(lastModified -> properties.setProperty(LAST_MODIFIED, lastModified));
+
+        // Go
+        try {
+            final Path path = directory.toPath();
+            Files.createDirectories(path);
+            try {
+                Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rwx------"));
+            } catch (UnsupportedOperationException e) {
+                // Not a POSIX file system.
+            }
+            // Body first, so properties never describe a body that isn't there.
+            writeAtomically(cacheFile(url, ".body"), response.body());
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            properties.store(out, null);
+            writeAtomically(cacheFile(url, ".properties"), out.toByteArray());
+        } catch (IOException e) {
+            // Eat it - the cache is only a fallback.
+        }
+    }
+
+    private void writeAtomically(File file, byte[] content) throws IOException {
+        final Path temp = Files.createTempFile(directory.toPath(), "entry", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(content);
+            }
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String sha256(String s) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
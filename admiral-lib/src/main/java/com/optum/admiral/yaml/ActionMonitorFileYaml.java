@@ -1,12 +1,10 @@
 package com.optum.admiral.yaml;
 
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
@@ -14,6 +12,8 @@ import java.io.FileInputStream;
 import java.io.IOException;
 
 public class ActionMonitorFileYaml {
+    private static final YamlLoader<ActionMonitorFileYaml> LOADER = YamlLoader.of(ActionMonitorFileYaml.class);
+
     public ActionMonitorYaml action_monitor;
 
     public static ActionMonitorFileYaml loadFromYamlURL(File yamlFile)
@@ -22,12 +22,10 @@ public class ActionMonitorFileYaml {
             InvalidEnumException,
                 InvalidBooleanException,
                 PropertyNotFoundException {
-        final Constructor constructor = new Constructor(ActionMonitorFileYaml.class, new LoaderOptions());
-
-        final Yaml yaml = new Yaml(constructor);
         ActionMonitorFileYaml actionMonitorFileYaml;
+        ConfigFileStamps.read(yamlFile);
         try (FileInputStream fis = new FileInputStream(yamlFile)){
-            actionMonitorFileYaml = yaml.load(fis);
+            actionMonitorFileYaml = LOADER.load(fis);
         } catch (YAMLException e) {
             throw YamlParserHelper.rebuildYAMLException(yamlFile.toString(), e);
         } catch (IOException e) {
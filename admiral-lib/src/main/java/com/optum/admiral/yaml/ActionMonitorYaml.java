@@ -5,6 +5,7 @@ import java.util.List;
 
 public class ActionMonitorYaml {
     public String name;
+    public String match;
     public List<ActionMonitorMarkerYaml> markers = new ArrayList<>();
 
 }
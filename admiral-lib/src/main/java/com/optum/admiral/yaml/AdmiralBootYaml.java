@@ -1,13 +1,11 @@
 package com.optum.admiral.yaml;
 
 import com.optum.admiral.io.AdmiralFileException;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
@@ -16,6 +14,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 
 public class AdmiralBootYaml {
+    private static final YamlLoader<AdmiralBootYaml> LOADER = YamlLoader.of(AdmiralBootYaml.class);
+
     public String admiral_file;
 
     public static AdmiralBootYaml loadFromYamlFile(File yamlFile)
@@ -25,13 +25,11 @@ public class AdmiralBootYaml {
             InvalidEnumException,
                 InvalidBooleanException,
                 PropertyNotFoundException {
-        final Constructor constructor = new Constructor(AdmiralBootYaml.class, new LoaderOptions());
-
-        final Yaml yaml = new Yaml(constructor);
         final AdmiralBootYaml admiralBootYaml;
 
+        ConfigFileStamps.read(yamlFile);
         try (FileInputStream fis = new FileInputStream(yamlFile)){
-            admiralBootYaml = yaml.load(fis);
+            admiralBootYaml = LOADER.load(fis);
             // If yamlFile is actually EMPTY, load returns null instead of an "empty" object.
             // So we have to detect that case and return the empty object.
             if (admiralBootYaml == null) {
@@ -5,13 +5,11 @@ import com.optum.admiral.type.CommandVariable;
 import com.optum.admiral.type.DateVariable;
 import com.optum.admiral.type.VerifiedPathVariable;
 import com.optum.admiral.type.UserProvidedVariable;
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
@@ -29,6 +27,8 @@ import java.util.Map;
  * public for SnakeYaml Parser to construct one.
  */
 public class AdmiralYaml {
+    private static final YamlLoader<AdmiralYaml> LOADER = YamlLoader.of(AdmiralYaml.class);
+
     public String project_name;
     public String project_directory;
     public List<String> _admiral_includes = Collections.emptyList();
@@ -93,13 +93,11 @@ public class AdmiralYaml {
             InvalidEnumException,
                 InvalidBooleanException,
                 PropertyNotFoundException {
-        final Constructor constructor = new Constructor(AdmiralYaml.class, new LoaderOptions());
-
-        final Yaml yaml = new Yaml(constructor);
         final AdmiralYaml admiralYaml;
 
+        ConfigFileStamps.read(yamlFile);
         try (FileInputStream fis = new FileInputStream(yamlFile)){
-            admiralYaml = yaml.load(fis);
+            admiralYaml = LOADER.load(fis);
             // If yamlFile is actually EMPTY, load returns null instead of an "empty" object.
             // So we have to detect that case and return the empty object.
             if (admiralYaml == null) {
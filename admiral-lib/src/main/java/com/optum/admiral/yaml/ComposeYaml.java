@@ -1,23 +1,24 @@
 package com.optum.admiral.yaml;
 
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
-import org.yaml.snakeyaml.introspector.Property;
-import org.yaml.snakeyaml.introspector.PropertyUtils;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 
-public class ComposeYaml {
+public class ComposeYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final YamlLoader<ComposeYaml> LOADER = YamlLoader.withDashesAsUnderscores(ComposeYaml.class);
+
     public String version;
 
     // Set by SnakeYaml parsing
@@ -70,22 +71,10 @@ public class ComposeYaml {
         }
 
         final File containingDirectory = can.getParentFile();
-        final Constructor constructor = new Constructor(ComposeYaml.class, new LoaderOptions());
-
-        // This magic converts "x-admiral_post_create_execute" into "x_admiral_post_create_execute" since "-"
-        // is not a valid character in a field name, so SnakeYaml can match the newName to the field name.
-        constructor.setPropertyUtils(new PropertyUtils() {
-            @Override
-            public Property getProperty(Class<?> type, String name) {
-                final String newName = name.replaceAll("-", "_");
-                return super.getProperty(type, newName);
-            }
-        });
-
-        final Yaml yaml = new Yaml(constructor);
         ComposeYaml composeYaml;
+        ConfigFileStamps.read(yamlFile);
         try (FileInputStream fis = new FileInputStream(yamlFile)){
-            composeYaml = yaml.load(fis);
+            composeYaml = LOADER.load(fis);
         } catch (YAMLException e) {
             throw YamlParserHelper.rebuildYAMLException(yamlFile.getName(), e);
         } catch (FileNotFoundException e) {
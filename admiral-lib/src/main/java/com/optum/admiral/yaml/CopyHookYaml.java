@@ -1,6 +1,10 @@
 package com.optum.admiral.yaml;
 
-public class CopyHookYaml {
+import java.io.Serializable;
+
+public class CopyHookYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public String source;
     public String target;
 }
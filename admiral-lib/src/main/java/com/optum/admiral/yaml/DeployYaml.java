@@ -1,6 +1,10 @@
 package com.optum.admiral.yaml;
 
-public class DeployYaml {
+import java.io.Serializable;
+
+public class DeployYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public int replicas=1;
     public DeployYaml() {
     }
@@ -1,7 +1,12 @@
 package com.optum.admiral.yaml;
 
-public class ExecuteHookYaml {
+import java.io.Serializable;
+
+public class ExecuteHookYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public String id;
     public String cmd;
     public String working_dir;
+    public String timeout = null;
 }
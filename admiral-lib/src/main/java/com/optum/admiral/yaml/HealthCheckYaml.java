@@ -1,10 +1,13 @@
 package com.optum.admiral.yaml;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-public class HealthCheckYaml {
+public class HealthCheckYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * This can't be called test or SnakeYaml Parser pukes.
      */
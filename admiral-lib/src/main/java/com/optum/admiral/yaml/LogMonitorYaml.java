@@ -1,9 +1,12 @@
 package com.optum.admiral.yaml;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
-public class LogMonitorYaml {
+public class LogMonitorYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public String filename;
     public String delete_at_start;
     public List<String> action_monitors = Collections.emptyList();
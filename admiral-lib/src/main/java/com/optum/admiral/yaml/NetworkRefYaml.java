@@ -1,9 +1,12 @@
 package com.optum.admiral.yaml;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
-public class NetworkRefYaml {
+public class NetworkRefYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public List<String> aliases = Collections.emptyList();
 
     public NetworkRefYaml() {
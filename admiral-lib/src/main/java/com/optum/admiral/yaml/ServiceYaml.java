@@ -1,6 +1,7 @@
 package com.optum.admiral.yaml;
 
 import java.io.File;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -9,7 +10,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class ServiceYaml implements ServiceYamlTweakableSupplier {
+public class ServiceYaml implements ServiceYamlTweakableSupplier, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private ComposeYaml parent;
 
     public ServiceYaml() {
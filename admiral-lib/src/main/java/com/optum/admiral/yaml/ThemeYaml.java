@@ -1,12 +1,10 @@
 package com.optum.admiral.yaml;
 
+import com.optum.admiral.util.ConfigFileStamps;
 import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 import com.optum.admiral.yaml.exception.InvalidEnumException;
 import com.optum.admiral.yaml.exception.InvalidBooleanException;
 import com.optum.admiral.yaml.exception.PropertyNotFoundException;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
@@ -16,6 +14,7 @@ import java.io.IOException;
 import java.util.Map;
 
 public class ThemeYaml {
+    private static final YamlLoader<ThemeYaml> LOADER = YamlLoader.of(ThemeYaml.class);
 
     public Map<String, ThemeEntryYaml> theme;
 
@@ -24,12 +23,10 @@ public class ThemeYaml {
     }
 
     public static ThemeYaml loadFromYamlFile(File yamlFile) throws AdmiralConfigurationException, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
-        final Constructor constructor = new Constructor(ThemeYaml.class, new LoaderOptions());
-
-        final Yaml yaml = new Yaml(constructor);
         ThemeYaml themeYaml;
+        ConfigFileStamps.read(yamlFile);
         try (FileInputStream fis = new FileInputStream(yamlFile)){
-            themeYaml = yaml.load(fis);
+            themeYaml = LOADER.load(fis);
         } catch (YAMLException e) {
             throw YamlParserHelper.rebuildYAMLException(yamlFile.getName(), e);
         } catch (FileNotFoundException e) {
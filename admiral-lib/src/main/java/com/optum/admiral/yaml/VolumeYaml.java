@@ -8,6 +8,7 @@ import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 
 /**
  * Docker behaves differently depending on whether your Volume was created with short syntax or long syntax.
@@ -19,7 +20,9 @@ import java.io.IOException;
  * If the list entry is a string, SnakeYaml calls the VolumeYaml(String) constructor.
  * If the list entry is a map, SnakeYaml calls the VolumeYaml() constructor, then setter methods on the matching members.
  */
-public class VolumeYaml {
+public class VolumeYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     /**
      * We record which format was used
      */
@@ -1,6 +1,10 @@
 package com.optum.admiral.yaml;
 
-public class WaitHookYaml {
+import java.io.Serializable;
+
+public class WaitHookYaml implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     public String id;
     public String url;
     public String search;
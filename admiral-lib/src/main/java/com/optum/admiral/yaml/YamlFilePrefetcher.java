@@ -0,0 +1,98 @@
+package com.optum.admiral.yaml;
+
+import com.optum.admiral.util.NamedThreadFactory;
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException;
+import com.optum.admiral.yaml.exception.InvalidBooleanException;
+import com.optum.admiral.yaml.exception.InvalidEnumException;
+import com.optum.admiral.yaml.exception.PropertyNotFoundException;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parses several independent YAML files side by side, while the caller still applies them one at a time in its own
+ * order.  A file that wasn't prefetched (or doesn't exist) is simply parsed when asked for.
+ */
+public class YamlFilePrefetcher<T> implements AutoCloseable {
+    @FunctionalInterface
+    public interface Parser<T> {
+        T parse(File file) throws AdmiralConfigurationException, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException;
+    }
+
+    private final Parser<T> parser;
+    private final Map<File, Future<T>> parsing = new HashMap<>();
+    private ExecutorService executorService;
+
+    public YamlFilePrefetcher(Parser<T> parser) {
+        this.parser = parser;
+    }
+
+    public void prefetch(Collection<File> files) {
+        // Gather
+        final List<File> existing = new ArrayList<>();
+        for (File file : files) {
+            if (file.isFile() && !parsing.containsKey(file)) {
+                existing.add(file);
+            }
+        }
+
+        // Guard
+        if (existing.size() < 2)
+            return;
+
+        // Go
+        if (executorService == null) {
+            final int threads = Math.min(existing.size(), Runtime.getRuntime().availableProcessors());
+            executorService = Executors.newFixedThreadPool(threads, new NamedThreadFactory("YamlParser"));
+        }
+        for (File file : existing) {
+            parsing.put(file, executorService.submit(() -> parser.parse(file)));
+        }
+    }
+
+    public T get(File file) throws AdmiralConfigurationException, InvalidBooleanException, PropertyNotFoundException, InvalidEnumException {
+        // Guard
+        final Future<T> future = parsing.remove(file);
+        if (future == null)
+            return parser.parse(file);
+
+        // Go
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return parser.parse(file);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof AdmiralConfigurationException) {
+                throw (AdmiralConfigurationException) cause;
+            } else if (cause instanceof InvalidBooleanException) {
+                throw (InvalidBooleanException) cause;
+            } else if (cause instanceof PropertyNotFoundException) {
+                throw (PropertyNotFoundException) cause;
+            } else if (cause instanceof InvalidEnumException) {
+                throw (InvalidEnumException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+}
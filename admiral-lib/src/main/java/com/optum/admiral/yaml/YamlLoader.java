@@ -0,0 +1,63 @@
+package com.optum.admiral.yaml;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.introspector.Property;
+import org.yaml.snakeyaml.introspector.PropertyUtils;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One configured SnakeYAML loader per target class, built once and reused, instead of a new Constructor and Yaml
+ * (and their reflection caches) for every file.
+ *
+ * A Yaml instance isn't thread-safe, so each thread gets its own; independent files can be loaded side by side.
+ */
+public class YamlLoader<T> {
+    private static final Map<Class<?>, YamlLoader<?>> loaders = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, YamlLoader<?>> dashesAsUnderscoresLoaders = new ConcurrentHashMap<>();
+    private static final Map<String, String> underscoredNames = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Yaml> yaml;
+
+    private YamlLoader(Class<T> type, boolean dashesAsUnderscores) {
+        this.yaml = ThreadLocal.withInitial(() -> {
+            final Constructor constructor = new Constructor(type, new LoaderOptions());
+            if (dashesAsUnderscores) {
+                constructor.setPropertyUtils(new DashesAsUnderscoresPropertyUtils());
+            }
+            return new Yaml(constructor);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> YamlLoader<T> of(Class<T> type) {
+        return (YamlLoader<T>) loaders.computeIfAbsent(type, t -> new YamlLoader<>(type, false));
+    }
+
+    /**
+     * For files with keys like "x-admiral_post_create_execute".  "-" is not a valid character in a field name, so each
+     * key is looked up as "x_admiral_post_create_execute" instead.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> YamlLoader<T> withDashesAsUnderscores(Class<T> type) {
+        return (YamlLoader<T>) dashesAsUnderscoresLoaders.computeIfAbsent(type, t -> new YamlLoader<>(type, true));
+    }
+
+    /**
+     * Null if the stream is empty.
+     */
+    public T load(InputStream inputStream) {
+        return yaml.get().load(inputStream);
+    }
+
+    private static class DashesAsUnderscoresPropertyUtils extends PropertyUtils {
+        @Override
+        public Property getProperty(Class<?> type, String name) {
+            return super.getProperty(type, underscoredNames.computeIfAbsent(name, n -> n.replace('-', '_')));
+        }
+    }
+}
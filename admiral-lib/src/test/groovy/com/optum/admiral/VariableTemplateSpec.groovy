@@ -0,0 +1,98 @@
+package com.optum.admiral
+
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException
+import spock.lang.Specification
+
+import java.util.regex.Matcher
+import java.util.regex.Pattern
+
+class VariableTemplateSpec extends Specification {
+    static ConfigVariableProcessor cvp = new ConfigVariableProcessor()
+
+    static {
+        cvp.addKeyValueEnvironmentVariable("A", "alpha", "spec", ConfigVariableProcessor.EntrySourceType.BUILTIN)
+        cvp.addKeyValueEnvironmentVariable("B_2", "beta", "spec", ConfigVariableProcessor.EntrySourceType.BUILTIN)
+        cvp.addKeyValueEnvironmentVariable("EMPTY", "", "spec", ConfigVariableProcessor.EntrySourceType.BUILTIN)
+        cvp.addKeyValueEnvironmentVariable("-x", "dash", "spec", ConfigVariableProcessor.EntrySourceType.BUILTIN)
+    }
+
+    /**
+     * The regex implementations that VariableTemplate replaced, kept here as the definition of correct.
+     */
+    static String regexTemplate(String template) {
+        String rawKey = template.substring(2, template.length() - 1)
+        Matcher defaultMatcher = Pattern.compile('^(.+?):?[-](.+)$').matcher(rawKey)
+        Matcher errorMatcher = Pattern.compile('^(.+?):?[?](.+)$').matcher(rawKey)
+        boolean foundDefault = defaultMatcher.find()
+        boolean foundError = errorMatcher.find()
+        if (foundDefault && foundError)
+            throw new AdmiralConfigurationException("Config", "both")
+        if (foundDefault)
+            return cvp.lookupAndReplaceWithDefault(defaultMatcher.group(1), defaultMatcher.group(2))
+        if (foundError)
+            return cvp.lookupAndReplaceWithError(errorMatcher.group(1), errorMatcher.group(2))
+        return cvp.lookupAndReplace(rawKey)
+    }
+
+    static String regexConfig(String rawValue) {
+        Matcher matcher = Pattern.compile('([$][{].*?[}])').matcher(rawValue)
+        StringBuffer result = new StringBuffer()
+        while (matcher.find()) {
+            matcher.appendReplacement(result, Matcher.quoteReplacement(regexTemplate(matcher.group(1))))
+        }
+        matcher.appendTail(result)
+        return result.toString()
+    }
+
+    static String regexContainer(String rawValue) {
+        Matcher matcher = Pattern.compile('([$][$])|([$][{].*?[}])|([$]\\w+)').matcher(rawValue)
+        StringBuffer result = new StringBuffer()
+        while (matcher.find()) {
+            String found = matcher.group(0)
+            String rep = found == '$$' ? '$' : found.startsWith('${') ? regexTemplate(found) : cvp.lookupAndReplace(found.substring(1))
+            matcher.appendReplacement(result, Matcher.quoteReplacement(rep))
+        }
+        matcher.appendTail(result)
+        return result.toString()
+    }
+
+    static String outcome(Closure<String> evaluation) {
+        try {
+            return evaluation.call()
+        } catch (AdmiralConfigurationException e) {
+            return "<error>"
+        }
+    }
+
+    static final List<String> SAMPLES = [
+            '', 'plain', '$', '$$', '$$$', '${', '${}', '$}', '${A}', '$A', '$A_B', '$B_2x', '${A}${B_2}', 'x${A}y$A z',
+            '${A:-d}', '${A-d}', '${Z:-d}', '${Z-d}', '${Z:-}', '${Z-}', '${Z:-a-b}', '${-x}', '${--}', '${-x-y}',
+            '${:-x}', '${Z::-x}', '${Z:?m}', '${A:?m}', '${EMPTY:?m}', '${EMPTY?m}', '${Z?}', '${A-b?c}', '${A\n}',
+            '${A\r}B}', '$${A}', '$$A', '$é', '${A}}', '${{A}', '${A', 'a$-b', '$ {A}', '${A${B_2}}', '${EMPTY:-x}'
+    ]
+
+    def "Matches the regex implementation on tricky values" () {
+        expect:
+        outcome { cvp.eval(sample) } == outcome { regexConfig(sample) }
+        outcome { VariableTemplate.of(sample, VariableTemplate.Dialect.CONTAINER).evaluate(cvp) } == outcome { regexContainer(sample) }
+
+        where:
+        sample << SAMPLES
+    }
+
+    def "Matches the regex implementation on random values" () {
+        given:
+        Random random = new Random(42)
+        List<String> pieces = ['$', '{', '}', ':', '-', '?', 'A', 'B_2', 'Z', 'EMPTY', 'x', ' ', '\n']
+
+        expect:
+        (1..5000).every {
+            StringBuilder sb = new StringBuilder()
+            random.nextInt(12).times { sb.append(pieces[random.nextInt(pieces.size())]) }
+            String sample = sb.toString()
+            outcome { cvp.eval(sample) } == outcome { regexConfig(sample) } &&
+                    outcome { VariableTemplate.of(sample, VariableTemplate.Dialect.CONTAINER).evaluate(cvp) } == outcome { regexContainer(sample) }
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.optum.admiral.booter
+
+import com.optum.admiral.AdmiralOptions
+import com.optum.admiral.config.ComposeConfig
+import com.optum.admiral.event.AdmiralEventListener
+import com.optum.admiral.event.AdmiralEventPublisher
+import com.optum.admiral.event.SimpleAdmiralEventPublisher
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.function.Consumer
+
+class BootCacheSpec extends Specification {
+    Path project
+    Path composeFile
+    Path envFile
+    File cacheDirectory
+
+    def setup() {
+        project = Files.createTempDirectory("boot-cache-spec")
+        Files.copy(Path.of("src/test/resources/action-monitor-literal.yaml"), project.resolve("action-monitor-literal.yaml"))
+        Path composeDirectory = Files.createDirectory(project.resolve("compose"))
+        composeFile = Files.copy(Path.of("src/test/resources/boot-cache/docker-compose.yml"), composeDirectory.resolve("docker-compose.yml"))
+        envFile = Files.copy(Path.of("src/test/resources/boot-cache/boot-cache.env"), composeDirectory.resolve("boot-cache.env"))
+        cacheDirectory = project.resolve("cache").toFile()
+    }
+
+    def cleanup() {
+        project.toFile().deleteDir()
+    }
+
+    ComposeConfig boot() {
+        def booter = new TheDockerComposeWayBooter(new AdmiralOptions.Builder("da").getData(), new SimpleAdmiralEventPublisher(), [composeFile.toString()])
+        return booter.createComposeConfigUsingCache(new BootCache(cacheDirectory, booter.bootCacheKey()))
+    }
+
+    def "A second boot reads back the same configuration" () {
+        when:
+        ComposeConfig first = boot()
+        ComposeConfig second = new BootCache(cacheDirectory, new TheDockerComposeWayBooter(null, null, [composeFile.toString()]).bootCacheKey()).read()
+
+        then:
+        second != null
+        !second.is(first)
+        second.getServiceNames() == first.getServiceNames()
+        second.getServices()*.getName() == ["app", "db"]
+        second.getServiceConfig("db").getImage() == first.getServiceConfig("db").getImage()
+        second.getServiceConfig("db").getEnvironentVariablesAsStrings() == first.getServiceConfig("db").getEnvironentVariablesAsStrings()
+        second.getServiceConfig("app").getActionMonitorMatcher().checkForProgress("Started Application in 3 seconds").size() ==
+                first.getServiceConfig("app").getActionMonitorMatcher().checkForProgress("Started Application in 3 seconds").size()
+    }
+
+    def "Changing an input file is a miss" () {
+        given:
+        boot()
+        def bootCache = new BootCache(cacheDirectory, new TheDockerComposeWayBooter(null, null, [composeFile.toString()]).bootCacheKey())
+
+        when:
+        envFile.toFile().append("COLOR=blue\n")
+
+        then:
+        bootCache.read() == null
+        boot().getServiceConfig("db").getEnvironentVariablesAsStrings().contains("COLOR=blue")
+        bootCache.read() != null
+    }
+
+    def "A damaged entry is a miss" () {
+        given:
+        boot()
+        def bootCache = new BootCache(cacheDirectory, new TheDockerComposeWayBooter(null, null, [composeFile.toString()]).bootCacheKey())
+
+        when:
+        bootCache.getFile().bytes = "not an entry".bytes
+
+        then:
+        bootCache.read() == null
+    }
+
+    def "System environment variable values are not written, but are loaded again on read" () {
+        given:
+        String path = System.getenv("PATH")
+        boot()
+        def bootCache = new BootCache(cacheDirectory, new TheDockerComposeWayBooter(null, null, [composeFile.toString()]).bootCacheKey())
+
+        when:
+        ComposeConfig cached = bootCache.read()
+
+        then:
+        !new String(bootCache.getFile().bytes, "ISO-8859-1").contains(path)
+        cached.getConfigVariableProcessor().get("PATH") == path
+    }
+
+    def "Only system environment variables the configuration looked up are checked" () {
+        given:
+        ComposeConfig composeConfig = boot()
+
+        expect:
+        composeConfig.getConfigVariableProcessor().currentLookedUpSystemEnvironmentVariables().keySet().contains("PG_VERSION")
+        !composeConfig.getConfigVariableProcessor().currentLookedUpSystemEnvironmentVariables().keySet().contains("PATH")
+    }
+
+    def "A boot that reads an environment spec URL is not cached" () {
+        given:
+        Path spec = Files.writeString(project.resolve("spec.yaml"), "variables:\n")
+        composeFile.toFile().text = composeFile.toFile().text.replace("  app:\n", "  app:\n    x-admiral-environment-specs:\n      - ${spec.toUri()}\n")
+
+        List<String> verbose = []
+        AdmiralEventListener listener = [verbose: { String message -> verbose << message }] as AdmiralEventListener
+        AdmiralEventPublisher publisher = { Consumer<AdmiralEventListener> event ->
+            try {
+                event.accept(listener)
+            } catch (UnsupportedOperationException e) {
+                // Only verbose is of interest.
+            }
+        } as AdmiralEventPublisher
+        def booter = new TheDockerComposeWayBooter(new AdmiralOptions.Builder("da").getData(), publisher, [composeFile.toString()])
+
+        when:
+        booter.createComposeConfigUsingCache(new BootCache(cacheDirectory, booter.bootCacheKey()))
+
+        then:
+        verbose.contains("Configuration not cached: " + spec.toUri().toURL() + " is a URL")
+        !new BootCache(cacheDirectory, booter.bootCacheKey()).getFile().exists()
+    }
+}
@@ -0,0 +1,142 @@
+package com.optum.admiral.config
+
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException
+import spock.lang.Specification
+
+class ActionMonitorMatcherSpec extends Specification {
+
+    ActionMonitor literal = new ActionMonitor(new File("src/test/resources/action-monitor-literal.yaml"))
+    ActionMonitor regex = new ActionMonitor(new File("src/test/resources/action-monitor-regex.yaml"))
+    ActionMonitorMatcher matcher = new ActionMonitorMatcher([literal, regex])
+
+    def "Same markers as checking each monitor in turn" () {
+        expect:
+        matcher.checkForProgress(line).collect { it.matched } == [literal, regex].collect { it.checkForProgress(line) }.findAll { it != null }.collect { it.matched }
+
+        where:
+        line << [
+                "nothing to see here",
+                "Starting Application on host",
+                "Started Application in 4.2 seconds",
+                "Application",
+                "Applicatio",
+                "migrating 12 scripts",
+                "Started Application and ready to accept connections",
+                "",
+        ]
+    }
+
+    def "First marker in file order wins within a monitor" () {
+        when:
+        List<ActionProgress> progress = matcher.checkForProgress("Started Application")
+
+        then:
+        progress.size() == 1
+        progress[0].matched == "Started Application"
+        progress[0].desc == "Application started"
+    }
+
+    def "Every monitor with a marker in the line reports" () {
+        when:
+        List<ActionProgress> progress = matcher.checkForProgress("Application: database is ready for connections")
+
+        then:
+        progress.collect { it.actionName } == ["boot", "db"]
+        progress.collect { it.matched } == ["Application", "ready (for|to accept) connections"]
+    }
+
+    def "A marker's dot means what it does on its own" () {
+        given:
+        ActionMonitor dot = new ActionMonitor(new File("src/test/resources/action-monitor-dot.yaml"))
+        ActionMonitorMatcher dotMatcher = new ActionMonitorMatcher([regex, dot])
+
+        expect:
+        dotMatcher.checkForProgress(line).collect { it.matched } == [regex, dot].collect { it.checkForProgress(line) }.findAll { it != null }.collect { it.matched }
+
+        where:
+        line << [
+                "ready for connections",
+                "ready\nfor connections",
+                "migrating 3 scripts\nready for connections",
+        ]
+    }
+
+    def "Markers with backreferences or named groups match as they do on their own" () {
+        given:
+        ActionMonitor groups = new ActionMonitor(new File("src/test/resources/action-monitor-groups.yaml"))
+        ActionMonitor groupsToo = new ActionMonitor(new File("src/test/resources/action-monitor-groups-too.yaml"))
+        ActionMonitorMatcher groupsMatcher = new ActionMonitorMatcher([regex, groups, groupsToo])
+
+        expect:
+        groupsMatcher.checkForProgress(line).collect { it.matched } == [regex, groups, groupsToo].collect { it.checkForProgress(line) }.findAll { it != null }.collect { it.matched }
+
+        where:
+        line << [
+                "this then this",
+                "this then that",
+                "load complete, warm started",
+                "load started",
+                "key=key",
+                "key=value",
+                "migrating 3 scripts then ready for connections",
+        ]
+    }
+
+    def "A bad regex is reported against its file and marker" () {
+        when:
+        new ActionMonitor(new File("src/test/resources/action-monitor-bad-regex.yaml"))
+
+        then:
+        AdmiralConfigurationException e = thrown()
+        e.source.endsWith("action-monitor-bad-regex.yaml")
+        e.message.contains("00:00:02.000")
+        e.message.contains("unclosed (group")
+    }
+
+    def "Only a regex that means the same inside another is combined" () {
+        expect:
+        ActionMonitorMatcher.isCombinable(pattern) == combinable
+
+        where:
+        pattern                   || combinable
+        "ready (for|to) go"       || true
+        "(?:a|b)(?=c)(?<=d)(?!e)" || true
+        "\\\\1 literal"           || true
+        "\\Q\\1(?<x>\\E plain"    || true
+        "(a)\\1"                  || false
+        "(?<name>a)"              || false
+        "(?<n>a)\\k<n>"           || false
+        "(?i)ready"               || false
+        "(?x) ready # comment"    || false
+    }
+
+    def "One parse of a file is shared" () {
+        expect:
+        ActionMonitor.of(new File("src/test/resources/action-monitor-literal.yaml")).is(ActionMonitor.of(new File("src/test/resources/./action-monitor-literal.yaml")))
+    }
+
+    def "Each container keeps its own timing" () {
+        given: "two containers on one clock; the file expects Started 2000ms after Starting"
+        long now = 0
+        def first = new ActionMonitorTracker(2, { now })
+        def second = new ActionMonitorTracker(2, { now })
+
+        when:
+        now = 0
+        matcher.checkForProgress("Starting Application", first)
+        now = 1000
+        // With shared timing, this would restart the first container's clock too.
+        matcher.checkForProgress("Starting Application", second)
+        now = 2000
+        List<ActionProgress> firstProgress = matcher.checkForProgress("Started Application", first)
+        now = 5000
+        List<ActionProgress> secondProgress = matcher.checkForProgress("Started Application", second)
+
+        then: "2000ms for the first and 4000ms for the second, each from its own start"
+        firstProgress.size() == 1
+        firstProgress[0].rate == 1.0f
+        secondProgress.size() == 1
+        secondProgress[0].rate == 2.0f
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.optum.admiral.event
+
+import spock.lang.Specification
+
+import java.util.function.Consumer
+
+class SimpleAdmiralEventPublisherSpec extends Specification {
+    List<Integer> delivered = Collections.synchronizedList([])
+    List<Thread> deliveredOn = Collections.synchronizedList([])
+
+    Consumer<AdmiralEventListener> event(int i) {
+        return { AdmiralEventListener l ->
+            Thread.sleep(i % 100 == 0 ? 5 : 0)
+            deliveredOn.add(Thread.currentThread())
+            delivered.add(i)
+        } as Consumer<AdmiralEventListener>
+    }
+
+    def "Asynchronous events arrive in order off the publishing thread and flush waits for them" () {
+        given:
+        def publisher = new SimpleAdmiralEventPublisher()
+        publisher.setAsynchronous(true)
+        publisher.setAdmiralEventListener(Mock(AdmiralEventListener))
+        int total = AsyncEventQueue.CAPACITY * 2
+
+        when:
+        (1..total).each { publisher.publish(event(it)) }
+        publisher.flush()
+
+        then:
+        delivered == (1..total).toList()
+        !deliveredOn.contains(Thread.currentThread())
+    }
+
+    def "Removing a listener still delivers what was queued for it" () {
+        given:
+        def publisher = new SimpleAdmiralEventPublisher()
+        publisher.setAsynchronous(true)
+        def listener = Mock(AdmiralEventListener)
+        publisher.setAdmiralEventListener(listener)
+
+        when:
+        (1..500).each { publisher.publish(event(it)) }
+        publisher.removeAdmiralEventListener(listener)
+
+        then:
+        delivered == (1..500).toList()
+    }
+
+    def "Synchronous by default" () {
+        given:
+        def publisher = new SimpleAdmiralEventPublisher()
+        publisher.setAdmiralEventListener(Mock(AdmiralEventListener))
+
+        when:
+        publisher.publish(event(1))
+
+        then:
+        delivered == [1]
+        deliveredOn == [Thread.currentThread()]
+    }
+}
@@ -0,0 +1,72 @@
+package com.optum.admiral.io
+
+import spock.lang.Specification
+
+import java.util.concurrent.ScheduledExecutorService
+
+class AdmiralProgressHandlerSpec extends Specification {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+    PrintStream ps = new PrintStream(bytes, true)
+    ScheduledExecutorService painter = Mock()
+    List<Runnable> paints = []
+
+    def setup() {
+        // Paints only happen when the spec runs them.
+        painter.schedule(_ as Runnable, _, _) >> { Runnable paint, long delay, unit -> paints.add(paint); null }
+    }
+
+    def "Updates to lines already on screen are coalesced into one paint" () {
+        given:
+        def handler = new AdmiralProgressHandler(ps, 1, painter)
+        handler.output("a", "a: start")
+        handler.output("b", "b: start")
+
+        when:
+        (1..100).each {
+            handler.output("a", "a: " + it)
+            handler.output("b", "b: " + it)
+        }
+
+        then:
+        bytes.toString() == "a: start\nb: start\n"
+        paints.size() == 1
+
+        when:
+        paints[0].run()
+        handler.close()
+
+        then:
+        bytes.toString() == "a: start\nb: start\n\u001B[2A\u001B[2K\ra: 100\n\u001B[2K\rb: 100\n"
+    }
+
+    def "Updates still pending are painted on close" () {
+        given:
+        def handler = new AdmiralProgressHandler(ps, 1, painter)
+        handler.output("a", "a: start")
+        handler.output("b", "b: start")
+
+        when:
+        (1..100).each {
+            handler.output("a", "a: " + it)
+        }
+        handler.close()
+
+        then:
+        bytes.toString() == "a: start\nb: start\n\u001B[2A\u001B[2K\ra: 100\n\u001B[1B"
+    }
+
+    def "A change after close is printed right away" () {
+        given:
+        def handler = new AdmiralProgressHandler(ps, 1, painter)
+        handler.output("a", "a: start")
+        handler.output("b", "b: start")
+        handler.close()
+
+        when:
+        handler.output("a", "a: done")
+
+        then:
+        bytes.toString() == "a: start\nb: start\n\u001B[2A\u001B[2K\ra: done\n\u001B[1B"
+        paints.isEmpty()
+    }
+}
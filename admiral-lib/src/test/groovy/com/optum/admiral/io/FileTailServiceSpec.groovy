@@ -0,0 +1,196 @@
+package com.optum.admiral.io
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.BasicFileAttributes
+import java.nio.file.attribute.FileTime
+
+class FileTailServiceSpec extends Specification {
+    Path directory
+    File logFile
+    List<String> lines = Collections.synchronizedList([])
+    PollingConditions conditions = new PollingConditions(timeout: 5)
+    ThreadGroup threadGroup = new ThreadGroup("FileTailServiceSpec")
+    FileTailService fileTailService = new FileTailService(threadGroup)
+
+    def setup() {
+        directory = Files.createTempDirectory("file-tail-spec")
+        logFile = directory.resolve("app.log").toFile()
+    }
+
+    def cleanup() {
+        directory.toFile().deleteDir()
+    }
+
+    def "Starts at the end of an existing file and delivers only whole lines" () {
+        given:
+        logFile.text = "old line\n"
+        def tail = fileTailService.tail(logFile, { lines.add(it) })
+
+        when:
+        logFile.append("new line\nhalf")
+
+        then:
+        conditions.eventually { assert lines == ["new line"] }
+
+        when:
+        logFile.append(" a line\n")
+
+        then:
+        conditions.eventually { assert lines == ["new line", "half a line"] }
+
+        cleanup:
+        tail.close()
+    }
+
+    def "Reads a file that appears later from its beginning" () {
+        given:
+        def tail = fileTailService.tail(logFile, { lines.add(it) })
+
+        when:
+        logFile.text = "first\nsecond\n"
+
+        then:
+        conditions.eventually { assert lines == ["first", "second"] }
+
+        cleanup:
+        tail.close()
+    }
+
+    def "Follows a rotated file and starts over after truncation" () {
+        given:
+        logFile.text = ""
+        def tail = fileTailService.tail(logFile, { lines.add(it) })
+
+        when:
+        logFile.append("before rotation\n")
+        conditions.eventually { assert lines == ["before rotation"] }
+        Files.move(logFile.toPath(), directory.resolve("app.log.1"))
+        logFile.text = "after rotation\n"
+
+        then:
+        conditions.eventually { assert lines == ["before rotation", "after rotation"] }
+
+        when:
+        new FileOutputStream(logFile).close()
+        // Truncation is seen by the size going down, so let a check see it before the file grows past where it was.
+        Thread.sleep(FileTailService.FALLBACK_POLL_MILLIS * 2)
+        logFile.append("after truncation\n")
+
+        then:
+        conditions.eventually { assert lines == ["before rotation", "after rotation", "after truncation"] }
+
+        cleanup:
+        tail.close()
+    }
+
+    BasicFileAttributes attributes(Object fileKey, long created, long size) {
+        [fileKey: { fileKey }, creationTime: { FileTime.fromMillis(created) }, size: { size }] as BasicFileAttributes
+    }
+
+    def "Without file keys, a replaced file is told by its creation time or a smaller size" () {
+        expect:
+        FileTailService.isSameFile(null, FileTime.fromMillis(1000), 10, attributes(null, created, size)) == same
+
+        where:
+        created | size || same
+        1000    | 10   || true
+        1000    | 20   || true
+        2000    | 10   || false
+        2000    | 20   || false
+        1000    | 5    || false
+    }
+
+    def "With file keys, only the key says whether the file was replaced" () {
+        expect:
+        FileTailService.isSameFile("inode-1", FileTime.fromMillis(1000), 10, attributes("inode-1", 2000, 5))
+        !FileTailService.isSameFile("inode-1", FileTime.fromMillis(1000), 10, attributes("inode-2", 1000, 10))
+    }
+
+    def "Stops delivering once closed" () {
+        given:
+        logFile.text = ""
+        def tail = fileTailService.tail(logFile, { lines.add(it) })
+
+        when:
+        tail.close()
+        logFile.append("ignored\n")
+        Thread.sleep(FileTailService.FALLBACK_POLL_MILLIS * 3)
+
+        then:
+        lines.isEmpty()
+    }
+
+    def "One consumer that throws doesn't stop the others" () {
+        given:
+        File otherFile = directory.resolve("other.log").toFile()
+        logFile.text = ""
+        otherFile.text = ""
+        def failing = fileTailService.tail(logFile, { throw new IllegalStateException("consumer failed") })
+        def other = fileTailService.tail(otherFile, { lines.add(it) })
+
+        when:
+        logFile.append("boom\n")
+        otherFile.append("first\n")
+
+        then:
+        conditions.eventually { assert lines == ["first"] }
+
+        when:
+        logFile.append("boom again\n")
+        otherFile.append("second\n")
+
+        then:
+        conditions.eventually { assert lines == ["first", "second"] }
+
+        cleanup:
+        failing.close()
+        other.close()
+    }
+
+    def "A busy directory doesn't hold up the fallback poll of the others" () {
+        given: "a file in a directory that doesn't exist yet, so only the fallback poll can find it"
+        File lateFile = directory.resolve("late").resolve("late.log").toFile()
+        File busyFile = directory.resolve("busy.log").toFile()
+        busyFile.text = ""
+        def busy = fileTailService.tail(busyFile, { })
+        def late = fileTailService.tail(lateFile, { lines.add(it) })
+        boolean writing = true
+        Thread writer = Thread.start {
+            while (writing) {
+                busyFile.append("busy\n")
+                Thread.sleep(10)
+            }
+        }
+
+        when:
+        lateFile.parentFile.mkdirs()
+        lateFile.text = "found\n"
+
+        then:
+        conditions.eventually { assert lines == ["found"] }
+
+        cleanup:
+        writing = false
+        writer.join()
+        busy.close()
+        late.close()
+    }
+
+    def "Closing the service stops its thread" () {
+        given:
+        fileTailService.tail(logFile, { lines.add(it) })
+
+        expect:
+        threadGroup.activeCount() == 1
+
+        when:
+        fileTailService.close()
+
+        then:
+        conditions.eventually { assert threadGroup.activeCount() == 0 }
+    }
+}
@@ -0,0 +1,89 @@
+package com.optum.admiral.io
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.function.Consumer
+
+class LineAssemblerSpec extends Specification {
+
+    List<String> lines = []
+    Consumer<String> collect = { String line -> lines.add(line) } as Consumer<String>
+
+    static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8)
+    }
+
+    def "Several lines in one frame arrive separately" () {
+        when:
+        new LineAssembler().accept(utf8("one\ntwo\r\n\nthree\n"), collect)
+
+        then:
+        lines == ["one", "two", "", "three"]
+    }
+
+    def "A line split across frames arrives whole" () {
+        when:
+        LineAssembler lineAssembler = new LineAssembler()
+        lineAssembler.accept(utf8("Started Appl"), collect)
+        List<String> afterFirst = new ArrayList<>(lines)
+        lineAssembler.accept(utf8("ication in 3.2s\n\tat next"), collect)
+
+        then:
+        afterFirst == []
+        lines == ["Started Application in 3.2s"]
+    }
+
+    def "A multi-byte character split across frames is decoded" () {
+        when:
+        byte[] bytes = utf8("café ✓\n")
+        LineAssembler lineAssembler = new LineAssembler()
+        lineAssembler.accept(Arrays.copyOfRange(bytes, 0, 4), collect)
+        lineAssembler.accept(Arrays.copyOfRange(bytes, 4, 7), collect)
+        lineAssembler.accept(Arrays.copyOfRange(bytes, 7, bytes.length), collect)
+
+        then:
+        lines == ["café ✓"]
+    }
+
+    def "Flush delivers the last unterminated line" () {
+        when:
+        LineAssembler lineAssembler = new LineAssembler()
+        lineAssembler.accept(utf8("done\nlast"), collect)
+        lineAssembler.flush(collect)
+
+        then:
+        lines == ["done", "last"]
+    }
+
+    def "Frames bigger than the buffers are handled" () {
+        when:
+        String big = "x" * 20000
+        new LineAssembler().accept(utf8(big + "\n" + big + "\n"), collect)
+
+        then:
+        lines == [big, big]
+    }
+
+    def "A line that never ends is delivered in pieces of at most the maximum length" () {
+        when:
+        LineAssembler lineAssembler = new LineAssembler(10)
+        lineAssembler.accept(utf8("0123456789"), collect)
+        List<String> atMaximum = new ArrayList<>(lines)
+        lineAssembler.accept(utf8("\n" + "progress\r" * 3), collect)
+        lineAssembler.flush(collect)
+
+        then:
+        atMaximum == []
+        lines == ["0123456789", "progress\rp", "rogress\rpr", "ogress"]
+    }
+
+    def "A character outside the BMP isn't split between pieces" () {
+        when:
+        LineAssembler lineAssembler = new LineAssembler(4)
+        lineAssembler.accept(utf8("abc\uD83D\uDE00d\n"), collect)
+
+        then:
+        lines == ["abc", "\uD83D\uDE00d"]
+    }
+}
@@ -0,0 +1,131 @@
+package com.optum.admiral.io
+
+import com.optum.admiral.config.ActionProgress
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class LogStreamListenerManagerSpec extends Specification {
+    static class RecordingListener implements LogStreamerListener {
+        final OverflowPolicy overflowPolicy
+        final CountDownLatch release
+        final CountDownLatch entered = new CountDownLatch(1)
+        final CountDownLatch disconnected = new CountDownLatch(1)
+        final List<String> lines = Collections.synchronizedList([])
+        final List<ActionProgress> progress = Collections.synchronizedList([])
+
+        RecordingListener(OverflowPolicy overflowPolicy, CountDownLatch release) {
+            this.overflowPolicy = overflowPolicy
+            this.release = release
+        }
+
+        @Override
+        void addLine_OnListenerThread(String containerName, String streamName, String line) {
+            entered.countDown()
+            release.await()
+            lines.add(line)
+        }
+
+        @Override
+        void detectedProgress_OnListenerThread(String streamName, ActionProgress actionProgress) {
+            progress.add(actionProgress)
+        }
+
+        @Override
+        void disconnected_OnListenerThread() {
+            disconnected.countDown()
+        }
+
+        @Override
+        OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy
+        }
+    }
+
+    def "A stuck listener doesn't hold up the stream or the other listeners" () {
+        given:
+        def manager = new LogStreamListenerManager()
+        def stuck = new RecordingListener(OverflowPolicy.DROP_OLDEST, new CountDownLatch(1))
+        def fast = new RecordingListener(OverflowPolicy.BLOCK, new CountDownLatch(0))
+        manager.addListener(stuck)
+        manager.addListener(fast)
+        int total = LogStreamListenerManager.QUEUE_CAPACITY * 2
+
+        when:
+        (1..total).each { manager.notifyAll("c", "stdout", "line " + it) }
+        manager.progressAll("stdout", null)
+        def statistics = manager.getListenerStatistics()
+        stuck.release.countDown()
+        manager.disconnectedAll()
+
+        then:
+        stuck.disconnected.await(10, TimeUnit.SECONDS)
+        fast.disconnected.await(10, TimeUnit.SECONDS)
+        fast.lines == (1..total).collect { "line " + it }
+        fast.progress.size() == 1
+        stuck.progress.size() == 1
+        statistics[0].dropped > 0
+        statistics[0].maxDepth <= LogStreamListenerManager.QUEUE_CAPACITY + 1
+        statistics[1].dropped == 0
+        stuck.lines.last() == "line " + total
+        stuck.lines.size() + statistics[0].dropped == total
+    }
+
+    def "A full BLOCK listener holds up only the stream" () {
+        given:
+        def manager = new LogStreamListenerManager()
+        def stuck = new RecordingListener(OverflowPolicy.BLOCK, new CountDownLatch(1))
+        def other = new RecordingListener(OverflowPolicy.DROP_OLDEST, new CountDownLatch(0))
+        manager.addListener(stuck)
+        manager.addListener(other)
+        // One line waits in the listener and a queue's worth behind it, so the last one blocks.
+        int total = LogStreamListenerManager.QUEUE_CAPACITY + 2
+        def conditions = new PollingConditions(timeout: 10)
+
+        when:
+        Thread streamer = Thread.start {
+            (1..total).each { manager.notifyAll("c", "stdout", "line " + it) }
+        }
+
+        then: "the other listener has every line, and the manager still answers, while the stream is blocked"
+        conditions.eventually {
+            assert other.lines.size() == total
+            assert streamer.state == Thread.State.WAITING
+        }
+        manager.getListenerStatistics()[0].depth == LogStreamListenerManager.QUEUE_CAPACITY
+
+        when:
+        stuck.release.countDown()
+        streamer.join(10000)
+        manager.disconnectedAll()
+
+        then:
+        stuck.disconnected.await(10, TimeUnit.SECONDS)
+        stuck.lines == (1..total).collect { "line " + it }
+    }
+
+    def "Sampling keeps every tenth line once the queue is full" () {
+        given:
+        def manager = new LogStreamListenerManager()
+        def stuck = new RecordingListener(OverflowPolicy.SAMPLE, new CountDownLatch(1))
+        manager.addListener(stuck)
+        int extra = OverflowPolicy.SAMPLE_EVERY * 5
+
+        when:
+        // The first line is taken off the queue right away and waits in the listener.
+        manager.notifyAll("c", "stdout", "line 0")
+        stuck.entered.await(10, TimeUnit.SECONDS)
+        (1..LogStreamListenerManager.QUEUE_CAPACITY + extra).each { manager.notifyAll("c", "stdout", "line " + it) }
+        def statistics = manager.getListenerStatistics()
+        stuck.release.countDown()
+        manager.disconnectedAll()
+
+        then:
+        stuck.disconnected.await(10, TimeUnit.SECONDS)
+        statistics[0].dropped == extra
+        stuck.lines.size() == LogStreamListenerManager.QUEUE_CAPACITY + 1
+        stuck.lines.last() == "line " + (LogStreamListenerManager.QUEUE_CAPACITY + extra)
+    }
+}
@@ -0,0 +1,51 @@
+package com.optum.admiral.model
+
+import com.optum.admiral.exception.AdmiralDockerException
+import spock.lang.Specification
+
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+class ContainerReadsSpec extends Specification {
+    def "Reads run concurrently up to the pool size and are handed out by name" () {
+        given:
+        def pool = Executors.newFixedThreadPool(3)
+        def inFlight = new AtomicInteger()
+        def maxInFlight = new AtomicInteger()
+        def names = (1..12).collect { "c" + it }
+
+        when:
+        def reads = ContainerReads.start(pool, names, { String name ->
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), { a, b -> Math.max(a, b) } as java.util.function.IntBinaryOperator)
+            Thread.sleep(50)
+            inFlight.decrementAndGet()
+            if (name == "c7")
+                throw new AdmiralDockerException("c7 is gone")
+            return name.toUpperCase()
+        })
+        def answers = names.findAll { it != "c7" }.collect { reads.get(it) }
+        reads.get("c7")
+
+        then:
+        def e = thrown(AdmiralDockerException)
+        e.message == "c7 is gone"
+        answers == names.findAll { it != "c7" }.collect { it.toUpperCase() }
+        maxInFlight.get() == 3
+
+        cleanup:
+        pool.shutdown()
+    }
+
+    def "A failed read set reports the reason for every container" () {
+        given:
+        def reason = new AdmiralDockerException("Not connected")
+        def reads = ContainerReads.failed(["a", "b"], reason)
+
+        when:
+        reads.get("b")
+
+        then:
+        def e = thrown(AdmiralDockerException)
+        e.is(reason)
+    }
+}
@@ -0,0 +1,102 @@
+package com.optum.admiral.model
+
+import spock.lang.Specification
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class DependencySchedulerSpec extends Specification {
+
+    def "Nodes run after their prerequisites" () {
+        when:
+        DependencyScheduler ds = new DependencyScheduler("Test", 4)
+        ds.add("web", ["api"])
+        ds.add("api", ["db", "cache"])
+        ds.add("db", [])
+        ds.add("cache", [])
+        List<String> order = new CopyOnWriteArrayList<>()
+        boolean result = ds.run({ String name -> order.add(name); return true } as DependencyScheduler.Task,
+                { String name, Collection<String> waitingOn -> } as DependencyScheduler.BlockedListener)
+
+        then:
+        result
+        order.size() == 4
+        order.indexOf("api") > order.indexOf("db")
+        order.indexOf("api") > order.indexOf("cache")
+        order.indexOf("web") > order.indexOf("api")
+    }
+
+    def "Independent nodes run concurrently" () {
+        when:
+        DependencyScheduler ds = new DependencyScheduler("Test", 2)
+        ds.add("a", [])
+        ds.add("b", [])
+        CountDownLatch bothRunning = new CountDownLatch(2)
+        boolean result = ds.run({ String name ->
+                    bothRunning.countDown()
+                    return bothRunning.await(5, TimeUnit.SECONDS) } as DependencyScheduler.Task,
+                { String name, Collection<String> waitingOn -> } as DependencyScheduler.BlockedListener)
+
+        then:
+        result
+    }
+
+    def "Satisfied prerequisites are not waited on" () {
+        when:
+        DependencyScheduler ds = new DependencyScheduler("Test", 1)
+        ds.satisfied("db")
+        ds.add("api", ["db"])
+        List<String> ran = new CopyOnWriteArrayList<>()
+        boolean result = ds.run({ String name -> ran.add(name); return true } as DependencyScheduler.Task,
+                { String name, Collection<String> waitingOn -> } as DependencyScheduler.BlockedListener)
+
+        then:
+        result
+        ran == ["api"]
+    }
+
+    def "Missing, failed, and circular prerequisites block their dependents" () {
+        when:
+        DependencyScheduler ds = new DependencyScheduler("Test", 4)
+        ds.add("api", ["db"])
+        ds.add("web", ["api"])
+        ds.add("bad", [])
+        ds.add("afterbad", ["bad"])
+        ds.add("x", ["y"])
+        ds.add("y", ["x"])
+        ds.add("ok", [])
+        Map<String, Collection<String>> blocked = new ConcurrentHashMap<>()
+        List<String> ran = new CopyOnWriteArrayList<>()
+        boolean result = ds.run({ String name -> ran.add(name); return name != "bad" } as DependencyScheduler.Task,
+                { String name, Collection<String> waitingOn -> blocked.put(name, new ArrayList<>(waitingOn)) } as DependencyScheduler.BlockedListener)
+
+        then:
+        !result
+        ran.toSet() == ["bad", "ok"].toSet()
+        blocked["api"] == ["db"]
+        blocked["web"] == ["api"]
+        blocked["afterbad"] == ["bad"]
+        blocked["x"] == ["y"]
+        blocked["y"] == ["x"]
+    }
+
+    def "Stopping on failure runs nothing after the first failure, as serial creates did" () {
+        when:
+        DependencyScheduler ds = new DependencyScheduler("Test", 1)
+        ds.setStopOnFailure(true)
+        ds.add("bad", [])
+        ds.add("afterbad", ["bad"])
+        ds.add("ok", [])
+        Map<String, Collection<String>> blocked = new ConcurrentHashMap<>()
+        List<String> ran = new CopyOnWriteArrayList<>()
+        boolean result = ds.run({ String name -> ran.add(name); return name != "bad" } as DependencyScheduler.Task,
+                { String name, Collection<String> waitingOn -> blocked.put(name, new ArrayList<>(waitingOn)) } as DependencyScheduler.BlockedListener)
+
+        then:
+        !result
+        ran == ["bad"]
+        blocked.isEmpty()
+    }
+}
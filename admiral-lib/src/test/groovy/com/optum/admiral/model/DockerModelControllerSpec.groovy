@@ -0,0 +1,123 @@
+package com.optum.admiral.model
+
+import com.optum.admiral.AdmiralOptions
+import com.optum.admiral.ConfigVariableProcessor
+import com.optum.admiral.DockerComposeContainerNamingConvention
+import com.optum.admiral.config.ComposeConfig
+import com.optum.admiral.event.AdmiralEventPublisher
+import groovy.transform.CompileStatic
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+
+class DockerModelControllerSpec extends Specification {
+    File dir
+    PollingConditions conditions = new PollingConditions(timeout: 10)
+    DockerModelController dmc
+
+    def setup() {
+        dir = Files.createTempDirectory("dmc-spec").toFile()
+        // A bare Builder allows one hook at a time; these hooks need to run side by side.
+        def builder = new AdmiralOptions.Builder("da")
+        builder.maxHooksInFlight = 4
+        dmc = new DockerModelController({ event -> } as AdmiralEventPublisher,
+                new ComposeConfig("spec", "spec", "spec", new ConfigVariableProcessor(), new DockerComposeContainerNamingConvention("spec")),
+                builder.getData())
+    }
+
+    def cleanup() {
+        dmc.close()
+        dir.deleteDir()
+    }
+
+    /**
+     * A hook that starts a long sleep, records its pid in id.pid, and waits for it.
+     */
+    ExecuteHook sleeper(String id, long timeout) {
+        new File(dir, id + ".sh").text = "sleep 30 &\necho \$! > ${id}.pid\nwait\n"
+        return new ExecuteHook(id, "sh ${id}.sh", dir.path, timeout)
+    }
+
+    // Statically compiled, as Groovy 2.4 can't call the static ProcessHandle.of from here dynamically.
+    @CompileStatic
+    boolean sleeperAlive(String id) {
+        final File pidFile = new File(dir, id + ".pid")
+        if (!pidFile.isFile() || pidFile.text.trim().isEmpty())
+            return false
+
+        final Optional<ProcessHandle> processHandle = ProcessHandle.of(Long.parseLong(pidFile.text.trim()))
+        return processHandle.isPresent() && processHandle.get().isAlive()
+    }
+
+    def "The first hook to fail cancels the rest" () {
+        given:
+        def hooks = [sleeper("fails", 300), sleeper("slow", 0)]
+
+        when:
+        long start = System.nanoTime()
+        boolean success = dmc.runHooksInParallel("app", hooks)
+
+        then:
+        !success
+        System.nanoTime() - start < 20_000_000_000L
+        conditions.eventually {
+            assert new File(dir, "slow.pid").isFile()
+            assert !sleeperAlive("slow")
+            assert !sleeperAlive("fails")
+        }
+    }
+
+    def "Interrupting the caller cancels every hook" () {
+        given:
+        def hooks = [sleeper("one", 0), sleeper("two", 0)]
+        Boolean success = null
+        boolean interruptedAfter = false
+        Thread caller = Thread.start {
+            success = dmc.runHooksInParallel("app", hooks)
+            interruptedAfter = Thread.currentThread().isInterrupted()
+        }
+
+        when:
+        conditions.eventually { assert sleeperAlive("one") && sleeperAlive("two") }
+        caller.interrupt()
+        caller.join(20000)
+
+        then:
+        !caller.isAlive()
+        success == false
+        interruptedAfter
+        conditions.eventually { assert !sleeperAlive("one") && !sleeperAlive("two") }
+    }
+
+    def "An image is looked for under the tag the Docker Engine lists it by" () {
+        expect:
+        DockerModelController.localTagFor(image) == localTag
+
+        where:
+        image                                 || localTag
+        "nginx"                               || "nginx:latest"
+        "nginx:1.25"                          || "nginx:1.25"
+        "docker.io/library/nginx:1"           || "nginx:1"
+        "docker.io/bitnami/redis"             || "bitnami/redis:latest"
+        "registry.example.com:5000/team/app"  || "registry.example.com:5000/team/app:latest"
+        "registry.example.com:5000/app:2"     || "registry.example.com:5000/app:2"
+        "nginx@sha256:0123456789abcdef"       || null
+    }
+
+    def "Platforms are compared by the os and, when given, the architecture" () {
+        expect:
+        DockerModelController.samePlatform(requested, local) == same
+
+        where:
+        requested        | local         || same
+        "linux/amd64"    | "linux/amd64" || true
+        "Linux/AMD64"    | "linux/amd64" || true
+        "linux/arm64/v8" | "linux/arm64" || true
+        "linux/arm64"    | "linux/amd64" || false
+        "windows/amd64"  | "linux/amd64" || false
+        "linux"          | "linux/amd64" || true
+        "linux"          | "linux/arm64" || true
+        "windows"        | "linux/amd64" || false
+    }
+}
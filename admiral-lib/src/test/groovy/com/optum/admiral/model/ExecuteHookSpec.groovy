@@ -0,0 +1,110 @@
+package com.optum.admiral.model
+
+import com.optum.admiral.event.ExecuteHookListener
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.file.Files
+import java.util.concurrent.TimeoutException
+
+class ExecuteHookSpec extends Specification {
+    File dir
+    List<String> stdout = Collections.synchronizedList([])
+    List<String> stderr = Collections.synchronizedList([])
+    List<String> done = Collections.synchronizedList([])
+
+    ExecuteHookListener listener = [
+            startLine : { String id, String s -> },
+            stdoutLine: { String id, String s -> stdout.add(s) },
+            stderrLine: { String id, String s -> stderr.add(s) },
+            doneLine  : { String id, String s -> done.add(s) },
+    ] as ExecuteHookListener
+
+    def setup() {
+        dir = Files.createTempDirectory("execute-hook").toFile()
+    }
+
+    def cleanup() {
+        dir.deleteDir()
+    }
+
+    ExecuteHook hook(String script, long timeout, ExecuteHookListener executeHookListener = listener) {
+        new File(dir, "hook.sh").text = script
+        def executeHook = new ExecuteHook("hook", "sh hook.sh", dir.path, timeout)
+        executeHook.setExecuteHookListener(executeHookListener)
+        return executeHook
+    }
+
+    def "Both streams are passed on line by line, including a last line without a line break" () {
+        given:
+        def executeHook = hook("for i in 1 2 3; do echo out\$i; echo err\$i >&2; done\nprintf last", 0)
+
+        when:
+        def result = executeHook.call()
+
+        then:
+        result == 0
+        stdout == ["out1", "out2", "out3", "last"]
+        stderr == ["err1", "err2", "err3"]
+        done == ["last"]
+    }
+
+    def "A hook that runs too long is destroyed along with what it started" () {
+        given:
+        def executeHook = hook("sleep 30 &\necho \$!\nsleep 30\n", 500)
+
+        when:
+        executeHook.call()
+
+        then:
+        thrown(TimeoutException)
+        stdout.size() == 1
+        !ProcessHandle.of(Long.parseLong(stdout[0])).map { it.isAlive() }.orElse(false)
+    }
+
+    def "An interrupted hook is destroyed even while its output never stops" () {
+        given: "a hook that writes faster than its lines are taken, keeping only the first line"
+        String firstLine = null
+        def firstLineListener = [
+                startLine : { String id, String s -> },
+                stdoutLine: { String id, String s ->
+                    if (firstLine == null) firstLine = s
+                    // Spin rather than sleep, so only the hook itself can notice the interrupt.
+                    long until = System.nanoTime() + 20_000
+                    while (System.nanoTime() < until) { }
+                },
+                stderrLine: { String id, String s -> },
+                doneLine  : { String id, String s -> },
+        ] as ExecuteHookListener
+        def executeHook = hook("sleep 30 &\necho \$!\nyes\n", 0, firstLineListener)
+        Throwable thrown = null
+        Thread runner = Thread.start {
+            try {
+                executeHook.call()
+            } catch (Throwable t) {
+                thrown = t
+            }
+        }
+
+        when:
+        new PollingConditions(timeout: 5).eventually { assert firstLine != null }
+        runner.interrupt()
+        runner.join(10000)
+
+        then:
+        !runner.isAlive()
+        thrown instanceof InterruptedException
+        !ProcessHandle.of(Long.parseLong(firstLine)).map { it.isAlive() }.orElse(false)
+    }
+
+    def "A hook with its listener set can still be written to the boot cache" () {
+        given: "a listener that isn't Serializable, as the DockerModelController isn't"
+        def executeHook = hook("true", 0)
+
+        when:
+        new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(executeHook)
+
+        then:
+        noExceptionThrown()
+    }
+}
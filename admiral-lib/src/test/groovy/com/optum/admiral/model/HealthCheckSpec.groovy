@@ -0,0 +1,84 @@
+package com.optum.admiral.model
+
+import com.optum.admiral.event.HealthCheckListener
+import spock.lang.Specification
+
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+class HealthCheckSpec extends Specification {
+
+    static class ScriptedHealthCheck extends HealthCheck {
+        final List<Long> results
+        final List<Long> triedAt = Collections.synchronizedList(new ArrayList<Long>())
+
+        ScriptedHealthCheck(List<Long> results, int retries, long interval, long minimum_interval) {
+            super("scripted", 0, 1000, retries, interval, minimum_interval, 0, interval, false)
+            this.results = results
+        }
+
+        @Override
+        String getTest() {
+            return "scripted"
+        }
+
+        @Override
+        long execute(DockerModelController dockerModelController, String containerName, int tryCount) {
+            triedAt.add(System.nanoTime())
+            return results[tryCount - 1]
+        }
+
+        @Override
+        String getId(String containerName) {
+            return "scripted"
+        }
+    }
+
+    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2)
+    HealthCheckListener listener = [healthCheckProgress: { Object[] args -> }] as HealthCheckListener
+
+    def cleanup() {
+        scheduler.shutdownNow()
+    }
+
+    def "Succeeds on the first passing try" () {
+        when:
+        ScriptedHealthCheck healthCheck = new ScriptedHealthCheck([-1L, 0L, -1L], 5, 10, 5)
+        boolean result = healthCheck.executeHealthCheck(scheduler, null, listener, "c", false).get(5, TimeUnit.SECONDS)
+
+        then:
+        result
+        healthCheck.triedAt.size() == 2
+    }
+
+    def "Gives up after retries and on abort" () {
+        when:
+        ScriptedHealthCheck exhausted = new ScriptedHealthCheck([-1L, -1L, -1L, -1L], 4, 10, 5)
+        ScriptedHealthCheck aborted = new ScriptedHealthCheck([-2L, 0L], 4, 10, 5)
+
+        then:
+        !exhausted.executeHealthCheck(scheduler, null, listener, "c", false).get(5, TimeUnit.SECONDS)
+        exhausted.triedAt.size() == 3
+        !aborted.executeHealthCheck(scheduler, null, listener, "c", false).get(5, TimeUnit.SECONDS)
+        aborted.triedAt.size() == 1
+    }
+
+    def "Interval halves down to the minimum" () {
+        when:
+        ScriptedHealthCheck healthCheck = new ScriptedHealthCheck([-1L, -1L, -1L, -1L, 0L], 6, 200, 80)
+        healthCheck.executeHealthCheck(scheduler, null, listener, "c", false).get(5, TimeUnit.SECONDS)
+        List<Long> gaps = (1..<healthCheck.triedAt.size()).collect { i ->
+            TimeUnit.NANOSECONDS.toMillis(healthCheck.triedAt[i] - healthCheck.triedAt[i - 1]) }
+
+        then:
+        gaps.size() == 4
+        gaps[0] >= 200
+        gaps[1] >= 100
+        gaps[2] >= 80
+        gaps[3] >= 80
+        // Without halving the gaps would add up to 4 x 200 = 800.
+        gaps.sum() < 700
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.optum.admiral.model
+
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.Flow
+
+class SearchingBodySubscriberSpec extends Specification {
+
+    static class Feed implements Flow.Subscription {
+        final SearchingBodySubscriber subscriber
+        final List<String> chunks
+        int next = 0
+        boolean cancelled = false
+
+        Feed(SearchingBodySubscriber subscriber, List<String> chunks) {
+            this.subscriber = subscriber
+            this.chunks = chunks
+        }
+
+        @Override
+        void request(long n) {
+            if (cancelled)
+                return
+            if (next < chunks.size()) {
+                String chunk = chunks[next++]
+                subscriber.onNext([ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8))])
+            } else {
+                subscriber.onComplete()
+            }
+        }
+
+        @Override
+        void cancel() {
+            cancelled = true
+        }
+    }
+
+    Feed run(String search, List<String> chunks) {
+        SearchingBodySubscriber subscriber = new SearchingBodySubscriber(search)
+        Feed feed = new Feed(subscriber, chunks)
+        subscriber.onSubscribe(feed)
+        return feed
+    }
+
+    def "Finds the search split across chunks and lines, and stops reading" () {
+        when:
+        Feed feed = run("status: UP", ["<html>stat", "us:", "\r\n UP</html>", "never read"])
+
+        then:
+        feed.subscriber.getBody().toCompletableFuture().get()
+        feed.cancelled
+        feed.next == 3
+    }
+
+    def "Partial matches that fall apart are handled" () {
+        expect:
+        run("aab", ["aaab"]).subscriber.getBody().toCompletableFuture().get()
+        run("abab", ["abaabab"]).subscriber.getBody().toCompletableFuture().get()
+        !run("abab", ["abaab", "a"]).subscriber.getBody().toCompletableFuture().get()
+    }
+
+    def "Missing search reads to the end" () {
+        when:
+        Feed feed = run("READY", ["not ", "yet"])
+
+        then:
+        !feed.subscriber.getBody().toCompletableFuture().get()
+        !feed.cancelled
+    }
+
+}
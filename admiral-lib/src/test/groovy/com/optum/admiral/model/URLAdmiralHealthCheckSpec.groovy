@@ -0,0 +1,54 @@
+package com.optum.admiral.model
+
+import com.optum.admiral.AdmiralOptions
+import com.optum.admiral.ConfigVariableProcessor
+import com.optum.admiral.DockerComposeContainerNamingConvention
+import com.optum.admiral.config.ComposeConfig
+import com.optum.admiral.event.AdmiralEventPublisher
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class URLAdmiralHealthCheckSpec extends Specification {
+    HttpServer server
+    String base
+    DockerModelController dmc
+
+    def setup() {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0)
+        server.createContext("/moved", { HttpExchange exchange ->
+            exchange.responseHeaders.add("Location", "/status")
+            exchange.sendResponseHeaders(302, -1)
+            exchange.close()
+        })
+        server.createContext("/status", { HttpExchange exchange ->
+            final byte[] body = "status: starting".getBytes(StandardCharsets.UTF_8)
+            exchange.sendResponseHeaders(200, body.length)
+            exchange.responseBody.write(body)
+            exchange.close()
+        })
+        server.start()
+        base = "http://127.0.0.1:" + server.address.port
+        dmc = new DockerModelController({ event -> } as AdmiralEventPublisher,
+                new ComposeConfig("spec", "spec", "spec", new ConfigVariableProcessor(), new DockerComposeContainerNamingConvention("spec")),
+                new AdmiralOptions.Builder("da").getData())
+    }
+
+    def cleanup() {
+        dmc.close()
+        server.stop(0)
+    }
+
+    long check(String path, String search, boolean successWhenRedirected) {
+        new URLAdmiralHealthCheck("url", base + path, search, successWhenRedirected, 0, 5000, 3, 10, 10, 0, 10, false).execute(dmc, "app", 1)
+    }
+
+    def "A redirect to the same scheme is followed before anything else" () {
+        expect: "the page it leads to is searched, even when a redirect alone would pass"
+        check("/moved", "ready", true) == -1
+        check("/moved", "starting", true) == 0
+        check("/moved", "starting", false) == 0
+    }
+}
@@ -0,0 +1,55 @@
+package com.optum.admiral.util
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class EnvFileCacheSpec extends Specification {
+    File envFile
+
+    def setup() {
+        envFile = Files.createTempFile("env-file-cache", ".env").toFile()
+    }
+
+    def cleanup() {
+        envFile.delete()
+    }
+
+    def "Parses once until the file changes" () {
+        given:
+        envFile.text = "# comment\nNAME = one\n\nCOLOR=red=ish\n"
+
+        when:
+        def first = EnvFileCache.read(envFile)
+        def second = EnvFileCache.read(new File(envFile.parentFile, "./" + envFile.name))
+
+        then:
+        first == [NAME: "one", COLOR: "red=ish"]
+        second.is(first)
+
+        when:
+        envFile.text = "NAME=two\n"
+        envFile.setLastModified(envFile.lastModified() + 2000)
+        def third = EnvFileCache.read(envFile)
+
+        then:
+        third == [NAME: "two"]
+    }
+
+    def "A bad line is reported every time" () {
+        given:
+        envFile.text = "NOT A VARIABLE\n"
+
+        when:
+        EnvFileCache.read(envFile)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        when:
+        EnvFileCache.read(envFile)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
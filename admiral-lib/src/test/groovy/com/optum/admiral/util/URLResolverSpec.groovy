@@ -0,0 +1,117 @@
+package com.optum.admiral.util
+
+import com.sun.net.httpserver.HttpServer
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.util.concurrent.atomic.AtomicInteger
+
+class URLResolverSpec extends Specification {
+    HttpServer server
+    File cacheDirectory
+    AtomicInteger fullResponses = new AtomicInteger()
+    AtomicInteger notModifiedResponses = new AtomicInteger()
+    String content = "A=1\n"
+
+    def setup() {
+        cacheDirectory = Files.createTempDirectory("url-resolver").toFile()
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0)
+        server.createContext("/", { exchange ->
+            def etag = '"' + content.hashCode() + '"'
+            if (exchange.requestHeaders.getFirst("If-None-Match") == etag) {
+                notModifiedResponses.incrementAndGet()
+                exchange.sendResponseHeaders(304, -1)
+            } else if (exchange.requestURI.path == "/missing") {
+                exchange.sendResponseHeaders(404, -1)
+            } else {
+                fullResponses.incrementAndGet()
+                def bytes = content.bytes
+                exchange.responseHeaders.add("ETag", etag)
+                exchange.sendResponseHeaders(200, bytes.length)
+                exchange.responseBody.write(bytes)
+            }
+            exchange.close()
+        })
+        server.start()
+    }
+
+    def cleanup() {
+        server.stop(0)
+        cacheDirectory.deleteDir()
+    }
+
+    URL url(String path) {
+        return new URL("http://127.0.0.1:" + server.address.port + path)
+    }
+
+    def "A URL named many times is fetched once per boot" () {
+        given:
+        def resolver = new URLResolver(cacheDirectory)
+
+        when:
+        resolver.prefetch([url("/a"), url("/b"), url("/a")])
+        def a = resolver.openStream(url("/a")).text
+        def again = resolver.openStream(url("/a")).text
+        def b = resolver.openStream(url("/b")).text
+
+        then:
+        a == "A=1\n"
+        again == a
+        b == a
+        fullResponses.get() == 2
+
+        cleanup:
+        resolver.close()
+    }
+
+    def "The next boot revalidates, and picks up a change" () {
+        given:
+        new URLResolver(cacheDirectory).openStream(url("/a")).text
+
+        when:
+        def unchanged = new URLResolver(cacheDirectory).openStream(url("/a")).text
+
+        then:
+        unchanged == "A=1\n"
+        fullResponses.get() == 1
+        notModifiedResponses.get() == 1
+
+        when:
+        content = "A=2\n"
+        def changed = new URLResolver(cacheDirectory).openStream(url("/a")).text
+
+        then:
+        changed == "A=2\n"
+        fullResponses.get() == 2
+    }
+
+    def "An unreachable server falls back to the cached copy" () {
+        given:
+        def u = url("/a")
+        new URLResolver(cacheDirectory).openStream(u).text
+        server.stop(0)
+        def resolver = new URLResolver(cacheDirectory)
+
+        when:
+        def offline = resolver.openStream(u).text
+
+        then:
+        offline == "A=1\n"
+        resolver.staleURLs == [u.toString()]
+
+        when:
+        new URLResolver(null).openStream(u)
+
+        then:
+        thrown(IOException)
+    }
+
+    def "A client error is not hidden by the cache" () {
+        when:
+        new URLResolver(cacheDirectory).openStream(url("/missing"))
+
+        then:
+        def e = thrown(IOException)
+        e.message.contains("404")
+    }
+}
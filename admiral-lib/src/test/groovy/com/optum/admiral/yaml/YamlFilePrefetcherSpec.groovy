@@ -0,0 +1,74 @@
+package com.optum.admiral.yaml
+
+import com.optum.admiral.yaml.exception.AdmiralConfigurationException
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class YamlFilePrefetcherSpec extends Specification {
+    File dir
+
+    def setup() {
+        dir = Files.createTempDirectory("yaml-prefetcher").toFile()
+    }
+
+    def cleanup() {
+        dir.deleteDir()
+    }
+
+    def "Prefetched files are parsed once and handed back in any order" () {
+        given:
+        def files = (1..6).collect { i ->
+            def f = new File(dir, "f" + i + ".yml")
+            f.text = "n" + i
+            f
+        }
+        def parsed = Collections.synchronizedList([])
+        def prefetcher = new YamlFilePrefetcher<String>({ File f ->
+            parsed.add(f.name)
+            return f.text.toUpperCase()
+        })
+
+        when:
+        prefetcher.prefetch(files)
+        def answers = files.reverse().collect { prefetcher.get(it) }
+
+        then:
+        answers == ["N6", "N5", "N4", "N3", "N2", "N1"]
+        parsed.sort() == files.collect { it.name }.sort()
+
+        cleanup:
+        prefetcher.close()
+    }
+
+    def "A parse failure is thrown by get, and a missing file is parsed on demand" () {
+        given:
+        def good = new File(dir, "good.yml")
+        good.text = "good"
+        def bad = new File(dir, "bad.yml")
+        bad.text = "bad"
+        def missing = new File(dir, "missing.yml")
+        def prefetcher = new YamlFilePrefetcher<String>({ File f ->
+            if (f.name != "good.yml")
+                throw new AdmiralConfigurationException(f.name, "cannot parse")
+            return f.text
+        })
+        prefetcher.prefetch([good, bad, missing])
+
+        when:
+        prefetcher.get(bad)
+
+        then:
+        thrown(AdmiralConfigurationException)
+
+        when:
+        prefetcher.get(missing)
+
+        then:
+        thrown(AdmiralConfigurationException)
+        prefetcher.get(good) == "good"
+
+        cleanup:
+        prefetcher.close()
+    }
+}
@@ -154,7 +154,7 @@ public class AdmiralMonGUI implements AdmiralEventListener, WindowListener {
             if (guiPreferences.logBackgroundColor<=0xffffff) {
                 background = new Color(guiPreferences.logBackgroundColor);
             }
-            globalView_OnGUI = new JGlobalView(font, foreground, background);
+            globalView_OnGUI = new JGlobalView(font, foreground, background, guiPreferences.logScrollbackLines, guiPreferences.logRefreshMillis);
             frame_OnGUI.getContentPane().add(globalView_OnGUI);
             frame_OnGUI.setVisible(true);
         }
@@ -518,6 +518,16 @@ public class AdmiralMonGUI implements AdmiralEventListener, WindowListener {
         // Ignore event
     }
 
+    @Override
+    public void dockerEngineContainerEvent(String containerName, String action) {
+        // Ignore event
+    }
+
+    @Override
+    public void dockerEngineNetworkEvent(String networkFullName, String action) {
+        // Ignore event
+    }
+
     @Override
     public void serviceCreated(String serviceName) {
         // Ignore event
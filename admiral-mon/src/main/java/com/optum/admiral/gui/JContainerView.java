@@ -18,13 +18,13 @@ public class JContainerView extends JTabbedPane  {
         this.setTabPlacement(JTabbedPane.LEFT);
     }
 
-    public void createTabForStream_OnGUI(TabKey tabKey, LogStreamer logStreamer, Font font, Color foreground, Color background) {
+    public void createTabForStream_OnGUI(TabKey tabKey, LogStreamer logStreamer, Font font, Color foreground, Color background, int scrollbackLines) {
         StreamViewHandle streamViewHandle = trackedContainers.get(tabKey);
         if (streamViewHandle !=null) {
             // Already have one.  Relink.  This happens if you stop/start a container.
             trackedContainers.remove(tabKey);
         }
-        streamViewHandle = new StreamViewHandle(font, foreground, background);
+        streamViewHandle = new StreamViewHandle(font, foreground, background, scrollbackLines);
         trackedContainers.put(tabKey, streamViewHandle);
         logStreamer.addListener(new JLogStreamerListener(streamViewHandle));
         // Isn't it lovely how tabs can't be inserted, only added?  To order them, delete them all and add them back.
@@ -34,4 +34,10 @@ public class JContainerView extends JTabbedPane  {
         }
     }
 
+    public void drainPendingLines_OnGUI() {
+        for(StreamViewHandle streamViewHandle : trackedContainers.values()) {
+            streamViewHandle.drainPendingLines_OnGUI();
+        }
+    }
+
 }
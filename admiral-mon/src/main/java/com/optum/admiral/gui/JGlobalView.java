@@ -12,13 +12,25 @@ public class JGlobalView extends JTabbedPane {
     private final Font font;
     private final Color foreground;
     private final Color background;
+    private final int scrollbackLines;
     private final Map<TabKey, JContainerView> followingContainers = new TreeMap<>();
 
-    JGlobalView(Font font, Color foreground, Color background) {
+    JGlobalView(Font font, Color foreground, Color background, int scrollbackLines, int refreshMillis) {
         this.font = font;
         this.foreground = foreground;
         this.background = background;
+        this.scrollbackLines = scrollbackLines;
         this.setTabPlacement(JTabbedPane.TOP);
+        // One frame timer for every stream, so the UI thread sees one batch per stream per frame, not one event per line.
+        final Timer frameTimer = new Timer(Math.max(1, refreshMillis), e -> drainPendingLines_OnGUI());
+        frameTimer.setCoalesce(true);
+        frameTimer.start();
+    }
+
+    private void drainPendingLines_OnGUI() {
+        for(JContainerView jContainerView : followingContainers.values()) {
+            jContainerView.drainPendingLines_OnGUI();
+        }
     }
 
     public void createTabForContainerStream_OnGUI(LogStreamer logStreamer) {
@@ -35,7 +47,7 @@ public class JGlobalView extends JTabbedPane {
                 add(entry.getKey().tabName, entry.getValue());
             }
         }
-        jContainerView.createTabForStream_OnGUI(tabKey, logStreamer, font, foreground, background);
+        jContainerView.createTabForStream_OnGUI(tabKey, logStreamer, font, foreground, background, scrollbackLines);
     }
 
     private TabKey getTabKeyForContainerName(String containerName) {
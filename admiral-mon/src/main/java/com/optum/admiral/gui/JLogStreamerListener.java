@@ -2,46 +2,46 @@ package com.optum.admiral.gui;
 
 import com.optum.admiral.config.ActionProgress;
 import com.optum.admiral.io.LogStreamerListener;
-
-import javax.swing.*;
+import com.optum.admiral.io.OverflowPolicy;
 
 /**
  * UI Thread Dispatching class.  Thread-safe.
  *
- * This class pumps addLine invocations from the LogStreamer thread onto the UI thread.
+ * This class hands lines from its LogStreamListenerManager drainer thread to a StreamViewHandle, which batches them
+ * onto the UI thread.
  */
 public class JLogStreamerListener implements LogStreamerListener {
-    private StreamViewHandle streamViewHandle;
+    private volatile StreamViewHandle streamViewHandle;
 
     public JLogStreamerListener(StreamViewHandle streamViewHandle) {
         this.streamViewHandle = streamViewHandle;
     }
 
     /**
-     * Accepts a line on the LogStream thread and dispatches it to the UI thread.
+     * Accepts a line on this listener's drainer thread and queues it for the UI thread.
      */
     @Override
-    public void addLine_OnLogStreamerThread(String containerName, String streamName, String line) {
-        SwingUtilities.invokeLater(new Runnable() {
-            @Override
-            public void run() {
-                doAddLine_OnGUI(line);
-            }
-        });
-    }
-
-    private synchronized void doAddLine_OnGUI(String line) {
-        if (streamViewHandle!=null) {
-            streamViewHandle.addLine_OnGUI(line);
+    public void addLine_OnListenerThread(String containerName, String streamName, String line) {
+        final StreamViewHandle handle = streamViewHandle;
+        if (handle!=null) {
+            handle.addLine(line);
         }
     }
 
     @Override
-    public void detectedProgress_OnLogStreamerThread(String streamName, ActionProgress actionProgress) {
+    public void detectedProgress_OnListenerThread(String streamName, ActionProgress actionProgress) {
     }
 
     @Override
-    public synchronized void disconnected_OnLogStreamerThread() {
+    public void disconnected_OnListenerThread() {
         streamViewHandle=null;
     }
+
+    /**
+     * Adding a line only queues it, so this never really overflows; if it somehow did, old lines are the ones to lose.
+     */
+    @Override
+    public OverflowPolicy getOverflowPolicy() {
+        return OverflowPolicy.DROP_OLDEST;
+    }
 }
@@ -0,0 +1,39 @@
+package com.optum.admiral.gui;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.PlainDocument;
+
+/**
+ * UI Thread-only Class
+ *
+ * A log document that keeps only its last maxLines lines.  Appending past that drops the oldest lines, like a ring
+ * buffer, so a stream that runs for days costs no more memory (or layout) than one that has just filled up.
+ */
+class ScrollbackDocument extends PlainDocument {
+    private static final long serialVersionUID = 1L;
+
+    private final int maxLines;
+
+    ScrollbackDocument(int maxLines) {
+        this.maxLines = Math.max(1, maxLines);
+    }
+
+    /**
+     * Appends whole lines (each ending in \n) and then drops whatever no longer fits.
+     */
+    void appendLines_OnGUI(String lines) {
+        try {
+            insertString(getLength(), lines, null);
+            // The last element is the empty line after the final \n.
+            final Element root = getDefaultRootElement();
+            final int excess = root.getElementCount() - 1 - maxLines;
+            if (excess > 0) {
+                remove(0, root.getElement(excess - 1).getEndOffset());
+            }
+        } catch (BadLocationException e) {
+            // Can't happen: everything is at offsets read from the document itself.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -6,12 +6,26 @@ import javax.swing.text.Keymap;
 import java.awt.*;
 import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Lines can be added from any thread.  They wait in a lock-free queue until the next frame, when
+ * drainPendingLines_OnGUI moves them all into the document at once.
+ */
 public class StreamViewHandle {
     final JTextArea logText;
     final JScrollPane scrollPane;
-    public StreamViewHandle(Font font, Color foreground, Color background) {
-        logText = new JTextArea();
+    private final ScrollbackDocument document;
+    private final int scrollbackLines;
+    private final Queue<String> pendingLines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingLineCount = new AtomicInteger();
+
+    public StreamViewHandle(Font font, Color foreground, Color background, int scrollbackLines) {
+        this.scrollbackLines = Math.max(1, scrollbackLines);
+        document = new ScrollbackDocument(this.scrollbackLines);
+        logText = new JTextArea(document);
         if (font!=null)
             logText.setFont(font);
         if (foreground!=null) {
@@ -37,11 +51,40 @@ public class StreamViewHandle {
         return scrollPane;
     }
 
-    public void addLine_OnGUI(String line) {
+    /**
+     * Any thread.  If the GUI has fallen more than a scrollback behind, the oldest waiting lines are dropped: they
+     * would only have been scrolled out of the document anyway.
+     */
+    public void addLine(String line) {
+        pendingLines.offer(line);
+        if (pendingLineCount.incrementAndGet() > scrollbackLines) {
+            if (pendingLines.poll() != null) {
+                pendingLineCount.decrementAndGet();
+            }
+        }
+    }
+
+    public void drainPendingLines_OnGUI() {
+        // Gather
+        final StringBuilder sb = new StringBuilder();
+        String line;
+        while ((line = pendingLines.poll()) != null) {
+            pendingLineCount.decrementAndGet();
+            sb.append(line);
+            if (!line.endsWith("\n")) {
+                sb.append('\n');
+            }
+        }
+
+        // Guard
+        if (sb.length() == 0)
+            return;
+
+        // Go
         boolean someoneIsDraggingTheScrollbar = scrollPane.getVerticalScrollBar().getValueIsAdjusting();
-        logText.append(line);
+        document.appendLines_OnGUI(sb.toString());
         if (!someoneIsDraggingTheScrollbar) {
-            logText.setCaretPosition(logText.getDocument().getLength());
+            logText.setCaretPosition(document.getLength());
         }
     }
 }
@@ -8,8 +8,6 @@ import com.optum.admiral.io.OutputStyler;
 import com.optum.admiral.preferences.OutputPreferences;
 import com.optum.admiral.preferences.PreferenceYaml;
 import com.optum.admiral.preferences.PreferenceYamlLoader;
-import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.constructor.Constructor;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -112,7 +110,7 @@ public class AdmiralMonPreferences {
         )));
 
         public Loader(AdmiralEventPublisher admiralEventPublisher) {
-            super(new Constructor(Yaml.class, new LoaderOptions()), admiralEventPublisher);
+            super(Yaml.class, admiralEventPublisher);
         }
 
         @Override
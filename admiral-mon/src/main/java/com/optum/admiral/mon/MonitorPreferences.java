@@ -10,12 +10,16 @@ public class MonitorPreferences {
     public final int logFontSize;
     public final int logForegroundColor;
     public final int logBackgroundColor;
+    public final int logScrollbackLines;
+    public final int logRefreshMillis;
 
     private MonitorPreferences(Builder builder) {
         this.logFont = builder.logFont;
         this.logFontSize = builder.logFontSize;
         this.logForegroundColor = builder.logForegroundColor;
         this.logBackgroundColor = builder.logBackgroundColor;
+        this.logScrollbackLines = builder.logScrollbackLines;
+        this.logRefreshMillis = builder.logRefreshMillis;
     }
 
     public static class Builder extends PreferenceTracker implements OptionerSource, com.optum.admiral.cli.Builder<MonitorPreferences> {
@@ -23,6 +27,8 @@ public class MonitorPreferences {
         public int logFontSize;
         public int logForegroundColor;
         public int logBackgroundColor;
+        public int logScrollbackLines;
+        public int logRefreshMillis;
 
         @Override
         public Optioner[] getOptioners() {
@@ -40,12 +46,16 @@ public class MonitorPreferences {
         public int logFontSize = 0;
         public int logForegroundColor = 0x1000000;  // Invalid means default
         public int logBackgroundColor = 0x1000000;  // Invalid means default
+        public int logScrollbackLines = 10000;
+        public int logRefreshMillis = 50;
 
         public Builder updateBuilder(Builder builder) {
             builder.setO("logFont", null, logFont, source);
             builder.setO("logFontSize", 0, logFontSize, source);
             builder.setO("logBackgroundColor", 0x1000000, logFont, source);
             builder.setO("logForegroundColor", 0x1000000, logFont, source);
+            builder.setO("logScrollbackLines", 10000, logScrollbackLines, source);
+            builder.setO("logRefreshMillis", 50, logRefreshMillis, source);
             return builder;
         }
 
@@ -36,6 +36,9 @@ public class Console implements ProgressHandler {
     }
 
     public synchronized void outStackTrace(Throwable t) {
+        if (admiralProgressHandler!=null) {
+            admiralProgressHandler.close();
+        }
         t.printStackTrace(ps);
         ps.flush();
     }
@@ -76,6 +79,9 @@ public class Console implements ProgressHandler {
     }
 
     public synchronized void resetProgress() {
+        if (admiralProgressHandler!=null) {
+            admiralProgressHandler.close();
+        }
         this.admiralProgressHandler = null;
     }
 }